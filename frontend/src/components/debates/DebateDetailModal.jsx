@@ -10,6 +10,7 @@ import DebateVotingPanel from './DebateVotingPanel';
 function DebateDetailModal({ isOpen, onClose, debate: initialDebate, currentUserId, onDebateUpdated }) {
   const [debate, setDebate] = useState(initialDebate);
   const [arguments_, setArguments] = useState([]);
+  const [viewerVote, setViewerVote] = useState(undefined);
   const [isLoading, setIsLoading] = useState(true);
 
   useEffect(() => {
@@ -18,17 +19,32 @@ function DebateDetailModal({ isOpen, onClose, debate: initialDebate, currentUser
     }
   }, [isOpen, initialDebate?.id]);
 
+  // Apply live deltas instead of reloading the debate and its arguments
+  useEffect(() => {
+    if (!isOpen || !initialDebate?.id) return undefined;
+    const merge = (changes) => setDebate((current) => ({ ...current, ...changes }));
+    return debateService.subscribeToDebate(initialDebate.id, {
+      snapshot: setDebate,
+      argument: ({ argument, ...state }) => {
+        merge(state);
+        setArguments((current) =>
+          current.some((existing) => existing.id === argument.id) ? current : [...current, argument]);
+      },
+      votes: merge,
+      likes: merge,
+      status: merge,
+    });
+  }, [isOpen, initialDebate?.id]);
+
   const loadDebateData = async () => {
     try {
       setIsLoading(true);
 
-      const [debateData, argsData] = await Promise.all([
-        debateService.getDebateById(initialDebate.id),
-        debateService.getDebateArguments(initialDebate.id),
-      ]);
+      const bundle = await debateService.getDebateBundle(initialDebate.id, currentUserId);
 
-      setDebate(debateData);
-      setArguments(argsData || []);
+      setDebate(bundle.debate);
+      setArguments(bundle.arguments || []);
+      setViewerVote(bundle.viewerVote || null);
     } catch (err) {
       console.error('Error loading debate data:', err);
     } finally {
@@ -157,6 +173,7 @@ function DebateDetailModal({ isOpen, onClose, debate: initialDebate, currentUser
               <DebateVotingPanel
                 debate={debate}
                 currentUserId={currentUserId}
+                viewerVote={viewerVote}
                 onVoteSubmitted={handleVoteSubmitted}
               />
             </>
@@ -2,7 +2,7 @@ import React, { useState, useEffect } from 'react';
 import { Vote } from 'lucide-react';
 import debateService from '../../services/debateService';
 
-function DebateVotingPanel({ debate, currentUserId, onVoteSubmitted }) {
+function DebateVotingPanel({ debate, currentUserId, viewerVote, onVoteSubmitted }) {
   const [userVote, setUserVote] = useState(null);
   const [isVoting, setIsVoting] = useState(false);
   const [isLoadingVote, setIsLoadingVote] = useState(true);
@@ -18,6 +18,13 @@ function DebateVotingPanel({ debate, currentUserId, onVoteSubmitted }) {
         return;
       }
 
+      // Already loaded with the debate bundle
+      if (viewerVote !== undefined) {
+        setUserVote(viewerVote);
+        setIsLoadingVote(false);
+        return;
+      }
+
       try {
         const voteData = await debateService.getUserVote(debate.id, currentUserId);
         setUserVote(voteData?.vote || null);
@@ -32,7 +39,7 @@ function DebateVotingPanel({ debate, currentUserId, onVoteSubmitted }) {
     };
 
     loadUserVote();
-  }, [debate.id, currentUserId, debate.status]);
+  }, [debate.id, currentUserId, debate.status, viewerVote]);
 
   const handleVote = async (voteType) => {
     if (isVoting || isParticipant) return;
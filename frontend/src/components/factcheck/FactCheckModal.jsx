@@ -87,6 +87,14 @@ function FactCheckModal({ isOpen, onClose, result, postContent }) {
                 </div>
               )}
 
+              {/* Verdict reused from a near-identical earlier claim */}
+              {result.reused && (
+                <p className="text-white/50 text-xs">
+                  Reused from a previously checked claim
+                  {result.reusedSimilarity ? ` (${Math.round(result.reusedSimilarity * 100)}% similar)` : ''}
+                </p>
+              )}
+
               {/* Summary */}
               {result.summary && (
                 <div>
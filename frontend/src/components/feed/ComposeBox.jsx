@@ -172,7 +172,7 @@ function ComposeBox({ onPostCreated }) {
         setIsFactChecking(true);
         setFactCheckResult(null);
 
-        const result = await factCheckService.preview(postText);
+        const result = await factCheckService.preview(postText, currentUser.id);
         setIsFactChecking(false);
         setFactCheckResult(result);
         return; // Show preview, let user decide
@@ -202,7 +202,8 @@ function ComposeBox({ onPostCreated }) {
       setIsPosting(true);
       // Create post with fact-check data already included (and optional style)
       const hasCustomStyle = postStyle.font !== 'default' || postStyle.textColor !== 'default' || postStyle.background !== 'none' || postStyle.size !== 'default';
-      await postService.createPost(currentUser.id, postText, true, hasCustomStyle ? postStyle : null);
+      await postService.createPost(currentUser.id, postText, true, hasCustomStyle ? postStyle : null,
+        factCheckResult?.precheckToken);
       setPostText('');
       setPostStyle({ font: 'default', textColor: 'default', background: 'none', size: 'default' }); // Reset style
       setFactCheckResult(null);
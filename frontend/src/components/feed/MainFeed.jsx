@@ -28,7 +28,7 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
   const [userResults, setUserResults] = useState([]);
   const [postResults, setPostResults] = useState([]);
   const [userPage, setUserPage] = useState(0);
-  const [postPage, setPostPage] = useState(0);
+  const [postCursor, setPostCursor] = useState(null);
   const [hasMoreUsers, setHasMoreUsers] = useState(false);
   const [hasMorePosts, setHasMorePosts] = useState(false);
   
@@ -134,7 +134,7 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
     setSearchActive(true);
     setSearchLoading(true);
     setUserPage(0);
-    setPostPage(0);
+    setPostCursor(null);
 
     try {
       const searchPromises = [];
@@ -159,7 +159,6 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
           postService.searchPosts({
             query: searchQuery,
             viewerId: currentUser.id,
-            page: 0,
             size: 20
           })
         );
@@ -174,6 +173,7 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
       
       setUserResults(usersWithFollowState);
       setPostResults(postsResponse.content || []);
+      setPostCursor(postsResponse.nextCursor || null);
       setHasMoreUsers(!usersResponse.last);
       setHasMorePosts(!postsResponse.last);
     } catch (err) {
@@ -211,17 +211,16 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
   const loadMorePosts = async () => {
     if (!searchQuery.trim() || !currentUser) return;
 
-    const nextPage = postPage + 1;
     try {
       const response = await postService.searchPosts({
         query: searchQuery,
         viewerId: currentUser.id,
-        page: nextPage,
+        cursor: postCursor,
         size: 20
       });
 
       setPostResults(prev => [...prev, ...(response.content || [])]);
-      setPostPage(nextPage);
+      setPostCursor(response.nextCursor || null);
       setHasMorePosts(!response.last);
     } catch (err) {
       console.error('Load more posts error:', err);
@@ -282,7 +281,7 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
       
       let feed;
       if (activeTab === 'following') {
-        feed = await postService.getFeed(currentUser.id);
+        feed = (await postService.getFeed(currentUser.id)).content || [];
         const sortedFeed = feed.sort((a, b) => 
           new Date(b.createdAt) - new Date(a.createdAt)
         );
@@ -291,7 +290,6 @@ function MainFeed({ refreshTrigger, debateFilterRequest, onDebateUpdated }) {
         feed = await postService.searchPosts({
           authorId: currentUser.id,
           viewerId: currentUser.id,
-          page: 0,
           size: 50
         });
         feed = feed.content || [];
@@ -32,7 +32,6 @@ function UserProfile({ username }) {
 
       const userPosts = await postService.searchPosts({
         authorId: user.id,
-        page: 0,
         size: 50
       });
       setPosts(userPosts.content || []);
@@ -40,7 +39,6 @@ function UserProfile({ username }) {
       // Load replies separately if needed
       const userReplies = await postService.searchPosts({
         authorId: user.id,
-        page: 0,
         size: 50
       });
       setReplies(userReplies.content?.filter(p => p.replyToId) || []);
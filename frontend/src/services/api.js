@@ -1,7 +1,7 @@
 
 import axios from 'axios';
 
-const API_BASE_URL = 'http://localhost:8080/';
+export const API_BASE_URL = 'http://localhost:8080/';
 
 const api = axios.create({
   baseURL: API_BASE_URL,
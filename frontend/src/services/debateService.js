@@ -1,5 +1,5 @@
 
-import api from './api';
+import api, { API_BASE_URL } from './api';
 
 const debateService = {
   createChallenge: async (challengerId, defenderId, topic) => {
@@ -17,6 +17,14 @@ const debateService = {
     return response.data;
   },
 
+  // Debate, ordered arguments and the viewer's vote and like in one request
+  getDebateBundle: async (debateId, userId) => {
+    const response = await api.get(`/api/debates/${debateId}/bundle`, {
+      headers: userId ? { 'X-User-Id': userId } : {}
+    });
+    return response.data;
+  },
+
   getActiveDebates: async () => {
     const response = await api.get('/api/debates');
     return response.data;
@@ -86,6 +94,16 @@ const debateService = {
     });
     return response.data;
   },
+
+  // Live updates for one debate; handlers maps event names (snapshot,
+  // argument, votes, likes, status) to callbacks. Returns an unsubscribe function.
+  subscribeToDebate: (debateId, handlers = {}) => {
+    const source = new EventSource(`${API_BASE_URL}api/debates/${debateId}/stream`);
+    Object.entries(handlers).forEach(([name, handler]) => {
+      source.addEventListener(name, (event) => handler(JSON.parse(event.data)));
+    });
+    return () => source.close();
+  },
 };
 
 export default debateService;
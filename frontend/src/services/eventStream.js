@@ -0,0 +1,47 @@
+import { API_BASE_URL } from './api';
+
+// POST a JSON body and read the server-sent events of the response.
+// EventSource only supports GET, so the stream is parsed by hand.
+// handlers maps event names to callbacks; resolves with the final "result".
+export const postEventStream = async (path, body, handlers = {}, headers = {}) => {
+  const response = await fetch(`${API_BASE_URL}${path.replace(/^\//, '')}`, {
+    method: 'POST',
+    headers: { 'Content-Type': 'application/json', Accept: 'text/event-stream', ...headers },
+    body: JSON.stringify(body)
+  });
+  if (!response.ok || !response.body) {
+    throw new Error(`Stream request failed (${response.status})`);
+  }
+
+  const reader = response.body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+  let result = null;
+
+  const dispatch = (block) => {
+    let name = 'message';
+    const data = [];
+    block.split('\n').forEach((line) => {
+      if (line.startsWith('event:')) name = line.slice(6).trim();
+      else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+    });
+    if (data.length === 0) return;
+    const payload = JSON.parse(data.join('\n'));
+    if (name === 'result') result = payload;
+    if (name === 'error') throw new Error(payload.error || 'Stream failed');
+    if (handlers[name]) handlers[name](payload);
+  };
+
+  for (;;) {
+    const { done, value } = await reader.read();
+    if (done) break;
+    buffer += decoder.decode(value, { stream: true }).replace(/\r\n/g, '\n');
+    let boundary;
+    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+      dispatch(buffer.slice(0, boundary));
+      buffer = buffer.slice(boundary + 2);
+    }
+  }
+  if (buffer.trim()) dispatch(buffer);
+  return result;
+};
@@ -1,19 +1,51 @@
 
 import api from './api';
+import { postEventStream } from './eventStream';
+
+const JOB_POLL_INTERVAL_MS = 1000;
+const JOB_POLL_TIMEOUT_MS = 60000;
+
+// Fact-checks run as background jobs; poll until the job finishes
+const waitForJob = async (job) => {
+  const deadline = Date.now() + JOB_POLL_TIMEOUT_MS;
+  let current = job;
+  while (current.status === 'QUEUED' || current.status === 'RUNNING') {
+    if (Date.now() > deadline) {
+      throw new Error('Fact-check timed out');
+    }
+    await new Promise((resolve) => setTimeout(resolve, JOB_POLL_INTERVAL_MS));
+    const response = await api.get(`/api/fact-checks/jobs/${current.jobId}`);
+    current = response.data;
+  }
+  if (current.status === 'FAILED') {
+    throw new Error(current.error || 'Fact-check failed');
+  }
+  return current.result;
+};
 
 const factCheckService = {
   // Preview fact-check without saving (for pre-publish flow)
-  preview: async (content) => {
-    const response = await api.post('/api/fact-checks/preview', { content });
-    return response.data;
+  // The returned precheckToken lets publish reuse this verdict
+  preview: async (content, userId) => {
+    const response = await api.post('/api/fact-checks/preview', { content }, {
+      headers: userId ? { 'X-User-Id': userId } : {}
+    });
+    return { ...response.data, precheckToken: response.headers['x-precheck-token'] || null };
   },
 
+  // Streaming preview: handlers.token / verdict / summary / source fire as
+  // the model answers, handlers.precheck with the publish token; resolves
+  // with the full result
+  previewStream: (content, handlers = {}, userId = null) =>
+    postEventStream('/api/fact-checks/preview/stream', { content }, handlers,
+      userId ? { 'X-User-Id': userId } : {}),
+
   // Fact-check an existing post
   checkPost: async (postId, userId) => {
     const response = await api.post(`/api/fact-checks/post/${postId}`, null, {
       headers: userId ? { 'X-User-Id': userId } : {}
     });
-    return response.data;
+    return waitForJob(response.data);
   },
 
   // Fact-check a debate argument
@@ -21,6 +53,11 @@ const factCheckService = {
     const response = await api.post(`/api/fact-checks/argument/${argumentId}`, null, {
       headers: userId ? { 'X-User-Id': userId } : {}
     });
+    return waitForJob(response.data);
+  },
+
+  getJob: async (jobId) => {
+    const response = await api.get(`/api/fact-checks/jobs/${jobId}`);
     return response.data;
   },
 
@@ -1,4 +1,5 @@
 import api from './api';
+import { postEventStream } from './eventStream';
 
 const postAssistantService = {
   // Improve existing post content
@@ -16,7 +17,15 @@ const postAssistantService = {
       prompt
     });
     return response.data;
-  }
+  },
+
+  // Streaming variants: handlers.suggestion fires as each suggestion
+  // completes, handlers.token for raw text; resolve with the full result
+  improveStream: (content, instruction = null, handlers = {}) =>
+    postEventStream('/api/ai/post-assistant/improve/stream', { content, instruction }, handlers),
+
+  generateStream: (prompt, handlers = {}) =>
+    postEventStream('/api/ai/post-assistant/generate/stream', { prompt }, handlers)
 };
 
 export default postAssistantService;
@@ -1,12 +1,17 @@
 import api from './api';
 
 const postService = {
-  getFeed: async (userId) => {
-    const response = await api.get(`posts/feed/${userId}`);
+  // Returns a cursor slice: { content, nextCursor, hasNext }
+  getFeed: async (userId, cursor = null, size = 50) => {
+    const response = await api.get(`posts/feed/${userId}`, {
+      params: { cursor, size }
+    });
     return response.data;
   },
 
-  createPost: async (userId, content, factCheck = false, style = null) => {
+  // precheckToken (from factCheckService.preview) attaches that verdict on
+  // publish; without it a fact-checked post is published as PENDING
+  createPost: async (userId, content, factCheck = false, style = null, precheckToken = null) => {
     const payload = {
       userId: userId,
       content: content,
@@ -15,6 +20,9 @@ const postService = {
     if (style) {
       payload.style = style;
     }
+    if (precheckToken) {
+      payload.precheckToken = precheckToken;
+    }
     const response = await api.post('posts', payload);
     return response.data;
   },
@@ -52,12 +60,14 @@ const postService = {
     return response.data;
   },
 
-  getReplies: async (postId) => {
-    const response = await api.get(`posts/${postId}/replies`);
+  getReplies: async (postId, cursor = null, size = 100) => {
+    const response = await api.get(`posts/${postId}/replies`, {
+      params: { cursor, size }
+    });
     // Backend returns List<Post>, we need to convert to proper format
     // The backend should ideally return PostResponseDTO, but if it returns Post entities,
     // we need to transform them
-    return response.data.map(reply => ({
+    return response.data.content.map(reply => ({
       id: reply.id,
       author: reply.author,
       content: reply.content,
@@ -35,6 +35,12 @@ const userService = {
     return response.data;
   },
 
+  typeahead: async (query, limit = 8) => {
+    const params = new URLSearchParams({ q: query, limit });
+    const response = await api.get(`api/users/typeahead?${params.toString()}`);
+    return response.data;
+  },
+
   searchUsers: async ({ query, minTrustScore, maxTrustScore, page = 0, size = 20 }) => {
     const params = new URLSearchParams();
     
@@ -0,0 +1,38 @@
+package com.aisocial.platform.controller;
+
+import com.aisocial.platform.service.AiGateway;
+import com.aisocial.platform.service.HedgedCaller;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ai/gateway")
+@CrossOrigin(origins = "*")
+public class AiGatewayController {
+
+    private final AiGateway aiGateway;
+    private final HedgedCaller hedgedCaller;
+
+    public AiGatewayController(AiGateway aiGateway, HedgedCaller hedgedCaller) {
+        this.aiGateway = aiGateway;
+        this.hedgedCaller = hedgedCaller;
+    }
+
+    /**
+     * Call counters, rejections by guard, current concurrency limit, circuit
+     * state and bulkhead usage of the AI gateway.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<AiGateway.Stats> getStats() {
+        return ResponseEntity.ok(aiGateway.stats());
+    }
+
+    /**
+     * Hedged attempts, retries and missed deadlines of deadline-bound AI
+     * calls, with the latency that currently triggers a hedge per tier.
+     */
+    @GetMapping("/hedging")
+    public ResponseEntity<HedgedCaller.Stats> getHedgingStats() {
+        return ResponseEntity.ok(hedgedCaller.stats());
+    }
+}
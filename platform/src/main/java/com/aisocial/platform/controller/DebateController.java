@@ -2,6 +2,7 @@ package com.aisocial.platform.controller;
 
 import com.aisocial.platform.dto.CreateDebateRequestDTO;
 import com.aisocial.platform.dto.DebateArgumentDTO;
+import com.aisocial.platform.dto.DebateBundleDTO;
 import com.aisocial.platform.dto.DebateDTO;
 import com.aisocial.platform.dto.SubmitArgumentRequestDTO;
 import com.aisocial.platform.entity.Debate;
@@ -15,13 +16,22 @@ import com.aisocial.platform.repository.DebateLikeRepository;
 import com.aisocial.platform.repository.DebateRepository;
 import com.aisocial.platform.repository.DebateVoteRepository;
 import com.aisocial.platform.repository.UserRepository;
+import com.aisocial.platform.service.DebateBundleService;
 import com.aisocial.platform.service.DebateService;
 import com.aisocial.platform.service.DebateStateMachine;
+import com.aisocial.platform.service.DebateStreamHub;
+import com.aisocial.platform.service.DebateUpdateEvent;
+import com.aisocial.platform.service.DebateVoteTally;
+import com.aisocial.platform.service.DebateVotingCloser;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,19 +48,34 @@ public class DebateController {
     private final UserRepository userRepository;
     private final DebateLikeRepository debateLikeRepository;
     private final DebateVoteRepository debateVoteRepository;
+    private final DebateVotingCloser debateVotingCloser;
+    private final DebateStreamHub debateStreamHub;
+    private final DebateVoteTally debateVoteTally;
+    private final DebateBundleService debateBundleService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DebateController(DebateService debateService,
                             DebateStateMachine debateStateMachine,
                             DebateRepository debateRepository,
                             UserRepository userRepository,
                             DebateLikeRepository debateLikeRepository,
-                            DebateVoteRepository debateVoteRepository) {
+                            DebateVoteRepository debateVoteRepository,
+                            DebateVotingCloser debateVotingCloser,
+                            DebateStreamHub debateStreamHub,
+                            DebateVoteTally debateVoteTally,
+                            DebateBundleService debateBundleService,
+                            ApplicationEventPublisher eventPublisher) {
         this.debateService = debateService;
         this.debateStateMachine = debateStateMachine;
         this.debateRepository = debateRepository;
         this.userRepository = userRepository;
         this.debateLikeRepository = debateLikeRepository;
         this.debateVoteRepository = debateVoteRepository;
+        this.debateVotingCloser = debateVotingCloser;
+        this.debateStreamHub = debateStreamHub;
+        this.debateVoteTally = debateVoteTally;
+        this.debateBundleService = debateBundleService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -80,6 +105,41 @@ public class DebateController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Everything the debate page needs in one round trip: the debate, its
+     * arguments with fact-check verdicts, and the caller's vote and like.
+     * GET /api/debates/{id}/bundle
+     */
+    @GetMapping("/{id}/bundle")
+    public ResponseEntity<DebateBundleDTO> getDebateBundle(
+            @PathVariable UUID id,
+            @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
+        return debateBundleService.getBundle(id, userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Live updates for a debate as server-sent events: a "snapshot" of the
+     * debate, then "argument", "votes", "likes" and "status" deltas.
+     * GET /api/debates/{id}/stream
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDebate(@PathVariable UUID id) {
+        return debateService.getDebateById(id)
+                .map(snapshot -> ResponseEntity.ok(debateStreamHub.subscribe(id, snapshot)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Live debate stream counters.
+     * GET /api/debates/stream/stats
+     */
+    @GetMapping("/stream/stats")
+    public ResponseEntity<DebateStreamHub.Stats> getStreamStats() {
+        return ResponseEntity.ok(debateStreamHub.stats());
+    }
+
     /**
      * List all active debates (ACTIVE or VOTING status).
      * GET /api/debates
@@ -111,6 +171,15 @@ public class DebateController {
         return ResponseEntity.ok(debates);
     }
 
+    /**
+     * Voting-deadline scheduler counters.
+     * GET /api/debates/voting/stats
+     */
+    @GetMapping("/voting/stats")
+    public ResponseEntity<DebateVotingCloser.Stats> getVotingCloserStats() {
+        return ResponseEntity.ok(debateVotingCloser.stats());
+    }
+
     /**
      * Accept a debate challenge.
      * POST /api/debates/{id}/accept
@@ -226,6 +295,7 @@ public class DebateController {
         }
 
         debateRepository.save(debate);
+        eventPublisher.publishEvent(DebateUpdateEvent.likes(debate));
 
         return ResponseEntity.ok(Map.of(
                 "liked", liked,
@@ -275,6 +345,11 @@ public class DebateController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Voting is not open for this debate"));
         }
+        // Closed once the deadline passes, even if the closer has not settled it yet
+        if (debate.getVotingEndsAt() != null && !Instant.now().isBefore(debate.getVotingEndsAt())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Voting has ended for this debate"));
+        }
 
         // Participants cannot vote
         if (debate.getChallenger().getId().equals(userId) ||
@@ -299,12 +374,9 @@ public class DebateController {
             VoteType oldVote = vote.getVote();
 
             if (oldVote != voteType) {
-                // Update vote counts
-                decrementVoteCount(debate, oldVote);
-                incrementVoteCount(debate, voteType);
                 vote.setVote(voteType);
                 debateVoteRepository.save(vote);
-                debateRepository.save(debate);
+                eventPublisher.publishEvent(DebateUpdateEvent.votes(id, debateVoteTally.record(debate, oldVote, voteType)));
             }
 
             return ResponseEntity.ok(Map.of(
@@ -321,8 +393,8 @@ public class DebateController {
             newVote.setVote(voteType);
             debateVoteRepository.save(newVote);
 
-            incrementVoteCount(debate, voteType);
-            debateRepository.save(debate);
+            // Counts go through the tally once this commits; it writes them in batches
+            eventPublisher.publishEvent(DebateUpdateEvent.votes(id, debateVoteTally.record(debate, null, voteType)));
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -332,21 +404,4 @@ public class DebateController {
             ));
         }
     }
-
-    private void incrementVoteCount(Debate debate, VoteType voteType) {
-        switch (voteType) {
-            case CHALLENGER -> debate.incrementVotesChallenger();
-            case DEFENDER -> debate.incrementVotesDefender();
-            case TIE -> debate.incrementVotesTie();
-        }
-    }
-
-    private void decrementVoteCount(Debate debate, VoteType voteType) {
-        switch (voteType) {
-            case CHALLENGER -> debate.decrementVotesChallenger();
-            case DEFENDER -> debate.decrementVotesDefender();
-            case TIE -> debate.decrementVotesTie();
-        }
-    }
 }
-
@@ -1,11 +1,22 @@
 package com.aisocial.platform.controller;
 
+import com.aisocial.platform.dto.FactCheckJobDTO;
 import com.aisocial.platform.dto.FactCheckResultDTO;
 import com.aisocial.platform.entity.FactCheck;
 import com.aisocial.platform.service.AIFactCheckService;
+import com.aisocial.platform.service.AiStreamRunner;
+import com.aisocial.platform.service.DraftPrecheckStore;
+import com.aisocial.platform.service.FactCheckCascade;
+import com.aisocial.platform.service.FactCheckJobService;
+import com.aisocial.platform.service.FactCheckResultCache;
 import com.aisocial.platform.service.FactCheckService;
+import com.aisocial.platform.service.KnownClaimRules;
+import com.aisocial.platform.service.SimilarClaimIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -16,56 +27,159 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class FactCheckController {
 
+    static final String PRECHECK_TOKEN_HEADER = "X-Precheck-Token";
+
     private final FactCheckService factCheckService;
     private final AIFactCheckService aiFactCheckService;
+    private final FactCheckJobService factCheckJobService;
+    private final FactCheckResultCache factCheckResultCache;
+    private final AiStreamRunner aiStreamRunner;
+    private final DraftPrecheckStore draftPrecheckStore;
+    private final KnownClaimRules knownClaimRules;
+    private final FactCheckCascade factCheckCascade;
+    private final SimilarClaimIndex similarClaimIndex;
 
     public FactCheckController(FactCheckService factCheckService,
-                               AIFactCheckService aiFactCheckService) {
+                               AIFactCheckService aiFactCheckService,
+                               FactCheckJobService factCheckJobService,
+                               FactCheckResultCache factCheckResultCache,
+                               AiStreamRunner aiStreamRunner,
+                               DraftPrecheckStore draftPrecheckStore,
+                               KnownClaimRules knownClaimRules,
+                               FactCheckCascade factCheckCascade,
+                               SimilarClaimIndex similarClaimIndex) {
         this.factCheckService = factCheckService;
         this.aiFactCheckService = aiFactCheckService;
+        this.factCheckJobService = factCheckJobService;
+        this.factCheckResultCache = factCheckResultCache;
+        this.aiStreamRunner = aiStreamRunner;
+        this.draftPrecheckStore = draftPrecheckStore;
+        this.knownClaimRules = knownClaimRules;
+        this.factCheckCascade = factCheckCascade;
+        this.similarClaimIndex = similarClaimIndex;
     }
 
     // ----------------------------
     // AI-Powered Fact Check - Preview (before posting)
+    // The X-Precheck-Token response header lets publish reuse this verdict
     // ----------------------------
     @PostMapping("/preview")
-    public ResponseEntity<FactCheckResultDTO> previewFactCheck(@RequestBody Map<String, String> request) {
+    @CrossOrigin(origins = "*", exposedHeaders = PRECHECK_TOKEN_HEADER)
+    public ResponseEntity<FactCheckResultDTO> previewFactCheck(
+            @RequestBody Map<String, String> request,
+            @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
         String content = request.get("content");
         if (content == null || content.trim().isEmpty()) {
             return ResponseEntity.badRequest().body(FactCheckResultDTO.error("Content is required"));
         }
         FactCheckResultDTO result = aiFactCheckService.previewFactCheck(content);
-        return ResponseEntity.ok(result);
+        String token = draftPrecheckStore.issue(userId, content, result);
+        if (token == null) {
+            return ResponseEntity.ok(result);
+        }
+        return ResponseEntity.ok().header(PRECHECK_TOKEN_HEADER, token).body(result);
+    }
+
+    // ----------------------------
+    // AI-Powered Fact Check - Streaming preview (server-sent events)
+    // ----------------------------
+    @PostMapping(value = "/preview/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPreviewFactCheck(
+            @RequestBody Map<String, String> request,
+            @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
+        String content = request.get("content");
+        return aiStreamRunner.stream(listener -> {
+            FactCheckResultDTO result = aiFactCheckService.streamPreview(content, listener);
+            String token = draftPrecheckStore.issue(userId, content, result);
+            if (token != null) {
+                listener.onEvent("precheck", Map.of("token", token));
+            }
+            return result;
+        });
     }
 
     // ----------------------------
-    // AI-Powered Fact Check - Check existing post
+    // AI-Powered Fact Check - Check existing post (async job)
     // ----------------------------
     @PostMapping("/post/{postId}")
-    public ResponseEntity<FactCheckResultDTO> factCheckPost(
+    public ResponseEntity<FactCheckJobDTO> factCheckPost(
             @PathVariable UUID postId,
             @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
         try {
-            FactCheckResultDTO result = aiFactCheckService.factCheckPost(postId, userId);
-            return ResponseEntity.ok(result);
+            FactCheckJobDTO job = factCheckJobService.submitPost(postId, userId);
+            return ResponseEntity.accepted().body(job);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
     }
 
     // ----------------------------
-    // AI-Powered Fact Check - Check debate argument
+    // AI-Powered Fact Check - Check debate argument (async job)
     // ----------------------------
     @PostMapping("/argument/{argumentId}")
-    public ResponseEntity<FactCheckResultDTO> factCheckArgument(
+    public ResponseEntity<FactCheckJobDTO> factCheckArgument(
             @PathVariable UUID argumentId,
             @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
         try {
-            FactCheckResultDTO result = aiFactCheckService.factCheckDebateArgument(argumentId, userId);
-            return ResponseEntity.ok(result);
+            FactCheckJobDTO job = factCheckJobService.submitArgument(argumentId, userId);
+            return ResponseEntity.accepted().body(job);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // ----------------------------
+    // AI-Powered Fact Check - Job status
+    // ----------------------------
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<FactCheckJobDTO> getJob(@PathVariable UUID jobId) {
+        return factCheckJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ----------------------------
+    // AI-Powered Fact Check - Result cache hit/miss counters
+    // ----------------------------
+    @GetMapping("/cache/stats")
+    public ResponseEntity<FactCheckResultCache.Stats> getCacheStats() {
+        return ResponseEntity.ok(factCheckResultCache.stats());
+    }
+
+    // ----------------------------
+    // Near-duplicate claim reuse - lookups, hits and indexed claims
+    // ----------------------------
+    @GetMapping("/similar/stats")
+    public ResponseEntity<SimilarClaimIndex.Stats> getSimilarClaimStats() {
+        return ResponseEntity.ok(similarClaimIndex.stats());
+    }
+
+    // ----------------------------
+    // Model cascade - per-tier calls, escalations, latency and estimated spend
+    // ----------------------------
+    @GetMapping("/cascade/stats")
+    public ResponseEntity<List<FactCheckCascade.TierStats>> getCascadeStats() {
+        return ResponseEntity.ok(factCheckCascade.stats());
+    }
+
+    // ----------------------------
+    // Known-claim rules - per-rule hit counters and reload
+    // ----------------------------
+    @GetMapping("/rules/stats")
+    public ResponseEntity<List<KnownClaimRules.RuleStats>> getRuleStats() {
+        return ResponseEntity.ok(knownClaimRules.stats());
+    }
+
+    @PostMapping("/rules/reload")
+    public ResponseEntity<List<KnownClaimRules.RuleStats>> reloadRules() {
+        if (!knownClaimRules.reload()) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
         }
+        return ResponseEntity.ok(knownClaimRules.stats());
     }
 
     // ----------------------------
@@ -1,9 +1,12 @@
 package com.aisocial.platform.controller;
 
+import com.aisocial.platform.service.AiStreamRunner;
 import com.aisocial.platform.service.PostAssistantService;
 import com.aisocial.platform.service.PostAssistantService.PostAssistantResult;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -13,9 +16,11 @@ import java.util.Map;
 public class PostAssistantController {
 
     private final PostAssistantService postAssistantService;
+    private final AiStreamRunner aiStreamRunner;
 
-    public PostAssistantController(PostAssistantService postAssistantService) {
+    public PostAssistantController(PostAssistantService postAssistantService, AiStreamRunner aiStreamRunner) {
         this.postAssistantService = postAssistantService;
+        this.aiStreamRunner = aiStreamRunner;
     }
 
     /**
@@ -48,4 +53,23 @@ public class PostAssistantController {
         PostAssistantResult result = postAssistantService.generatePost(prompt);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * Improve existing post content, streaming suggestions as they complete
+     */
+    @PostMapping(value = "/improve/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamImprovePost(@RequestBody Map<String, String> request) {
+        String content = request.get("content");
+        String instruction = request.get("instruction");
+        return aiStreamRunner.stream(listener -> postAssistantService.streamImprovePost(content, instruction, listener));
+    }
+
+    /**
+     * Generate a new post from a prompt, streaming suggestions as they complete
+     */
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGeneratePost(@RequestBody Map<String, String> request) {
+        String prompt = request.get("prompt");
+        return aiStreamRunner.stream(listener -> postAssistantService.streamGeneratePost(prompt, listener));
+    }
 }
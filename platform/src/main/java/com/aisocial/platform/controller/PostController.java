@@ -4,20 +4,18 @@ import com.aisocial.platform.entity.Post;
 import com.aisocial.platform.service.PostService;
 import com.aisocial.platform.service.LikeService;
 import com.aisocial.platform.dto.CreatePostRequestDTO;
+import com.aisocial.platform.dto.CursorSliceDTO;
 import com.aisocial.platform.dto.PostResponseDTO;
 import com.aisocial.platform.dto.PostSearchRequestDTO;
 import com.aisocial.platform.dto.ReplyPostRequestDTO;
 import com.aisocial.platform.dto.RepostRequestDTO;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -25,6 +23,8 @@ import java.util.Map;
 @CrossOrigin(origins = "*") // adjust for your frontend
 public class PostController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
     private final LikeService likeService;
 
@@ -44,7 +44,8 @@ public class PostController {
                     request.getUserId(),
                     request.getContent(),
                     request.shouldFactCheck(),
-                    request.getStyle()
+                    request.getStyle(),
+                    request.getPrecheckToken()
             );
             return new ResponseEntity<>(response, HttpStatus.CREATED);
         }
@@ -54,27 +55,40 @@ public class PostController {
         return new ResponseEntity<>(post, HttpStatus.CREATED);
     }
 
+    /**
+     * Get a slice of a user's home timeline. Pass the previous response's
+     * nextCursor to continue scrolling.
+     */
     @GetMapping("/feed/{userId}")
-    public ResponseEntity<List<PostResponseDTO>> getFeed(@PathVariable UUID userId) {
-        List<PostResponseDTO> feed = postService.getFeedForUser(userId);
+    public ResponseEntity<CursorSliceDTO<PostResponseDTO>> getFeed(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<PostResponseDTO> feed = postService.getFeedForUser(userId, cursor, clampSize(size));
         return ResponseEntity.ok(feed);
     }
 
     /**
-     * Get all posts by a specific user
+     * Get posts by a specific user, newest first
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PostResponseDTO>> getPostsByUser(@PathVariable UUID userId) {
-        List<PostResponseDTO> posts = postService.getPostsByUserId(userId);
+    public ResponseEntity<CursorSliceDTO<PostResponseDTO>> getPostsByUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<PostResponseDTO> posts = postService.getPostsByUserId(userId, cursor, clampSize(size));
         return ResponseEntity.ok(posts);
     }
 
     /**
-     * Get all replies made by a specific user
+     * Get replies made by a specific user, newest first
      */
     @GetMapping("/user/{userId}/replies")
-    public ResponseEntity<List<PostResponseDTO>> getRepliesByUser(@PathVariable UUID userId) {
-        List<PostResponseDTO> replies = postService.getRepliesByUserId(userId);
+    public ResponseEntity<CursorSliceDTO<PostResponseDTO>> getRepliesByUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<PostResponseDTO> replies = postService.getRepliesByUserId(userId, cursor, clampSize(size));
         return ResponseEntity.ok(replies);
     }
 
@@ -132,26 +146,17 @@ public class PostController {
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * Get replies to a post, oldest first
+     */
     @GetMapping("/{postId}/replies")
-    public ResponseEntity<List<PostResponseDTO>> getReplies(
+    public ResponseEntity<CursorSliceDTO<PostResponseDTO>> getReplies(
             @PathVariable UUID postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @RequestHeader(value = "X-User-Id", required = false) UUID currentUserId) {
-        List<Post> replies = postService.getReplies(postId);
-        
-        // Convert to DTOs with proper user context
-        List<PostResponseDTO> replyDTOs = replies.stream()
-            .map(post -> {
-                // You'll need access to convertToDTO method
-                // Option 1: Make it public in PostService
-                // Option 2: Call through PostService
-                // Option 3: Duplicate logic here (not ideal)
-                
-                // For now, let's assume we add a method to PostService:
-                return postService.convertPostToDTO(post, currentUserId);
-            })
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(replyDTOs);
+        CursorSliceDTO<PostResponseDTO> replies = postService.getReplies(postId, currentUserId, cursor, clampSize(size));
+        return ResponseEntity.ok(replies);
     }
 
     /**
@@ -161,9 +166,10 @@ public class PostController {
      * - POST /posts/search with body: {"query": "hello", "viewerId": "user-uuid"}
      * - POST /posts/search with body: {"authorId": "author-uuid", "viewerId": "viewer-uuid"}
      * - POST /posts/search with body: {"query": "climate", "start": "2024-01-01T00:00:00Z", "viewerId": "user-uuid"}
+     * - POST /posts/search with body: {"query": "climate", "cursor": "<nextCursor from the previous slice>"}
      */
     @PostMapping("/search")
-    public ResponseEntity<Page<PostResponseDTO>> searchPosts(
+    public ResponseEntity<CursorSliceDTO<PostResponseDTO>> searchPosts(
             @RequestBody PostSearchRequestDTO request,
             @RequestHeader(value = "X-User-Id", required = false) UUID currentUserId) {
         
@@ -173,11 +179,9 @@ public class PostController {
         }
         
         // Validate and limit page size
-        if (request.getSize() > 100) {
-            request.setSize(100);
-        }
+        request.setSize(clampSize(request.getSize()));
         
-        Page<PostResponseDTO> results = postService.searchPosts(request);
+        CursorSliceDTO<PostResponseDTO> results = postService.searchPosts(request);
         return ResponseEntity.ok(results);
     }
 
@@ -187,7 +191,7 @@ public class PostController {
             @RequestParam UUID userId) {
         
         boolean isNowLiked = likeService.toggleLike(userId, postId);
-        long likeCount = likeService.countLikes(postId);
+        long likeCount = likeService.getLikeCount(postId);
         
         Map<String, Object> response = new HashMap<>();
         response.put("liked", isNowLiked);
@@ -195,4 +199,8 @@ public class PostController {
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
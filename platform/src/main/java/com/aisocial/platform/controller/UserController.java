@@ -75,6 +75,22 @@ public class UserController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    /**
+     * As-you-type user lookup by username or display name, served from the
+     * in-memory typeahead index. Prefix matches come first, then infix
+     * matches (3+ characters), each ordered by trust score.
+     *
+     * Example: /api/users/typeahead?q=ali&limit=8
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<UserResponseDTO>> typeahead(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        int clamped = Math.max(1, Math.min(limit, 20));
+        return ResponseEntity.ok(userService.typeahead(query, clamped));
+    }
+
     /**
      * Search users with flexible filters
      * 
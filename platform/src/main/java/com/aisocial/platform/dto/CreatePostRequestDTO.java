@@ -7,6 +7,7 @@ public class CreatePostRequestDTO {
     private String content;
     private Boolean factCheck = false;
     private PostStyleDTO style;
+    private String precheckToken;
 
     public UUID getUserId() {
         return userId;
@@ -43,4 +44,12 @@ public class CreatePostRequestDTO {
     public void setStyle(PostStyleDTO style) {
         this.style = style;
     }
-}
\ No newline at end of file
+
+    public String getPrecheckToken() {
+        return precheckToken;
+    }
+
+    public void setPrecheckToken(String precheckToken) {
+        this.precheckToken = precheckToken;
+    }
+}
@@ -0,0 +1,45 @@
+package com.aisocial.platform.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a cursor-paginated listing. There is no total count: clients
+ * keep requesting with {@code nextCursor} until {@code hasNext} is false.
+ */
+public class CursorSliceDTO<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorSliceDTO() {}
+
+    public CursorSliceDTO(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public <R> CursorSliceDTO<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorSliceDTO<>(mapped, nextCursor, hasNext);
+    }
+
+    // ---------------------
+    // Getters and Setters
+    // ---------------------
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public int getSize() { return content.size(); }
+
+    // Same flag name as Spring's Page/Slice JSON, which the frontend already reads
+    public boolean isLast() { return !hasNext; }
+}
@@ -0,0 +1,41 @@
+package com.aisocial.platform.dto;
+
+import com.aisocial.platform.entity.VoteType;
+
+import java.util.List;
+
+/**
+ * Everything the debate page shows, in one response: the debate, its
+ * arguments in order with their fact-check verdicts, and the viewer's own
+ * vote and like.
+ */
+public class DebateBundleDTO {
+
+    private DebateDTO debate;
+    private List<DebateArgumentDTO> arguments;
+    private VoteType viewerVote;
+    private boolean viewerLiked;
+
+    public DebateBundleDTO() {}
+
+    public DebateBundleDTO(DebateDTO debate, List<DebateArgumentDTO> arguments,
+                           VoteType viewerVote, boolean viewerLiked) {
+        this.debate = debate;
+        this.arguments = arguments;
+        this.viewerVote = viewerVote;
+        this.viewerLiked = viewerLiked;
+    }
+
+    // Getters and Setters
+    public DebateDTO getDebate() { return debate; }
+    public void setDebate(DebateDTO debate) { this.debate = debate; }
+
+    public List<DebateArgumentDTO> getArguments() { return arguments; }
+    public void setArguments(List<DebateArgumentDTO> arguments) { this.arguments = arguments; }
+
+    public VoteType getViewerVote() { return viewerVote; }
+    public void setViewerVote(VoteType viewerVote) { this.viewerVote = viewerVote; }
+
+    public boolean isViewerLiked() { return viewerLiked; }
+    public void setViewerLiked(boolean viewerLiked) { this.viewerLiked = viewerLiked; }
+}
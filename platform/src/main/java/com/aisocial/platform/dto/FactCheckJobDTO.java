@@ -0,0 +1,51 @@
+package com.aisocial.platform.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Snapshot of an asynchronous fact-check job, as returned when the job is
+ * submitted and when its status is polled.
+ */
+public class FactCheckJobDTO {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    public enum TargetType { POST, ARGUMENT }
+
+    private UUID jobId;
+    private TargetType targetType;
+    private UUID targetId;
+    private Status status;
+    private FactCheckResultDTO result;
+    private String error;
+    private Instant submittedAt;
+    private Instant completedAt;
+
+    public FactCheckJobDTO() {}
+
+    // Getters and Setters
+    public UUID getJobId() { return jobId; }
+    public void setJobId(UUID jobId) { this.jobId = jobId; }
+
+    public TargetType getTargetType() { return targetType; }
+    public void setTargetType(TargetType targetType) { this.targetType = targetType; }
+
+    public UUID getTargetId() { return targetId; }
+    public void setTargetId(UUID targetId) { this.targetId = targetId; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public FactCheckResultDTO getResult() { return result; }
+    public void setResult(FactCheckResultDTO result) { this.result = result; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public Instant getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(Instant submittedAt) { this.submittedAt = submittedAt; }
+
+    public Instant getCompletedAt() { return completedAt; }
+    public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+}
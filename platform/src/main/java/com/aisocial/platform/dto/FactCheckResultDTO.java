@@ -12,6 +12,9 @@ public class FactCheckResultDTO {
     private List<String> reasoning;
     private List<Source> sources;
     private String error;
+    // Set when the verdict was taken from a near-duplicate of an earlier claim
+    private Boolean reused;
+    private Double reusedSimilarity;
 
     public FactCheckResultDTO() {}
 
@@ -43,6 +46,12 @@ public class FactCheckResultDTO {
     public String getError() { return error; }
     public void setError(String error) { this.error = error; }
 
+    public Boolean getReused() { return reused; }
+    public void setReused(Boolean reused) { this.reused = reused; }
+
+    public Double getReusedSimilarity() { return reusedSimilarity; }
+    public void setReusedSimilarity(Double reusedSimilarity) { this.reusedSimilarity = reusedSimilarity; }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Source {
         private String title;
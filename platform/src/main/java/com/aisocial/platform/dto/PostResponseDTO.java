@@ -18,9 +18,11 @@ public class PostResponseDTO {
     private Integer repostCount;
     private FactCheckStatus factCheckStatus;
     private Double factCheckScore;
+    private Boolean factCheckPending;
     private Boolean isLikedByCurrentUser;
     private Boolean isRepostedByCurrentUser;
     private FactCheckResultDTO factCheckResult;
+    private UUID factCheckJobId;
     private PostStyleDTO style;
 
     public PostResponseDTO() {}
@@ -70,6 +72,12 @@ public class PostResponseDTO {
     public FactCheckResultDTO getFactCheckResult() { return factCheckResult; }
     public void setFactCheckResult(FactCheckResultDTO factCheckResult) { this.factCheckResult = factCheckResult; }
 
+    public Boolean getFactCheckPending() { return factCheckPending; }
+    public void setFactCheckPending(Boolean factCheckPending) { this.factCheckPending = factCheckPending; }
+
+    public UUID getFactCheckJobId() { return factCheckJobId; }
+    public void setFactCheckJobId(UUID factCheckJobId) { this.factCheckJobId = factCheckJobId; }
+
     public PostStyleDTO getStyle() { return style; }
     public void setStyle(PostStyleDTO style) { this.style = style; }
 }
\ No newline at end of file
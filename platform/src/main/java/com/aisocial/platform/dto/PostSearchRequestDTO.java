@@ -17,7 +17,7 @@ public class PostSearchRequestDTO {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private Instant end;
 
-    private int page = 0;
+    private String cursor;  // nextCursor from the previous slice; null for the first one
     private int size = 20;
 
     public PostSearchRequestDTO() {}
@@ -40,8 +40,8 @@ public class PostSearchRequestDTO {
     public Instant getEnd() { return end; }
     public void setEnd(Instant end) { this.end = end; }
 
-    public int getPage() { return page; }
-    public void setPage(int page) { this.page = page; }
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
 
     public int getSize() { return size; }
     public void setSize(int size) { this.size = size; }
@@ -5,7 +5,9 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "debates")
+@Table(name = "debates", indexes = {
+        @Index(name = "idx_debates_status_voting_ends", columnList = "status, voting_ends_at")
+})
 public class Debate {
 
     @Id
@@ -39,13 +41,15 @@ public class Debate {
     @JoinColumn(name = "winner_id")
     private User winner;
 
-    @Column(name = "votes_challenger")
+    // Written only by DebateVoteTally's incremental updates, so saving a
+    // debate loaded earlier cannot overwrite newer counts
+    @Column(name = "votes_challenger", updatable = false)
     private Integer votesChallenger = 0;
 
-    @Column(name = "votes_defender")
+    @Column(name = "votes_defender", updatable = false)
     private Integer votesDefender = 0;
 
-    @Column(name = "votes_tie")
+    @Column(name = "votes_tie", updatable = false)
     private Integer votesTie = 0;
 
     @Column(name = "like_count")
@@ -54,6 +58,11 @@ public class Debate {
     @Column(name = "voting_ends_at")
     private Instant votingEndsAt;
 
+    // Which participant has argued in which round, two bits per round; see DebateStateMachine.
+    // Null until first needed for debates created before the column existed
+    @Column(name = "argued_mask")
+    private Integer arguedMask = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -243,4 +252,12 @@ public class Debate {
     public void setLikeCount(Integer likeCount) {
         this.likeCount = likeCount;
     }
+
+    public Integer getArguedMask() {
+        return arguedMask;
+    }
+
+    public void setArguedMask(Integer arguedMask) {
+        this.arguedMask = arguedMask;
+    }
 }
@@ -39,6 +39,9 @@ public class DebateArgument {
     @Column(name = "fact_check_data", columnDefinition = "TEXT")
     private String factCheckData;
 
+    @Column(name = "fact_checked_at")
+    private Instant factCheckedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -84,6 +87,9 @@ public class DebateArgument {
     public String getFactCheckData() { return factCheckData; }
     public void setFactCheckData(String factCheckData) { this.factCheckData = factCheckData; }
 
+    public Instant getFactCheckedAt() { return factCheckedAt; }
+    public void setFactCheckedAt(Instant factCheckedAt) { this.factCheckedAt = factCheckedAt; }
+
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
 }
@@ -0,0 +1,58 @@
+package com.aisocial.platform.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Persisted AI fact-check verdict, keyed by the SHA-256 of the normalized
+ * claim text so identical claims are only sent to the model once per TTL.
+ */
+@Entity
+@Table(name = "fact_check_cache", indexes = {
+        @Index(name = "idx_fact_check_cache_expires", columnList = "expires_at")
+})
+public class FactCheckCacheEntry {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(length = 20)
+    private String verdict;
+
+    @Column(name = "result_json", nullable = false, columnDefinition = "TEXT")
+    private String resultJson;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public FactCheckCacheEntry() {}
+
+    public FactCheckCacheEntry(String contentHash, String verdict, String resultJson,
+                               Instant createdAt, Instant expiresAt) {
+        this.contentHash = contentHash;
+        this.verdict = verdict;
+        this.resultJson = resultJson;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public String getVerdict() { return verdict; }
+    public void setVerdict(String verdict) { this.verdict = verdict; }
+
+    public String getResultJson() { return resultJson; }
+    public void setResultJson(String resultJson) { this.resultJson = resultJson; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -7,6 +7,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "follows", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"follower_id", "following_id"})
+}, indexes = {
+    @Index(name = "idx_follows_following", columnList = "following_id")
 })
 public class Follow {
 
@@ -2,10 +2,14 @@ package com.aisocial.platform.entity;
 
 import jakarta.persistence.*;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_author_created", columnList = "author_id, created_at"),
+        @Index(name = "idx_posts_reply_to_created", columnList = "reply_to_id, created_at")
+})
 public class Post {
 
     @Id
@@ -45,7 +49,16 @@ public class Post {
     @Column(name = "was_checked_before")
     private Boolean wasCheckedBefore = false;
 
-    @Column(name = "like_count")
+    @Column(name = "fact_checked_at")
+    private Instant factCheckedAt;
+
+    // Published with fact-check requested; the verdict is still being computed
+    @Column(name = "fact_check_pending")
+    private Boolean factCheckPending = false;
+
+    // Written only by LikeCountBuffer's incremental updates, so saving a
+    // post loaded earlier cannot overwrite newer counts
+    @Column(name = "like_count", updatable = false)
     private Integer likeCount = 0;
 
     @Column(name = "reply_count")
@@ -69,6 +82,9 @@ public class Post {
         if (createdAt == null) {
             createdAt = Instant.now();
         }
+        // Millisecond precision, matching what SQLite stores, so cursors
+        // built from in-memory posts line up with persisted rows
+        createdAt = createdAt.truncatedTo(ChronoUnit.MILLIS);
         if (likeCount == null) likeCount = 0;
         if (replyCount == null) replyCount = 0;
         if (repostCount == null) repostCount = 0;
@@ -124,6 +140,12 @@ public class Post {
     public Boolean getWasCheckedBefore() { return wasCheckedBefore; }
     public void setWasCheckedBefore(Boolean wasCheckedBefore) { this.wasCheckedBefore = wasCheckedBefore; }
 
+    public Instant getFactCheckedAt() { return factCheckedAt; }
+    public void setFactCheckedAt(Instant factCheckedAt) { this.factCheckedAt = factCheckedAt; }
+
+    public Boolean getFactCheckPending() { return factCheckPending; }
+    public void setFactCheckPending(Boolean factCheckPending) { this.factCheckPending = factCheckPending; }
+
     public Integer getLikeCount() { return likeCount; }
     public void setLikeCount(Integer likeCount) { this.likeCount = likeCount; }
 
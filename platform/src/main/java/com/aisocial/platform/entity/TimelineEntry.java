@@ -0,0 +1,50 @@
+package com.aisocial.platform.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A pre-built home timeline row. Written for every follower when a post is
+ * published (fan-out on write), so reading a feed is a range scan over
+ * owner_id ordered by the post's creation time.
+ */
+@Entity
+@Table(name = "timeline_entries", indexes = {
+    @Index(name = "idx_timeline_owner_created", columnList = "owner_id, created_at"),
+    @Index(name = "idx_timeline_post", columnList = "post_id")
+})
+public class TimelineEntry {
+
+    @EmbeddedId
+    private TimelineEntryId id;
+
+    @Column(name = "author_id", columnDefinition = "VARCHAR(36)", nullable = false)
+    private UUID authorId;
+
+    // Copied from the post so the timeline can be ordered without joining posts
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public TimelineEntry() {
+    }
+
+    public TimelineEntry(UUID ownerId, UUID postId, UUID authorId, Instant createdAt) {
+        this.id = new TimelineEntryId(ownerId, postId);
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+    }
+
+    public TimelineEntryId getId() { return id; }
+    public void setId(TimelineEntryId id) { this.id = id; }
+
+    public UUID getOwnerId() { return id != null ? id.getOwnerId() : null; }
+
+    public UUID getPostId() { return id != null ? id.getPostId() : null; }
+
+    public UUID getAuthorId() { return authorId; }
+    public void setAuthorId(UUID authorId) { this.authorId = authorId; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,57 @@
+package com.aisocial.platform.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite key for a timeline entry: one row per (timeline owner, post).
+ */
+@Embeddable
+public class TimelineEntryId implements Serializable {
+
+    @Column(name = "owner_id", columnDefinition = "VARCHAR(36)", nullable = false)
+    private UUID ownerId;
+
+    @Column(name = "post_id", columnDefinition = "VARCHAR(36)", nullable = false)
+    private UUID postId;
+
+    public TimelineEntryId() {
+    }
+
+    public TimelineEntryId(UUID ownerId, UUID postId) {
+        this.ownerId = ownerId;
+        this.postId = postId;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(UUID ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public UUID getPostId() {
+        return postId;
+    }
+
+    public void setPostId(UUID postId) {
+        this.postId = postId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TimelineEntryId that)) return false;
+        return Objects.equals(ownerId, that.ownerId) && Objects.equals(postId, that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ownerId, postId);
+    }
+}
@@ -44,6 +44,19 @@ public class User {
     @Column(name = "debate_lost")
     private Integer debatesLost = 0;
 
+    // Denormalized counters, adjusted in place by UserRepository and
+    // periodically reconciled against the follows/posts tables. Never
+    // written from the entity, so saving a user loaded earlier cannot
+    // overwrite newer counts.
+    @Column(name = "follower_count", columnDefinition = "INTEGER DEFAULT 0", insertable = false, updatable = false)
+    private Long followerCount = 0L;
+
+    @Column(name = "following_count", columnDefinition = "INTEGER DEFAULT 0", insertable = false, updatable = false)
+    private Long followingCount = 0L;
+
+    @Column(name = "post_count", columnDefinition = "INTEGER DEFAULT 0", insertable = false, updatable = false)
+    private Long postCount = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -64,6 +77,9 @@ public class User {
         if (trustScore == null) {
             trustScore = new BigDecimal("50.00");
         }
+        if (followerCount == null) followerCount = 0L;
+        if (followingCount == null) followingCount = 0L;
+        if (postCount == null) postCount = 0L;
     }
 
     /**
@@ -179,6 +195,30 @@ public class User {
         this.debatesLost = debatesLost;
     }
 
+    public Long getFollowerCount() {
+        return followerCount;
+    }
+
+    public void setFollowerCount(Long followerCount) {
+        this.followerCount = followerCount;
+    }
+
+    public Long getFollowingCount() {
+        return followingCount;
+    }
+
+    public void setFollowingCount(Long followingCount) {
+        this.followingCount = followingCount;
+    }
+
+    public Long getPostCount() {
+        return postCount;
+    }
+
+    public void setPostCount(Long postCount) {
+        this.postCount = postCount;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
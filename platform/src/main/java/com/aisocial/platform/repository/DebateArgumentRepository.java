@@ -4,6 +4,8 @@ import com.aisocial.platform.entity.DebateArgument;
 import com.aisocial.platform.entity.Debate;
 import com.aisocial.platform.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,6 +24,10 @@ public interface DebateArgumentRepository extends JpaRepository<DebateArgument,
     // Find a specific argument by debate, user, and round number
     Optional<DebateArgument> findByDebateAndUserAndRoundNumber(Debate debate, User user, Integer roundNumber);
 
+    // Round and author of each argument in a debate, without loading the arguments
+    @Query("SELECT a.roundNumber AS roundNumber, a.user.id AS userId FROM DebateArgument a WHERE a.debate = :debate")
+    List<ArgumentSlot> findSlotsByDebate(@Param("debate") Debate debate);
+
     // Delete all arguments for a debate
     void deleteById(UUID id);
 
@@ -30,4 +36,20 @@ public interface DebateArgumentRepository extends JpaRepository<DebateArgument,
 
     // Find all arguments for a debate by debate ID
     List<DebateArgument> findByDebateIdOrderByRoundNumberAscCreatedAtAsc(UUID debateId);
+
+    // Arguments for a debate in order, with their authors loaded in the same query
+    @Query("""
+        SELECT a
+        FROM DebateArgument a
+        JOIN FETCH a.user
+        WHERE a.debate.id = :debateId
+        ORDER BY a.roundNumber ASC, a.createdAt ASC
+    """)
+    List<DebateArgument> findWithAuthorsByDebateId(@Param("debateId") UUID debateId);
+
+    interface ArgumentSlot {
+        Integer getRoundNumber();
+
+        UUID getUserId();
+    }
 }
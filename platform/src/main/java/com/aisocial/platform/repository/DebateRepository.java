@@ -7,7 +7,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface DebateRepository extends JpaRepository<Debate, UUID> {
@@ -51,7 +53,36 @@ public interface DebateRepository extends JpaRepository<Debate, UUID> {
     """)
     List<Debate> findByStatusIn(@Param("statuses") List<DebateStatus> statuses);
 
+    /**
+     * A debate with both participants loaded in the same query.
+     */
+    @Query("""
+        SELECT d
+        FROM Debate d
+        JOIN FETCH d.challenger
+        JOIN FETCH d.defender
+        WHERE d.id = :id
+    """)
+    Optional<Debate> findWithParticipantsById(@Param("id") UUID id);
+
+    /**
+     * Id and deadline of every debate still open for votes, without loading
+     * the debates themselves.
+     */
+    @Query("""
+        SELECT d.id AS id, d.votingEndsAt AS votingEndsAt
+        FROM Debate d
+        WHERE d.status = com.aisocial.platform.entity.DebateStatus.VOTING
+    """)
+    List<VotingDeadline> findVotingDeadlines();
+
     boolean existsByChallenger(User challenger);
 
     boolean existsByDefender(User defender);
+
+    interface VotingDeadline {
+        UUID getId();
+
+        Instant getVotingEndsAt();
+    }
 }
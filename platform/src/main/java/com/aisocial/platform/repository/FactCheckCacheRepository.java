@@ -0,0 +1,20 @@
+package com.aisocial.platform.repository;
+
+import com.aisocial.platform.entity.FactCheckCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface FactCheckCacheRepository extends JpaRepository<FactCheckCacheEntry, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FactCheckCacheEntry e WHERE e.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
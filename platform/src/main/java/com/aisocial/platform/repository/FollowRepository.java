@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +30,12 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
     @Query("SELECT f.following FROM Follow f WHERE f.follower.id = :userId ORDER BY f.createdAt DESC")
     List<User> findFollowingByUserId(@Param("userId") UUID userId);
 
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId AND f.following.id IN :authorIds")
+    List<UUID> findFollowedAmong(@Param("userId") UUID userId, @Param("authorIds") Collection<UUID> authorIds);
+
+    @Query("SELECT f.following.id FROM Follow f GROUP BY f.following.id HAVING COUNT(f) >= :threshold")
+    List<UUID> findUserIdsWithFollowersAtLeast(@Param("threshold") long threshold);
+
     @Modifying
     void deleteByFollower_IdAndFollowing_Id(UUID followerId, UUID followingId);
 }
\ No newline at end of file
@@ -4,7 +4,11 @@ import com.aisocial.platform.entity.Like;
 import com.aisocial.platform.entity.Post;
 import com.aisocial.platform.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +21,7 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
     void deleteByUserAndPost(User user, Post post);
 
     boolean existsByUser_IdAndPost_Id(UUID userId, UUID postId);
+
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<UUID> findLikedAmong(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
 }
@@ -5,10 +5,11 @@ import com.aisocial.platform.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +19,8 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 
     List<Post> findByAuthorOrderByCreatedAtDesc(User author);
 
+    List<Post> findByAuthor_IdOrderByCreatedAtDescIdDesc(UUID authorId, Pageable pageable);
+
     List<Post> findByAuthorAndReplyToIsNotNullOrderByCreatedAtDesc(User author);
 
     long countByAuthor(User author);
@@ -28,6 +31,9 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 
     boolean existsByAuthor_IdAndRepostOf_Id(UUID authorId, UUID originalPostId);
 
+    @Query("SELECT p.repostOf.id FROM Post p WHERE p.author.id = :authorId AND p.repostOf.id IN :postIds")
+    List<UUID> findRepostedAmong(@Param("authorId") UUID authorId, @Param("postIds") Collection<UUID> postIds);
+
     List<Post> findByReplyTo_IdOrderByCreatedAtAsc(UUID parentPostId);
 
     @Query("""
@@ -39,18 +45,136 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
     List<Post> findFeedPostsByAuthors(@Param("authors") List<User> authors);
 
     @Query("""
-        SELECT p FROM Post p
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.id IN :ids
+    """)
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // -------------------------
+    // Keyset pages, newest first on (createdAt, id).
+    // The "createdAt <= :createdAt" bound lets SQLite seek the index instead
+    // of scanning past every newer row, so deep pages cost the same as page one.
+    // -------------------------
+
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.author.id = :authorId
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    Slice<Post> findPageByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
+
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.author.id = :authorId
+          AND p.createdAt <= :createdAt
+          AND (p.createdAt < :createdAt OR p.id < :id)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    Slice<Post> findPageByAuthorBefore(@Param("authorId") UUID authorId,
+                                       @Param("createdAt") Instant createdAt,
+                                       @Param("id") UUID id,
+                                       Pageable pageable);
+
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.author.id = :authorId AND p.replyTo IS NOT NULL
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    Slice<Post> findReplyPageByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
+
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.author.id = :authorId AND p.replyTo IS NOT NULL
+          AND p.createdAt <= :createdAt
+          AND (p.createdAt < :createdAt OR p.id < :id)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    Slice<Post> findReplyPageByAuthorBefore(@Param("authorId") UUID authorId,
+                                            @Param("createdAt") Instant createdAt,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+
+    // Replies to a post read oldest first, so their keyset runs ascending
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.replyTo.id = :postId
+        ORDER BY p.createdAt ASC, p.id ASC
+    """)
+    Slice<Post> findReplyPageByParent(@Param("postId") UUID postId, Pageable pageable);
+
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
+        WHERE p.replyTo.id = :postId
+          AND p.createdAt >= :createdAt
+          AND (p.createdAt > :createdAt OR p.id > :id)
+        ORDER BY p.createdAt ASC, p.id ASC
+    """)
+    Slice<Post> findReplyPageByParentAfter(@Param("postId") UUID postId,
+                                           @Param("createdAt") Instant createdAt,
+                                           @Param("id") UUID id,
+                                           Pageable pageable);
+
+    @Query("""
+        SELECT p FROM Post p JOIN FETCH p.author
+        LEFT JOIN FETCH p.repostOf r LEFT JOIN FETCH r.author
         WHERE (:author IS NULL OR p.author = :author)
           AND (:start IS NULL OR p.createdAt >= :start)
           AND (:end IS NULL OR p.createdAt <= :end)
-          AND (:query IS NULL OR LOWER(p.content) LIKE LOWER(CONCAT('%', :query, '%')))
-        ORDER BY p.createdAt DESC
+          AND (:cursorAt IS NULL
+               OR (p.createdAt <= :cursorAt AND (p.createdAt < :cursorAt OR p.id < :cursorId)))
+        ORDER BY p.createdAt DESC, p.id DESC
     """)
-    Page<Post> searchPosts(
-            @Param("query") String query,
+    Slice<Post> findPageFiltered(
             @Param("author") User author,
             @Param("start") Instant start,
             @Param("end") Instant end,
+            @Param("cursorAt") Instant cursorAt,
+            @Param("cursorId") UUID cursorId,
             Pageable pageable
     );
+
+    /**
+     * Full-text search over the posts_fts index (see PostSearchIndex), best
+     * BM25 match first. Returns rows of [post id, score]; pass the last row
+     * back as afterScore/afterId for the next page. Times are epoch millis.
+     *
+     * The score is BM25 scaled to an integer (micro-units), so the cursor
+     * compares exactly instead of matching a float. BM25 depends on the whole
+     * corpus, though: when posts change between requests, later pages are
+     * ranked against slightly different scores and may skip or repeat a
+     * result near the page boundary. Paging is approximate in that sense.
+     */
+    @Query(value = """
+        SELECT r.id, r.score FROM (
+            SELECT p.id AS id, CAST(round(bm25(posts_fts) * 1000000) AS INTEGER) AS score
+            FROM posts_fts
+            JOIN posts_fts_map m ON m.rowid = posts_fts.rowid
+            JOIN posts p ON p.id = m.post_id
+            WHERE posts_fts MATCH :match
+              AND (:authorId IS NULL OR p.author_id = :authorId)
+              AND (:start IS NULL OR p.created_at >= :start)
+              AND (:end IS NULL OR p.created_at <= :end)
+        ) r
+        WHERE :afterScore IS NULL
+           OR r.score > :afterScore
+           OR (r.score = :afterScore AND r.id > :afterId)
+        ORDER BY r.score, r.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> searchRanked(
+            @Param("match") String match,
+            @Param("authorId") String authorId,
+            @Param("start") Long start,
+            @Param("end") Long end,
+            @Param("afterScore") Long afterScore,
+            @Param("afterId") String afterId,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,160 @@
+package com.aisocial.platform.repository;
+
+import com.aisocial.platform.entity.TimelineEntry;
+import com.aisocial.platform.entity.TimelineEntryId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, TimelineEntryId> {
+
+    @Query("""
+        SELECT t
+        FROM TimelineEntry t
+        WHERE t.id.ownerId = :ownerId
+        ORDER BY t.createdAt DESC, t.id.postId DESC
+    """)
+    List<TimelineEntry> findLatestByOwner(@Param("ownerId") UUID ownerId, Pageable pageable);
+
+    // Keyset continuation of findLatestByOwner, seeking past (createdAt, postId)
+    @Query("""
+        SELECT t
+        FROM TimelineEntry t
+        WHERE t.id.ownerId = :ownerId
+          AND t.createdAt <= :createdAt
+          AND (t.createdAt < :createdAt OR t.id.postId < :postId)
+        ORDER BY t.createdAt DESC, t.id.postId DESC
+    """)
+    List<TimelineEntry> findLatestByOwnerBefore(@Param("ownerId") UUID ownerId,
+                                                @Param("createdAt") Instant createdAt,
+                                                @Param("postId") UUID postId,
+                                                Pageable pageable);
+
+    long countById_OwnerId(UUID ownerId);
+
+    // Fan-out on write: one row per follower of the post's author
+    @Modifying
+    @Query(value = """
+        INSERT OR IGNORE INTO timeline_entries (owner_id, post_id, author_id, created_at)
+        SELECT f.follower_id, p.id, p.author_id, p.created_at
+        FROM posts p
+        JOIN follows f ON f.following_id = p.author_id
+        WHERE p.id = :postId
+    """, nativeQuery = true)
+    int fanOutToFollowers(@Param("postId") UUID postId);
+
+    // Copy the author's most recent posts into a new follower's timeline
+    @Modifying
+    @Query(value = """
+        INSERT OR IGNORE INTO timeline_entries (owner_id, post_id, author_id, created_at)
+        SELECT f.follower_id, p.id, p.author_id, p.created_at
+        FROM follows f
+        JOIN posts p ON p.author_id = f.following_id
+        WHERE f.follower_id = :ownerId AND f.following_id = :authorId
+        ORDER BY p.created_at DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    int backfillFromAuthor(@Param("ownerId") UUID ownerId,
+                           @Param("authorId") UUID authorId,
+                           @Param("limit") int limit);
+
+    // Push an author's recent posts to all of their followers (author leaving pull mode)
+    @Modifying
+    @Query(value = """
+        INSERT OR IGNORE INTO timeline_entries (owner_id, post_id, author_id, created_at)
+        SELECT f.follower_id, p.id, p.author_id, p.created_at
+        FROM follows f
+        JOIN (
+            SELECT id, author_id, created_at
+            FROM posts
+            WHERE author_id = :authorId
+            ORDER BY created_at DESC
+            LIMIT :limit
+        ) p ON p.author_id = f.following_id
+    """, nativeQuery = true)
+    int backfillFollowersOfAuthor(@Param("authorId") UUID authorId, @Param("limit") int limit);
+
+    // Rebuild a single timeline from everyone the owner follows
+    @Modifying
+    @Query(value = """
+        INSERT OR IGNORE INTO timeline_entries (owner_id, post_id, author_id, created_at)
+        SELECT f.follower_id, p.id, p.author_id, p.created_at
+        FROM follows f
+        JOIN posts p ON p.author_id = f.following_id
+        WHERE f.follower_id = :ownerId
+        ORDER BY p.created_at DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    int backfillOwner(@Param("ownerId") UUID ownerId, @Param("limit") int limit);
+
+    // Backfill every timeline from existing follows, keeping the newest :limit per owner
+    @Modifying
+    @Query(value = """
+        INSERT OR IGNORE INTO timeline_entries (owner_id, post_id, author_id, created_at)
+        SELECT owner_id, post_id, author_id, created_at
+        FROM (
+            SELECT f.follower_id AS owner_id, p.id AS post_id, p.author_id AS author_id, p.created_at AS created_at,
+                   ROW_NUMBER() OVER (PARTITION BY f.follower_id ORDER BY p.created_at DESC) AS rn
+            FROM follows f
+            JOIN posts p ON p.author_id = f.following_id
+        )
+        WHERE rn <= :limit
+    """, nativeQuery = true)
+    int backfillAll(@Param("limit") int limit);
+
+    // Drop everything past the newest :limit entries of each timeline
+    @Modifying
+    @Query(value = """
+        DELETE FROM timeline_entries
+        WHERE (owner_id, post_id) IN (
+            SELECT owner_id, post_id
+            FROM (
+                SELECT owner_id, post_id,
+                       ROW_NUMBER() OVER (PARTITION BY owner_id ORDER BY created_at DESC) AS rn
+                FROM timeline_entries
+            )
+            WHERE rn > :limit
+        )
+    """, nativeQuery = true)
+    int trimAll(@Param("limit") int limit);
+
+    // trimAll restricted to the timelines of the given authors' followers
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE FROM timeline_entries
+        WHERE (owner_id, post_id) IN (
+            SELECT owner_id, post_id
+            FROM (
+                SELECT owner_id, post_id,
+                       ROW_NUMBER() OVER (PARTITION BY owner_id ORDER BY created_at DESC, post_id DESC) AS rn
+                FROM timeline_entries
+                WHERE owner_id IN (SELECT follower_id FROM follows WHERE following_id IN (:authorIds))
+            )
+            WHERE rn > :limit
+        )
+    """, nativeQuery = true)
+    int trimFollowersOf(@Param("authorIds") Collection<UUID> authorIds, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.id.postId = :postId")
+    int deleteByPostId(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.id.ownerId = :ownerId AND t.authorId = :authorId")
+    int deleteByOwnerAndAuthor(@Param("ownerId") UUID ownerId, @Param("authorId") UUID authorId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.id.ownerId = :ownerId")
+    int deleteByOwner(@Param("ownerId") UUID ownerId);
+}
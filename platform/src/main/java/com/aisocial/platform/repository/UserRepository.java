@@ -5,11 +5,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -91,4 +95,51 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
            "LOWER(u.displayName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
            "ORDER BY u.trustScore DESC")
     Page<User> searchByUsernameOrDisplayNameOrderByTrustScore(@Param("searchTerm") String searchTerm, Pageable pageable);
-}
\ No newline at end of file
+
+    // -------------------------
+    // Denormalized counters. Each adjustment is a single atomic UPDATE so
+    // concurrent follows and posts never lose an increment.
+    // -------------------------
+
+    @Query("SELECT u.followerCount FROM User u WHERE u.id = :userId")
+    Optional<Long> findFollowerCountById(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = COALESCE(u.followerCount, 0) + :delta WHERE u.id = :userId")
+    int adjustFollowerCount(@Param("userId") UUID userId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = COALESCE(u.followingCount, 0) + :delta WHERE u.id = :userId")
+    int adjustFollowingCount(@Param("userId") UUID userId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = COALESCE(u.postCount, 0) + :delta WHERE u.id = :userId")
+    int adjustPostCount(@Param("userId") UUID userId, @Param("delta") long delta);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<UUID> findFirstIds(Pageable pageable);
+
+    /**
+     * Recompute the counters of the given users from the source tables,
+     * touching only rows that have drifted. Returns the number corrected.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE users SET
+            follower_count  = (SELECT COUNT(*) FROM follows f WHERE f.following_id = users.id),
+            following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = users.id),
+            post_count      = (SELECT COUNT(*) FROM posts p WHERE p.author_id = users.id)
+        WHERE id IN (:ids)
+          AND (follower_count  IS NOT (SELECT COUNT(*) FROM follows f WHERE f.following_id = users.id)
+            OR following_count IS NOT (SELECT COUNT(*) FROM follows f WHERE f.follower_id = users.id)
+            OR post_count      IS NOT (SELECT COUNT(*) FROM posts p WHERE p.author_id = users.id))
+    """, nativeQuery = true)
+    int reconcileCounters(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,65 @@
+package com.aisocial.platform.service;
+
+/**
+ * Concurrency limit that adapts to provider latency (AIMD).
+ *
+ * Each call that finishes under the latency target while the limit is at
+ * least half used grows the limit by one (additive increase); a call that is
+ * slower than the target or fails shrinks it by {@code backoffRatio}
+ * (multiplicative decrease). When the provider slows down, fewer calls are
+ * let through and the rest are refused straight away instead of queueing.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    long latencyTargetNanos, double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= getLimit()) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void onSuccess(long latencyNanos) {
+        boolean saturated = inFlight * 2 >= getLimit();
+        inFlight--;
+        if (latencyNanos > latencyTargetNanos) {
+            decrease();
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public synchronized void onFailure() {
+        inFlight--;
+        decrease();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
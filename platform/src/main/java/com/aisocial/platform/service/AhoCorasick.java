@@ -0,0 +1,97 @@
+package com.aisocial.platform.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable Aho-Corasick automaton over a fixed set of patterns.
+ *
+ * {@link #search} reports every occurrence of every pattern in one pass over
+ * the text, so the cost does not grow with the number of patterns. Patterns
+ * are matched as given (callers normalize case and spacing first).
+ */
+final class AhoCorasick {
+
+    /**
+     * One occurrence: which pattern (by index in the build list) and where.
+     */
+    record Hit(int pattern, int start, int end) {}
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failure = new ArrayList<>();
+    // Patterns ending at each state, including those reached by failure links
+    private final List<List<Integer>> outputs = new ArrayList<>();
+    private final int[] lengths;
+
+    AhoCorasick(List<String> patterns) {
+        this.lengths = new int[patterns.size()];
+        newState();
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i);
+            lengths[i] = pattern.length();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int j = 0; j < pattern.length(); j++) {
+                char c = pattern.charAt(j);
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = newState();
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(i);
+        }
+        buildFailureLinks();
+    }
+
+    List<Hit> search(CharSequence text) {
+        List<Hit> hits = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failure.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            for (int pattern : outputs.get(state)) {
+                hits.add(new Hit(pattern, i + 1 - lengths[pattern], i + 1));
+            }
+        }
+        return hits;
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        failure.add(0);
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    // Breadth-first, so a state's failure target is complete before its children
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int fallback = failure.get(state);
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failure.get(fallback);
+                }
+                Integer target = transitions.get(fallback).get(c);
+                int link = target != null && target != child ? target : 0;
+                failure.set(child, link);
+                outputs.get(child).addAll(outputs.get(link));
+                queue.add(child);
+            }
+        }
+    }
+}
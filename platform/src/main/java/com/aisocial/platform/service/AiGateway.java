@@ -0,0 +1,269 @@
+package com.aisocial.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point for ChatClient calls, blocking or streamed.
+ *
+ * Every call passes three guards before it reaches the provider:
+ * <ul>
+ *   <li>a semaphore bulkhead per {@link Use}, so assistant traffic cannot
+ *       starve fact-checks (or the other way round);</li>
+ *   <li>an {@link AdaptiveConcurrencyLimit} shared by all uses that shrinks
+ *       when provider latency rises;</li>
+ *   <li>a {@link CircuitBreaker} that fails fast after repeated errors.</li>
+ * </ul>
+ * The limit and breaker are kept per model: calls that name a model (e.g.
+ * the fast tier of the fact-check cascade) get their own pair, so a failing
+ * or slow cheap model cannot open the circuit or shrink the limit for the
+ * default one.
+ * Refused calls throw {@link AiUnavailableException} immediately, which the
+ * calling services turn into their usual error result, so request threads
+ * do not pile up behind a slow provider.
+ */
+@Component
+public class AiGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(AiGateway.class);
+
+    public enum Use { FACT_CHECK, ASSISTANT }
+
+    private final ChatClient chatClient;
+    private final Map<Use, Semaphore> bulkheads = new EnumMap<>(Use.class);
+    private final Map<Use, Integer> bulkheadSizes = new EnumMap<>(Use.class);
+    private final long bulkheadWaitMs;
+    private final Guards defaultGuards;
+    private final Map<String, Guards> modelGuards = new ConcurrentHashMap<>();
+    private final Supplier<Guards> newGuards;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejectedBulkhead = new LongAdder();
+    private final LongAdder rejectedLimit = new LongAdder();
+    private final LongAdder rejectedCircuit = new LongAdder();
+    private volatile double averageLatencyMs;
+
+    public AiGateway(ChatClient.Builder chatClientBuilder,
+                     @Value("${app.ai.bulkhead.fact-check:8}") int factCheckPermits,
+                     @Value("${app.ai.bulkhead.assistant:4}") int assistantPermits,
+                     @Value("${app.ai.bulkhead.max-wait-ms:50}") long bulkheadWaitMs,
+                     @Value("${app.ai.limit.initial:8}") int initialLimit,
+                     @Value("${app.ai.limit.min:1}") int minLimit,
+                     @Value("${app.ai.limit.max:32}") int maxLimit,
+                     @Value("${app.ai.limit.latency-target-ms:8000}") long latencyTargetMs,
+                     @Value("${app.ai.breaker.failure-threshold:5}") int failureThreshold,
+                     @Value("${app.ai.breaker.open-ms:30000}") long openMs) {
+        this.chatClient = chatClientBuilder.build();
+        this.bulkheadSizes.put(Use.FACT_CHECK, factCheckPermits);
+        this.bulkheadSizes.put(Use.ASSISTANT, assistantPermits);
+        this.bulkheadSizes.forEach((use, permits) -> bulkheads.put(use, new Semaphore(permits)));
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.newGuards = () -> new Guards(
+                new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+                        TimeUnit.MILLISECONDS.toNanos(latencyTargetMs), 0.9),
+                new CircuitBreaker(failureThreshold, Duration.ofMillis(openMs), Clock.systemUTC()));
+        this.defaultGuards = newGuards.get();
+    }
+
+    /**
+     * Send a single user prompt and return the response text.
+     *
+     * @throws AiUnavailableException if the call was refused by a guard
+     * @throws RuntimeException whatever the provider call itself throws
+     */
+    public String call(Use use, String prompt) {
+        return call(use, prompt, null);
+    }
+
+    /**
+     * Like {@link #call(Use, String)} but on the given model instead of the
+     * configured default (null keeps the default).
+     */
+    public String call(Use use, String prompt, String model) {
+        return guarded(use, model, () -> {
+            ChatClient.ChatClientRequestSpec request = chatClient.prompt();
+            if (model != null && !model.isBlank()) {
+                request = request.options(ChatOptions.builder().model(model).build());
+            }
+            return request.user(prompt)
+                    .call()
+                    .content();
+        });
+    }
+
+    /**
+     * Send a single user prompt and stream the response, handing each chunk
+     * to {@code onChunk} as it arrives. Stops reading early once
+     * {@code cancelled} returns true. Holds the same guards as {@link #call}
+     * for the whole stream and returns the text received.
+     *
+     * @throws AiUnavailableException if the call was refused by a guard
+     * @throws RuntimeException whatever the provider stream itself throws
+     */
+    public String stream(Use use, String prompt, Consumer<String> onChunk, BooleanSupplier cancelled) {
+        return guarded(use, null, () -> {
+            StringBuilder text = new StringBuilder();
+            chatClient.prompt()
+                    .user(prompt)
+                    .stream()
+                    .content()
+                    .takeWhile(chunk -> !cancelled.getAsBoolean())
+                    .doOnNext(chunk -> {
+                        text.append(chunk);
+                        onChunk.accept(chunk);
+                    })
+                    .blockLast();
+            return text.toString();
+        });
+    }
+
+    public Stats stats() {
+        Map<Use, Integer> bulkheadInUse = new EnumMap<>(Use.class);
+        bulkheads.forEach((use, semaphore) ->
+                bulkheadInUse.put(use, bulkheadSizes.get(use) - semaphore.availablePermits()));
+        Map<String, CircuitBreaker.State> modelCircuitStates = new TreeMap<>();
+        modelGuards.forEach((model, guards) -> modelCircuitStates.put(model, guards.breaker().getState()));
+        return new Stats(calls.sum(), successes.sum(), failures.sum(),
+                rejectedBulkhead.sum(), rejectedLimit.sum(), rejectedCircuit.sum(),
+                defaultGuards.limit().getLimit(), defaultGuards.limit().getInFlight(),
+                defaultGuards.breaker().getState(), modelCircuitStates,
+                bulkheadInUse, averageLatencyMs);
+    }
+
+    private record Guards(AdaptiveConcurrencyLimit limit, CircuitBreaker breaker) {
+    }
+
+    private String guarded(Use use, String model, Supplier<String> providerCall) {
+        Guards guards = model == null || model.isBlank()
+                ? defaultGuards
+                : modelGuards.computeIfAbsent(model, name -> newGuards.get());
+        AdaptiveConcurrencyLimit limit = guards.limit();
+        CircuitBreaker breaker = guards.breaker();
+        Semaphore bulkhead = bulkheads.get(use);
+        if (!acquire(bulkhead)) {
+            rejectedBulkhead.increment();
+            throw new AiUnavailableException("AI " + use + " capacity exhausted");
+        }
+        try {
+            if (!breaker.tryAcquire()) {
+                rejectedCircuit.increment();
+                throw new AiUnavailableException(model == null || model.isBlank()
+                        ? "AI provider circuit open"
+                        : "AI provider circuit open for " + model);
+            }
+            if (!limit.tryAcquire()) {
+                breaker.onRelease();
+                rejectedLimit.increment();
+                throw new AiUnavailableException("AI concurrency limit reached");
+            }
+
+            calls.increment();
+            long start = System.nanoTime();
+            try {
+                String content = providerCall.get();
+                long latency = System.nanoTime() - start;
+                limit.onSuccess(latency);
+                breaker.onSuccess();
+                successes.increment();
+                recordLatency(latency);
+                return content;
+            } catch (RuntimeException e) {
+                limit.onFailure();
+                breaker.onFailure();
+                failures.increment();
+                log.warn("AI {} call failed after {} ms: {}", use,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e.getMessage());
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Exponentially weighted moving average; races only blur the estimate
+    private void recordLatency(long latencyNanos) {
+        double ms = latencyNanos / 1_000_000.0;
+        double current = averageLatencyMs;
+        averageLatencyMs = current == 0 ? ms : current * 0.8 + ms * 0.2;
+    }
+
+    /**
+     * Gateway counters since startup plus the current guard state. The limit
+     * and circuit state are the default model's; models named per call
+     * report their circuit state separately.
+     */
+    public static class Stats {
+        private final long calls;
+        private final long successes;
+        private final long failures;
+        private final long rejectedBulkhead;
+        private final long rejectedLimit;
+        private final long rejectedCircuit;
+        private final int concurrencyLimit;
+        private final int inFlight;
+        private final CircuitBreaker.State circuitState;
+        private final Map<String, CircuitBreaker.State> modelCircuitStates;
+        private final Map<Use, Integer> bulkheadInUse;
+        private final double averageLatencyMs;
+
+        public Stats(long calls, long successes, long failures,
+                     long rejectedBulkhead, long rejectedLimit, long rejectedCircuit,
+                     int concurrencyLimit, int inFlight, CircuitBreaker.State circuitState,
+                     Map<String, CircuitBreaker.State> modelCircuitStates,
+                     Map<Use, Integer> bulkheadInUse, double averageLatencyMs) {
+            this.calls = calls;
+            this.successes = successes;
+            this.failures = failures;
+            this.rejectedBulkhead = rejectedBulkhead;
+            this.rejectedLimit = rejectedLimit;
+            this.rejectedCircuit = rejectedCircuit;
+            this.concurrencyLimit = concurrencyLimit;
+            this.inFlight = inFlight;
+            this.circuitState = circuitState;
+            this.modelCircuitStates = modelCircuitStates;
+            this.bulkheadInUse = bulkheadInUse;
+            this.averageLatencyMs = averageLatencyMs;
+        }
+
+        public long getCalls() { return calls; }
+        public long getSuccesses() { return successes; }
+        public long getFailures() { return failures; }
+        public long getRejectedBulkhead() { return rejectedBulkhead; }
+        public long getRejectedLimit() { return rejectedLimit; }
+        public long getRejectedCircuit() { return rejectedCircuit; }
+        public int getConcurrencyLimit() { return concurrencyLimit; }
+        public int getInFlight() { return inFlight; }
+        public CircuitBreaker.State getCircuitState() { return circuitState; }
+        public Map<String, CircuitBreaker.State> getModelCircuitStates() { return modelCircuitStates; }
+        public Map<Use, Integer> getBulkheadInUse() { return bulkheadInUse; }
+        public double getAverageLatencyMs() { return averageLatencyMs; }
+    }
+}
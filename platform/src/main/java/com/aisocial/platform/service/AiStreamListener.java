@@ -0,0 +1,20 @@
+package com.aisocial.platform.service;
+
+/**
+ * Receives the pieces of a streamed AI response as they arrive: the raw
+ * tokens, plus named events for each part of the answer that has been
+ * fully parsed (a verdict, a suggestion, ...).
+ */
+public interface AiStreamListener {
+
+    void onToken(String token);
+
+    void onEvent(String name, Object data);
+
+    /**
+     * True once nobody is listening any more, so the stream can stop early.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
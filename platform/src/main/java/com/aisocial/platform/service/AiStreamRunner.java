@@ -0,0 +1,112 @@
+package com.aisocial.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Runs a streaming AI task off the request thread and relays it to the
+ * client as server-sent events.
+ *
+ * Events: "token" for each raw model chunk, whatever named events the task
+ * emits while parsing, then a final "result" carrying the task's return
+ * value. If the client disconnects the listener reports cancelled, so the
+ * model stream is abandoned instead of read to the end.
+ */
+@Component
+public class AiStreamRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AiStreamRunner.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public AiStreamRunner(@Value("${app.ai.stream.workers:8}") int workers,
+                          @Value("${app.ai.stream.queue-capacity:32}") int queueCapacity,
+                          @Value("${app.ai.stream.timeout-ms:120000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+
+        this.executor = BoundedExecutors.fixed("ai-stream", workers, queueCapacity);
+    }
+
+    /**
+     * Start the task and return the emitter the controller hands back to MVC.
+     */
+    public SseEmitter stream(Function<AiStreamListener, ?> task) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        EmitterListener listener = new EmitterListener(emitter);
+        emitter.onCompletion(listener::cancel);
+        emitter.onTimeout(listener::cancel);
+        emitter.onError(error -> listener.cancel());
+
+        try {
+            executor.execute(() -> {
+                try {
+                    Object result = task.apply(listener);
+                    listener.onEvent("result", result);
+                    emitter.complete();
+                } catch (RuntimeException e) {
+                    log.error("AI stream failed: {}", e.getMessage(), e);
+                    listener.onEvent("error", Map.of("error", "AI stream failed"));
+                    emitter.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            listener.onEvent("error", Map.of("error", "AI streaming capacity exhausted"));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class EmitterListener implements AiStreamListener {
+        private final SseEmitter emitter;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        EmitterListener(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onToken(String token) {
+            onEvent("token", Map.of("text", token));
+        }
+
+        @Override
+        public void onEvent(String name, Object data) {
+            if (cancelled.get()) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("AI stream client went away: {}", e.getMessage());
+                cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        void cancel() {
+            cancelled.set(true);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.aisocial.platform.service;
+
+/**
+ * Thrown by {@link AiGateway} when a call is refused without reaching the
+ * provider: the caller's bulkhead is full, the adaptive limit is reached or
+ * the circuit breaker is open.
+ */
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+}
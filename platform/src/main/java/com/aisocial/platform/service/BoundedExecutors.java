@@ -0,0 +1,53 @@
+package com.aisocial.platform.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The pools background work runs on. Threads are daemons named
+ * {@code <prefix>-<n>}, so a pool never holds up shutdown and is easy to
+ * find in a thread dump; owners still stop theirs in {@code @PreDestroy}.
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {}
+
+    /**
+     * A fixed pool of {@code workers} threads over a bounded queue; tasks that
+     * do not fit are rejected with {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    public static ThreadPoolExecutor fixed(String namePrefix, int workers, int queueCapacity) {
+        return fixed(namePrefix, workers, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * A fixed pool of {@code workers} threads over a bounded queue, handing
+     * tasks that do not fit to {@code rejection}.
+     */
+    public static ThreadPoolExecutor fixed(String namePrefix, int workers, int queueCapacity,
+                                           RejectedExecutionHandler rejection) {
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads(namePrefix), rejection);
+    }
+
+    /**
+     * A scheduler with {@code workers} threads.
+     */
+    public static ScheduledThreadPoolExecutor scheduled(String namePrefix, int workers) {
+        return new ScheduledThreadPoolExecutor(workers, daemonThreads(namePrefix));
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.aisocial.platform.service;
+
+import java.time.Duration;
+
+/**
+ * A point in time by which a request must be answered, measured on the
+ * monotonic clock. Shared by every attempt made on behalf of one request.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * This deadline or {@code budget} from now, whichever comes first.
+     */
+    public Deadline cappedAt(Duration budget) {
+        long capped = System.nanoTime() + budget.toNanos();
+        return capped - deadlineNanos < 0 ? new Deadline(capped) : this;
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() == 0;
+    }
+}
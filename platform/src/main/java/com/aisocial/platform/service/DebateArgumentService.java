@@ -3,6 +3,7 @@ package com.aisocial.platform.service;
 import com.aisocial.platform.entity.DebateArgument;
 import com.aisocial.platform.entity.Debate;
 import com.aisocial.platform.repository.DebateArgumentRepository;
+import com.aisocial.platform.repository.DebateRepository;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -18,9 +19,11 @@ import java.util.UUID;
 public class DebateArgumentService {
 
     private final DebateArgumentRepository debateArgumentRepository;
+    private final DebateRepository debateRepository;
 
-    public DebateArgumentService(DebateArgumentRepository debateArgumentRepository) {
+    public DebateArgumentService(DebateArgumentRepository debateArgumentRepository, DebateRepository debateRepository) {
         this.debateArgumentRepository = debateArgumentRepository;
+        this.debateRepository = debateRepository;
     }
 
     public DebateArgument update(UUID id, String newContent, Integer newRoundNumber) {
@@ -30,6 +33,7 @@ public class DebateArgumentService {
         if (newContent != null) existing.setContent(newContent);
         if (newRoundNumber != null) existing.setRoundNumber(newRoundNumber);
 
+        forgetTurnState(existing.getDebate());
         return debateArgumentRepository.save(existing);
     }
 
@@ -39,6 +43,7 @@ public class DebateArgumentService {
 
     // Create or update
     public DebateArgument save(DebateArgument debateArgument) {
+        forgetTurnState(debateArgument.getDebate());
         return debateArgumentRepository.save(debateArgument);
     }
 
@@ -56,6 +61,7 @@ public class DebateArgumentService {
     public boolean delete(UUID id) {
         Optional<DebateArgument> existing = debateArgumentRepository.findById(id);
         if (existing.isPresent()) {
+            forgetTurnState(existing.get().getDebate());
             debateArgumentRepository.delete(existing.get());
             return true;
         }
@@ -66,4 +72,11 @@ public class DebateArgumentService {
     public List<DebateArgument> findByDebateId(UUID debateId) {
         return debateArgumentRepository.findByDebateIdOrderByRoundNumberAscCreatedAtAsc(debateId);
     }
+
+    // Arguments changed outside DebateStateMachine: make it rebuild who has argued
+    private void forgetTurnState(Debate debate) {
+        if (debate != null && debate.getId() != null) {
+            debateRepository.findById(debate.getId()).ifPresent(managed -> managed.setArguedMask(null));
+        }
+    }
 }
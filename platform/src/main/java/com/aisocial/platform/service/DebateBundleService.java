@@ -0,0 +1,113 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.DebateArgumentDTO;
+import com.aisocial.platform.dto.DebateBundleDTO;
+import com.aisocial.platform.dto.DebateDTO;
+import com.aisocial.platform.entity.DebateVote;
+import com.aisocial.platform.entity.VoteType;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import com.aisocial.platform.repository.DebateLikeRepository;
+import com.aisocial.platform.repository.DebateRepository;
+import com.aisocial.platform.repository.DebateVoteRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Assembles the debate page in one request.
+ *
+ * The debate (participants fetched with it), its arguments (authors fetched
+ * with them), the viewer's vote and the viewer's like do not depend on each
+ * other, so the four reads run concurrently on a bounded pool and the page
+ * costs as long as the slowest of them rather than their sum. Anonymous
+ * viewers skip the last two. When the pool is saturated the reads run on
+ * the calling thread instead of failing.
+ *
+ * Each read runs in its own read-only transaction on the thread that does
+ * it, and maps entities to DTOs before that transaction ends, so lazy
+ * associations (whose turn it is, the winner) load inside a session rather
+ * than on a detached entity.
+ */
+@Service
+public class DebateBundleService {
+
+    private final DebateRepository debateRepository;
+    private final DebateArgumentRepository debateArgumentRepository;
+    private final DebateVoteRepository debateVoteRepository;
+    private final DebateLikeRepository debateLikeRepository;
+    private final DebateVoteTally debateVoteTally;
+    private final TransactionTemplate readOnly;
+    private final ThreadPoolExecutor executor;
+
+    public DebateBundleService(DebateRepository debateRepository,
+                               DebateArgumentRepository debateArgumentRepository,
+                               DebateVoteRepository debateVoteRepository,
+                               DebateLikeRepository debateLikeRepository,
+                               DebateVoteTally debateVoteTally,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.debate.bundle.workers:8}") int workers,
+                               @Value("${app.debate.bundle.queue-capacity:256}") int queueCapacity) {
+        this.debateRepository = debateRepository;
+        this.debateArgumentRepository = debateArgumentRepository;
+        this.debateVoteRepository = debateVoteRepository;
+        this.debateLikeRepository = debateLikeRepository;
+        this.debateVoteTally = debateVoteTally;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+
+        this.executor = BoundedExecutors.fixed("debate-bundle", workers, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * The debate page for {@code viewerId} (null when signed out), or empty
+     * when the debate does not exist.
+     */
+    public Optional<DebateBundleDTO> getBundle(UUID debateId, UUID viewerId) {
+        CompletableFuture<Optional<DebateDTO>> debate = async(() -> debateRepository
+                .findWithParticipantsById(debateId)
+                .map(DebateDTO::fromEntity)
+                .map(debateVoteTally::overlay));
+        CompletableFuture<List<DebateArgumentDTO>> arguments = async(() -> debateArgumentRepository
+                .findWithAuthorsByDebateId(debateId).stream()
+                .map(DebateArgumentDTO::fromEntity)
+                .toList());
+        CompletableFuture<VoteType> viewerVote = viewerId == null
+                ? CompletableFuture.completedFuture(null)
+                : async(() -> debateVoteRepository.findByDebateIdAndUserId(debateId, viewerId)
+                        .map(DebateVote::getVote)
+                        .orElse(null));
+        CompletableFuture<Boolean> viewerLiked = viewerId == null
+                ? CompletableFuture.completedFuture(false)
+                : async(() -> debateLikeRepository.existsByDebateIdAndUserId(debateId, viewerId));
+
+        try {
+            CompletableFuture.allOf(debate, arguments, viewerVote, viewerLiked).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return debate.join().map(dto ->
+                new DebateBundleDTO(dto, arguments.join(), viewerVote.join(), viewerLiked.join()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> read) {
+        return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> read.get()), executor);
+    }
+}
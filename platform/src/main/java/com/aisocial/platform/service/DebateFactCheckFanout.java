@@ -0,0 +1,130 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.entity.DebateArgument;
+import com.aisocial.platform.entity.FactCheckStatus;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Fact-checks debate arguments as soon as their round is complete, so the
+ * verdicts are there before voters arrive.
+ *
+ * On each {@link DebateRoundCompletedEvent} (after the argument is
+ * committed) the round's unchecked arguments are checked concurrently on a
+ * bounded pool. Once the debate moves to VOTING, every argument still
+ * unchecked goes through the {@link FactCheckBatcher} instead, so the
+ * backlog costs a few multi-claim calls rather than one call per argument.
+ * When all of them have answered, the verdicts are written together with
+ * one trust-score update per author. Nothing waits on the result: the
+ * submitting request returns immediately.
+ */
+@Component
+public class DebateFactCheckFanout {
+
+    private static final Logger log = LoggerFactory.getLogger(DebateFactCheckFanout.class);
+
+    private final AIFactCheckService aiFactCheckService;
+    private final FactCheckBatcher factCheckBatcher;
+    private final DebateArgumentRepository debateArgumentRepository;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+
+    public DebateFactCheckFanout(AIFactCheckService aiFactCheckService,
+                                 FactCheckBatcher factCheckBatcher,
+                                 DebateArgumentRepository debateArgumentRepository,
+                                 @Value("${app.debate.fact-check.enabled:true}") boolean enabled,
+                                 @Value("${app.debate.fact-check.workers:6}") int workers,
+                                 @Value("${app.debate.fact-check.queue-capacity:64}") int queueCapacity) {
+        this.aiFactCheckService = aiFactCheckService;
+        this.factCheckBatcher = factCheckBatcher;
+        this.debateArgumentRepository = debateArgumentRepository;
+        this.enabled = enabled;
+
+        this.executor = BoundedExecutors.fixed("debate-fact-check", workers, queueCapacity);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoundCompleted(DebateRoundCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            checkRound(event);
+        } catch (RuntimeException e) {
+            log.error("Could not start fact-checks for debate {} round {}: {}",
+                    event.debateId(), event.roundNumber(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Start checking the arguments the event covers. The future completes
+     * with the verdict of each argument once they have been stored.
+     */
+    public CompletableFuture<Map<UUID, FactCheckResultDTO>> checkRound(DebateRoundCompletedEvent event) {
+        List<DebateArgument> arguments = debateArgumentRepository
+                .findByDebateIdOrderByRoundNumberAscCreatedAtAsc(event.debateId()).stream()
+                .filter(argument -> event.debateFinished() || argument.getRoundNumber() == event.roundNumber())
+                .filter(argument -> argument.getFactCheckStatus() == FactCheckStatus.UNCHECKED)
+                .toList();
+        if (arguments.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        log.debug("Fact-checking {} arguments of debate {} (round {})",
+                arguments.size(), event.debateId(), event.roundNumber());
+        Map<UUID, CompletableFuture<FactCheckResultDTO>> checks = new LinkedHashMap<>();
+        for (DebateArgument argument : arguments) {
+            checks.put(argument.getId(), event.debateFinished()
+                    ? batched(argument.getContent())
+                    : check(argument.getContent()));
+        }
+
+        return CompletableFuture.allOf(checks.values().toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    Map<UUID, FactCheckResultDTO> results = new LinkedHashMap<>();
+                    checks.forEach((id, check) -> results.put(id, check.join()));
+                    try {
+                        aiFactCheckService.applyToArguments(results);
+                    } catch (RuntimeException e) {
+                        log.error("Could not store fact-checks for debate {}: {}", event.debateId(), e.getMessage(), e);
+                    }
+                    return results;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<FactCheckResultDTO> batched(String content) {
+        try {
+            return factCheckBatcher.submit(content);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(FactCheckResultDTO.error("Batch fact-check failed: " + e.getMessage()));
+        }
+    }
+
+    private CompletableFuture<FactCheckResultDTO> check(String content) {
+        try {
+            return CompletableFuture.supplyAsync(() -> aiFactCheckService.checkClaim(content), executor)
+                    .exceptionally(e -> FactCheckResultDTO.error("Fact-check failed: " + e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(FactCheckResultDTO.error("Debate fact-check capacity exhausted"));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aisocial.platform.service;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link DebateStateMachine} when both participants have argued
+ * in a round. {@code debateFinished} is set for the last round, when the
+ * debate has just moved to VOTING.
+ */
+public record DebateRoundCompletedEvent(UUID debateId, int roundNumber, boolean debateFinished) {
+}
@@ -18,10 +18,13 @@ public class DebateServiceImpl implements DebateService {
 
     private final DebateRepository debateRepository;
     private final UserRepository userRepository;
+    private final DebateVoteTally debateVoteTally;
 
-    public DebateServiceImpl(DebateRepository debateRepository, UserRepository userRepository) {
+    public DebateServiceImpl(DebateRepository debateRepository, UserRepository userRepository,
+                             DebateVoteTally debateVoteTally) {
         this.debateRepository = debateRepository;
         this.userRepository = userRepository;
+        this.debateVoteTally = debateVoteTally;
     }
 
     @Override
@@ -42,7 +45,7 @@ public class DebateServiceImpl implements DebateService {
         debate.setWhoseTurn(challenger);
 
         Debate saved = debateRepository.save(debate);
-        return DebateDTO.fromEntity(saved);
+        return toDto(saved);
     }
 
     @Override
@@ -63,7 +66,7 @@ public class DebateServiceImpl implements DebateService {
         debate.setWhoseTurn(debate.getChallenger());
 
         Debate saved = debateRepository.save(debate);
-        return DebateDTO.fromEntity(saved);
+        return toDto(saved);
     }
 
     @Override
@@ -87,14 +90,14 @@ public class DebateServiceImpl implements DebateService {
     @Transactional(readOnly = true)
     public Optional<DebateDTO> getDebateById(UUID debateId) {
         return debateRepository.findById(debateId)
-                .map(DebateDTO::fromEntity);
+                .map(this::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DebateDTO> getDebatesByStatus(DebateStatus status) {
         return debateRepository.findByStatus(status).stream()
-                .map(DebateDTO::fromEntity)
+                .map(this::toDto)
                 .toList();
     }
 
@@ -102,7 +105,7 @@ public class DebateServiceImpl implements DebateService {
     @Transactional(readOnly = true)
     public List<DebateDTO> getActiveDebates() {
         return debateRepository.findByStatusIn(List.of(DebateStatus.ACTIVE)).stream()
-                .map(DebateDTO::fromEntity)
+                .map(this::toDto)
                 .toList();
     }
 
@@ -110,7 +113,7 @@ public class DebateServiceImpl implements DebateService {
     @Transactional(readOnly = true)
     public List<DebateDTO> getCompletedDebates() {
         return debateRepository.findByStatusIn(List.of(DebateStatus.COMPLETED)).stream()
-                .map(DebateDTO::fromEntity)
+                .map(this::toDto)
                 .toList();
     }
 
@@ -118,7 +121,7 @@ public class DebateServiceImpl implements DebateService {
     @Transactional(readOnly = true)
     public List<DebateDTO> getVotingDebates() {
         return debateRepository.findByStatus(DebateStatus.VOTING).stream()
-                .map(DebateDTO::fromEntity)
+                .map(this::toDto)
                 .toList();
     }
 
@@ -129,7 +132,7 @@ public class DebateServiceImpl implements DebateService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         return debateRepository.findByParticipant(user).stream()
-                .map(DebateDTO::fromEntity)
+                .map(this::toDto)
                 .toList();
     }
 
@@ -140,7 +143,12 @@ public class DebateServiceImpl implements DebateService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         return debateRepository.findPendingChallengesForUser(user).stream()
-                .map(DebateDTO::fromEntity)
+                .map(this::toDto)
                 .toList();
     }
+
+    // Vote counts include votes the tally has not written yet
+    private DebateDTO toDto(Debate debate) {
+        return debateVoteTally.overlay(DebateDTO.fromEntity(debate));
+    }
 }
@@ -6,12 +6,24 @@ import com.aisocial.platform.entity.DebateStatus;
 import com.aisocial.platform.entity.User;
 import com.aisocial.platform.repository.DebateArgumentRepository;
 import com.aisocial.platform.repository.DebateRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-
+import java.util.UUID;
+
+/**
+ * Turn and round rules for debate arguments.
+ *
+ * Who has argued in which round is kept on the debate row as a bitmask
+ * (two bits per round, challenger then defender) next to the current round
+ * and whose turn it is. Turn checks read the debate already in hand, and
+ * an argument updates the mask, turn and round in the same debate write.
+ * The mask is rebuilt with one query when it is missing, e.g. for debates
+ * created before it existed or after arguments were edited directly.
+ */
 @Service
 public class DebateStateMachine {
 
@@ -19,10 +31,13 @@ public class DebateStateMachine {
 
     private final DebateArgumentRepository debateArgumentRepository;
     private final DebateRepository debateRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DebateStateMachine(DebateArgumentRepository debateArgumentRepository, DebateRepository debateRepository) {
+    public DebateStateMachine(DebateArgumentRepository debateArgumentRepository, DebateRepository debateRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.debateArgumentRepository = debateArgumentRepository;
         this.debateRepository = debateRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -53,8 +68,10 @@ public class DebateStateMachine {
 
         DebateArgument argument = new DebateArgument(debate, user, debate.getCurrentRound(), content);
         argument = debateArgumentRepository.save(argument);
+        debate.setArguedMask(arguedMask(debate) | bit(debate, user, debate.getCurrentRound()));
 
         advanceState(debate);
+        eventPublisher.publishEvent(DebateUpdateEvent.argument(debate, argument));
 
         return argument;
     }
@@ -97,8 +114,14 @@ public class DebateStateMachine {
         return debate.getChallenger();
     }
 
+    /**
+     * Move the turn, round or status on after an argument. A completed round
+     * is announced with a {@link DebateRoundCompletedEvent}; listeners that
+     * need the arguments committed should listen after commit.
+     */
     private void advanceState(Debate debate) {
         int currentRound = debate.getCurrentRound();
+        DebateRoundCompletedEvent completed = null;
 
         if (isRoundComplete(debate, currentRound)) {
             if (currentRound >= MAX_ROUNDS) {
@@ -109,11 +132,16 @@ public class DebateStateMachine {
                 debate.setCurrentRound(currentRound + 1);
                 debate.setWhoseTurn(getFirstMoverForRound(debate, currentRound + 1));
             }
+            completed = new DebateRoundCompletedEvent(debate.getId(), currentRound, currentRound >= MAX_ROUNDS);
         } else {
             debate.setWhoseTurn(getOtherParticipant(debate, debate.getWhoseTurn()));
         }
         
         debateRepository.save(debate);
+
+        if (completed != null) {
+            eventPublisher.publishEvent(completed);
+        }
     }
     
     private boolean isParticipant(Debate debate, User user) {
@@ -122,8 +150,31 @@ public class DebateStateMachine {
     }
 
     private boolean hasUserArguedInRound(Debate debate, User user, int roundNumber) {
-        return debateArgumentRepository
-                 .findByDebateAndUserAndRoundNumber(debate, user, roundNumber).isPresent();
+        return (arguedMask(debate) & bit(debate, user, roundNumber)) != 0;
+    }
+
+    private int arguedMask(Debate debate) {
+        if (debate.getArguedMask() == null) {
+            int mask = 0;
+            for (DebateArgumentRepository.ArgumentSlot slot : debateArgumentRepository.findSlotsByDebate(debate)) {
+                mask |= bit(debate, slot.getUserId(), slot.getRoundNumber());
+            }
+            debate.setArguedMask(mask);
+        }
+        return debate.getArguedMask();
+    }
+
+    private static int bit(Debate debate, User user, int roundNumber) {
+        return bit(debate, user.getId(), roundNumber);
+    }
+
+    private static int bit(Debate debate, UUID userId, Integer roundNumber) {
+        if (roundNumber == null || roundNumber < 1 || roundNumber > MAX_ROUNDS) {
+            return 0;
+        }
+        int side = userId.equals(debate.getChallenger().getId()) ? 0
+                : userId.equals(debate.getDefender().getId()) ? 1 : -1;
+        return side < 0 ? 0 : 1 << ((roundNumber - 1) * 2 + side);
     }
 
     private User getOtherParticipant(Debate debate, User user) {
@@ -0,0 +1,266 @@
+package com.aisocial.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans debate updates out to clients watching a debate over server-sent
+ * events, so they no longer poll the debate and its arguments.
+ *
+ * Subscribers are registered per debate. Each {@link DebateUpdateEvent}
+ * (after its transaction commits) is queued on every subscriber of its
+ * debate and written by a small shared pool, one drain at a time per
+ * subscriber so events stay in order. Buffers are bounded: a subscriber
+ * that cannot keep up loses its oldest pending events rather than holding
+ * memory or slowing the writers, and a client that went away is dropped on
+ * the next failed send or heartbeat.
+ */
+@Component
+public class DebateStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(DebateStreamHub.class);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    public DebateStreamHub(@Value("${app.debate.stream.buffer-size:32}") int bufferSize,
+                           @Value("${app.debate.stream.max-subscribers:2000}") int maxSubscribers,
+                           @Value("${app.debate.stream.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${app.debate.stream.workers:4}") int workers,
+                           @Value("${app.debate.stream.queue-capacity:1024}") int queueCapacity) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+
+        this.executor = BoundedExecutors.fixed("debate-stream", workers, queueCapacity);
+    }
+
+    /**
+     * Open a stream on a debate. The first event, "snapshot", carries
+     * {@code snapshot}; deltas follow as they happen.
+     */
+    public SseEmitter subscribe(UUID debateId, Object snapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = register(debateId, new EmitterSink(emitter));
+        if (subscriber == null) {
+            try {
+                emitter.send(SseEmitter.event().name("error")
+                        .data(Map.of("error", "Too many live viewers, try again later"), MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                log.debug("Debate stream client went away: {}", e.getMessage());
+            }
+            emitter.complete();
+            return emitter;
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.offer("snapshot", snapshot);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDebateUpdate(DebateUpdateEvent event) {
+        Set<Subscriber> watching = subscribers.get(event.debateId());
+        if (watching == null) {
+            return;
+        }
+        for (Subscriber subscriber : watching) {
+            subscriber.offer(event.type(), event.data());
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and finds clients that left.
+     */
+    @Scheduled(fixedDelayString = "${app.debate.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> subscriber.offer("ping", Map.of())));
+    }
+
+    public Stats stats() {
+        return new Stats(subscribers.size(), subscriberCount.get(), delivered.sum(), dropped.sum(), refused.sum());
+    }
+
+    public static class Stats {
+        private final int debates;
+        private final int subscribers;
+        private final long delivered;
+        private final long dropped;
+        private final long refused;
+
+        Stats(int debates, int subscribers, long delivered, long dropped, long refused) {
+            this.debates = debates;
+            this.subscribers = subscribers;
+            this.delivered = delivered;
+            this.dropped = dropped;
+            this.refused = refused;
+        }
+
+        public int getDebates() { return debates; }
+        public int getSubscribers() { return subscribers; }
+        public long getDelivered() { return delivered; }
+        public long getDropped() { return dropped; }
+        public long getRefused() { return refused; }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(watching -> watching.forEach(Subscriber::complete));
+        executor.shutdownNow();
+    }
+
+    /**
+     * Where a subscriber's events are written; the SSE emitter outside tests.
+     */
+    interface EventSink {
+        void send(String name, Object data) throws IOException;
+
+        void complete();
+    }
+
+    /**
+     * Register a subscriber, or return null when the hub is full.
+     */
+    Subscriber register(UUID debateId, EventSink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            refused.increment();
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(debateId, sink);
+        // Inside compute, so a concurrent close cannot drop the set between lookup and add
+        subscribers.compute(debateId, (id, watching) -> {
+            Set<Subscriber> set = watching != null ? watching : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        return subscriber;
+    }
+
+    private record Pending(String name, Object data) {
+    }
+
+    final class Subscriber {
+        private final UUID debateId;
+        private final EventSink sink;
+        private final ArrayDeque<Pending> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(UUID debateId, EventSink sink) {
+            this.debateId = debateId;
+            this.sink = sink;
+        }
+
+        void offer(String name, Object data) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    // Drop-oldest: a slow client skips stale deltas instead of stalling the rest
+                    buffer.pollFirst();
+                    dropped.increment();
+                }
+                buffer.addLast(new Pending(name, data));
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Left buffered; the next offer tries again
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(debateId, (id, watching) -> {
+                watching.remove(this);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+
+        private void complete() {
+            close();
+            sink.complete();
+        }
+
+        private void drain() {
+            while (true) {
+                Pending next;
+                synchronized (this) {
+                    next = closed ? null : buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    sink.send(next.name(), next.data());
+                    delivered.increment();
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Debate stream client went away: {}", e.getMessage());
+                    close();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class EmitterSink implements EventSink {
+        private final SseEmitter emitter;
+
+        EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(String name, Object data) throws IOException {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
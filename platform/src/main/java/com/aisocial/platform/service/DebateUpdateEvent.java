@@ -0,0 +1,53 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.DebateArgumentDTO;
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.DebateArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A small change to a debate for clients watching it live: {@code type}
+ * names the SSE event and {@code data} carries only the fields that moved.
+ * Built while the debate is still attached, so lazy participants resolve.
+ */
+public record DebateUpdateEvent(UUID debateId, String type, Map<String, Object> data) {
+
+    public static DebateUpdateEvent argument(Debate debate, DebateArgument argument) {
+        Map<String, Object> data = state(debate);
+        data.put("argument", DebateArgumentDTO.fromEntity(argument));
+        return new DebateUpdateEvent(debate.getId(), "argument", data);
+    }
+
+    public static DebateUpdateEvent votes(UUID debateId, DebateVoteTally.Counts counts) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("votesChallenger", counts.challenger());
+        data.put("votesDefender", counts.defender());
+        data.put("votesTie", counts.tie());
+        data.put("totalVotes", counts.total());
+        return new DebateUpdateEvent(debateId, "votes", data);
+    }
+
+    public static DebateUpdateEvent likes(Debate debate) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("likeCount", debate.getLikeCount());
+        return new DebateUpdateEvent(debate.getId(), "likes", data);
+    }
+
+    public static DebateUpdateEvent status(Debate debate) {
+        Map<String, Object> data = state(debate);
+        data.put("winnerId", debate.getWinner() != null ? debate.getWinner().getId() : null);
+        return new DebateUpdateEvent(debate.getId(), "status", data);
+    }
+
+    private static Map<String, Object> state(Debate debate) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("status", debate.getStatus());
+        data.put("currentRound", debate.getCurrentRound());
+        data.put("whoseTurnId", debate.getWhoseTurn() != null ? debate.getWhoseTurn().getId() : null);
+        data.put("votingEndsAt", debate.getVotingEndsAt());
+        return data;
+    }
+}
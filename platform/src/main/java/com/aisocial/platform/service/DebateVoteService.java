@@ -18,10 +18,13 @@ public class DebateVoteService {
 
     private final DebateVoteRepository debateVoteRepository;
     private final DebateRepository debateRepository;
+    private final DebateVoteTally debateVoteTally;
 
-    public DebateVoteService(DebateVoteRepository debateVoteRepository, DebateRepository debateRepository) {
+    public DebateVoteService(DebateVoteRepository debateVoteRepository, DebateRepository debateRepository,
+                             DebateVoteTally debateVoteTally) {
         this.debateVoteRepository = debateVoteRepository;
         this.debateRepository = debateRepository;
+        this.debateVoteTally = debateVoteTally;
     }
 
     public boolean isParticipant(UUID debateId, UUID userId) {
@@ -29,8 +32,7 @@ public class DebateVoteService {
         if (debate.isEmpty()) {
             return false;
         }
-        Debate d = debate.get();
-        return userId.equals(d.getChallenger().getId()) || userId.equals(d.getDefender().getId());
+        return isParticipant(debate.get(), userId);
     }
 
     public List<DebateVote> findAll() {
@@ -38,7 +40,9 @@ public class DebateVoteService {
     }
 
     public DebateVote save(DebateVote vote) {
-        if (isParticipant(vote.getDebateId(), vote.getUserId())) {
+        Debate debate = debateRepository.findById(vote.getDebateId())
+                .orElseThrow(() -> new IllegalArgumentException("Debate not found"));
+        if (isParticipant(debate, vote.getUserId())) {
             throw new IllegalArgumentException("Debate participants cannot vote on their own debate");
         }
         if (debateVoteRepository.findByDebateIdAndUserId(vote.getDebateId(), vote.getUserId()).isPresent()) {
@@ -47,11 +51,8 @@ public class DebateVoteService {
 
         DebateVote savedVote = debateVoteRepository.save(vote);
 
-        // Update debate vote counts
-        Debate debate = debateRepository.findById(vote.getDebateId())
-                .orElseThrow(() -> new IllegalArgumentException("Debate not found"));
-        incrementVoteCount(debate, vote.getVote());
-        debateRepository.save(debate);
+        // Debate vote counts are written in batches by DebateVoteTally
+        debateVoteTally.record(vote.getDebateId(), null, vote.getVote());
 
         return savedVote;
     }
@@ -62,14 +63,7 @@ public class DebateVoteService {
             DebateVote vote = existing.get();
             VoteType oldVote = vote.getVote();
 
-            // Update debate vote counts if vote type changed
-            if (oldVote != newVote) {
-                Debate debate = debateRepository.findById(vote.getDebateId())
-                        .orElseThrow(() -> new IllegalArgumentException("Debate not found"));
-                decrementVoteCount(debate, oldVote);
-                incrementVoteCount(debate, newVote);
-                debateRepository.save(debate);
-            }
+            debateVoteTally.record(vote.getDebateId(), oldVote, newVote);
 
             vote.setVote(newVote);
             return debateVoteRepository.save(vote);
@@ -94,11 +88,7 @@ public class DebateVoteService {
         if (existing.isPresent()) {
             DebateVote vote = existing.get();
 
-            // Update debate vote counts
-            debateRepository.findById(vote.getDebateId()).ifPresent(debate -> {
-                decrementVoteCount(debate, vote.getVote());
-                debateRepository.save(debate);
-            });
+            debateVoteTally.record(vote.getDebateId(), vote.getVote(), null);
 
             debateVoteRepository.deleteById(id);
             return true;
@@ -106,19 +96,7 @@ public class DebateVoteService {
         return false;
     }
 
-    private void incrementVoteCount(Debate debate, VoteType voteType) {
-        switch (voteType) {
-            case CHALLENGER -> debate.incrementVotesChallenger();
-            case DEFENDER -> debate.incrementVotesDefender();
-            case TIE -> debate.incrementVotesTie();
-        }
-    }
-
-    private void decrementVoteCount(Debate debate, VoteType voteType) {
-        switch (voteType) {
-            case CHALLENGER -> debate.decrementVotesChallenger();
-            case DEFENDER -> debate.decrementVotesDefender();
-            case TIE -> debate.decrementVotesTie();
-        }
+    private boolean isParticipant(Debate debate, UUID userId) {
+        return userId.equals(debate.getChallenger().getId()) || userId.equals(debate.getDefender().getId());
     }
 }
@@ -0,0 +1,163 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.DebateDTO;
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.VoteType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Live debate vote tally with write-behind persistence.
+ *
+ * Casting, changing or withdrawing a vote records a delta per debate and
+ * side in a {@link DeltaCounter} instead of loading the debate, changing
+ * its vote columns and saving the whole row, which lost concurrent votes
+ * and cost a write each. Deltas are flushed on a short interval as batches
+ * of {@code votes_x = votes_x + ?} updates; reads add the pending deltas
+ * to the persisted columns. A change only counts once the transaction that
+ * wrote its debate_votes row commits, so a rolled-back vote leaves nothing
+ * behind.
+ */
+@Component
+public class DebateVoteTally {
+
+    private static final Logger log = LoggerFactory.getLogger(DebateVoteTally.class);
+
+    private static final Map<VoteType, String> FLUSH_SQL = new EnumMap<>(Map.of(
+            VoteType.CHALLENGER, "UPDATE debates SET votes_challenger = COALESCE(votes_challenger, 0) + ? WHERE id = ?",
+            VoteType.DEFENDER, "UPDATE debates SET votes_defender = COALESCE(votes_defender, 0) + ? WHERE id = ?",
+            VoteType.TIE, "UPDATE debates SET votes_tie = COALESCE(votes_tie, 0) + ? WHERE id = ?"));
+
+    private final DeltaCounter<Key> deltas = new DeltaCounter<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DebateVoteTally(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Record a vote moving from {@code from} to {@code to}; either may be
+     * null for a new or withdrawn vote. Applied when the surrounding
+     * transaction commits, or right away when there is none.
+     */
+    public void record(UUID debateId, VoteType from, VoteType to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            deltas.addAfterCommit(new Key(debateId, from), -1);
+        }
+        if (to != null) {
+            deltas.addAfterCommit(new Key(debateId, to), 1);
+        }
+    }
+
+    /**
+     * Record a vote change on a loaded debate and return the live counts as
+     * they will stand once it commits, for announcing to viewers.
+     */
+    public Counts record(Debate debate, VoteType from, VoteType to) {
+        Counts before = current(debate);
+        record(debate.getId(), from, to);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return current(debate);
+        }
+        // Deferred until commit, so add the change ourselves
+        return new Counts(
+                shifted(before.challenger(), VoteType.CHALLENGER, from, to),
+                shifted(before.defender(), VoteType.DEFENDER, from, to),
+                shifted(before.tie(), VoteType.TIE, from, to));
+    }
+
+    /**
+     * Live counts: the persisted columns plus any delta not yet flushed.
+     */
+    public Counts current(Debate debate) {
+        return current(debate.getId(), debate.getVotesChallenger(), debate.getVotesDefender(), debate.getVotesTie());
+    }
+
+    /**
+     * Replace the persisted counts in a DTO with the live ones.
+     */
+    public DebateDTO overlay(DebateDTO dto) {
+        Counts counts = current(dto.getId(), dto.getVotesChallenger(), dto.getVotesDefender(), dto.getVotesTie());
+        dto.setVotesChallenger(counts.challenger());
+        dto.setVotesDefender(counts.defender());
+        dto.setVotesTie(counts.tie());
+        dto.setTotalVotes(counts.total());
+        return dto;
+    }
+
+    public record Counts(int challenger, int defender, int tie) {
+        public int total() {
+            return challenger + defender + tie;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.debate.votes.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        // Synchronized so a caller that needs the columns current (the closer)
+        // waits for a flush already writing rather than reading past it
+        Map<Key, Long> drained = deltas.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<VoteType, List<Object[]>> batches = new EnumMap<>(VoteType.class);
+        drained.forEach((key, delta) -> batches.computeIfAbsent(key.vote(), vote -> new ArrayList<>())
+                .add(new Object[]{delta, key.debateId().toString()}));
+        try {
+            // One transaction: a failed flush rolls back whole and is retried whole
+            transactionTemplate.executeWithoutResult(status ->
+                    batches.forEach((vote, batch) -> jdbcTemplate.batchUpdate(FLUSH_SQL.get(vote), batch)));
+            log.debug("Flushed vote deltas for {} debate columns", drained.size());
+        } catch (RuntimeException e) {
+            deltas.restore(drained);
+            log.warn("Vote tally flush failed; will retry {} deltas", drained.size(), e);
+        }
+    }
+
+    private record Key(UUID debateId, VoteType vote) {
+    }
+
+    private Counts current(UUID debateId, Integer challenger, Integer defender, Integer tie) {
+        return new Counts(
+                live(debateId, VoteType.CHALLENGER, challenger),
+                live(debateId, VoteType.DEFENDER, defender),
+                live(debateId, VoteType.TIE, tie));
+    }
+
+    private static int shifted(int count, VoteType side, VoteType from, VoteType to) {
+        if (from == to) {
+            return count;
+        }
+        if (side == from) {
+            count--;
+        }
+        if (side == to) {
+            count++;
+        }
+        return Math.max(0, count);
+    }
+
+    private int live(UUID debateId, VoteType vote, Integer persisted) {
+        long count = (persisted == null ? 0 : persisted) + deltas.pending(new Key(debateId, vote));
+        return (int) Math.max(0, count);
+    }
+}
@@ -0,0 +1,232 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.DebateStatus;
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.repository.DebateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closes debates when their voting period ends and settles the winner.
+ *
+ * Deadlines live in a {@link TimingWheel}, filled once at startup from
+ * {@code debates.voting_ends_at} and then from each debate that finishes its
+ * last round, so a tick only looks at the debates that are actually due and
+ * never scans the debates table. Due debates are closed in batches: each
+ * batch marks its debates COMPLETED, picks the winner from the live tally
+ * (no winner on a draw) and updates both participants' won/lost counts in a
+ * single transaction. A failed batch is retried on the next tick. Each
+ * closed debate is announced to live viewers with a "status" update.
+ */
+@Component
+public class DebateVotingCloser {
+
+    private static final Logger log = LoggerFactory.getLogger(DebateVotingCloser.class);
+
+    private final DebateRepository debateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DebateVoteTally debateVoteTally;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final TimingWheel<UUID> wheel;
+    // Latest deadline per scheduled debate; expiries that disagree with it are stale
+    private final Map<UUID, Instant> deadlines = new ConcurrentHashMap<>();
+    private final Set<UUID> due = new LinkedHashSet<>();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private Clock clock = Clock.systemUTC();
+
+    public DebateVotingCloser(DebateRepository debateRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              DebateVoteTally debateVoteTally,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.debate.voting.close-enabled:true}") boolean enabled,
+                              @Value("${app.debate.voting.tick-ms:1000}") long tickMs,
+                              @Value("${app.debate.voting.wheel-size:64}") int wheelSize,
+                              @Value("${app.debate.voting.wheel-levels:4}") int wheelLevels,
+                              @Value("${app.debate.voting.close-batch-size:100}") int batchSize) {
+        this.debateRepository = debateRepository;
+        this.eventPublisher = eventPublisher;
+        this.debateVoteTally = debateVoteTally;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, wheelLevels, clock.millis());
+    }
+
+    /**
+     * Load the deadline of every debate still in VOTING. Ones that passed
+     * while the application was down are closed on the first tick.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<DebateRepository.VotingDeadline> open = debateRepository.findVotingDeadlines();
+        for (DebateRepository.VotingDeadline deadline : open) {
+            schedule(deadline.getId(), deadline.getVotingEndsAt());
+        }
+        log.info("Scheduled voting deadlines for {} debates", open.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoundCompleted(DebateRoundCompletedEvent event) {
+        if (!enabled || !event.debateFinished()) {
+            return;
+        }
+        debateRepository.findById(event.debateId())
+                .ifPresent(debate -> schedule(debate.getId(), debate.getVotingEndsAt()));
+    }
+
+    /**
+     * Close the debate once {@code votingEndsAt} has passed. Scheduling a
+     * debate again replaces its earlier deadline.
+     */
+    public void schedule(UUID debateId, Instant votingEndsAt) {
+        if (votingEndsAt == null) {
+            // Nothing to wait for: settle it on the next tick
+            votingEndsAt = clock.instant();
+        }
+        synchronized (wheel) {
+            deadlines.put(debateId, votingEndsAt);
+            if (!wheel.add(debateId, votingEndsAt.toEpochMilli())) {
+                due.add(debateId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.debate.voting.tick-ms:1000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        List<UUID> ready;
+        synchronized (wheel) {
+            for (UUID debateId : wheel.advanceTo(now.toEpochMilli())) {
+                Instant deadline = deadlines.get(debateId);
+                if (deadline != null && !deadline.isAfter(now)) {
+                    due.add(debateId);
+                }
+            }
+            ready = new ArrayList<>(due);
+            due.clear();
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        // Write pending votes first; settle() still adds any a failed flush kept
+        debateVoteTally.flush();
+
+        for (int from = 0; from < ready.size(); from += batchSize) {
+            List<UUID> batch = ready.subList(from, Math.min(from + batchSize, ready.size()));
+            try {
+                closeBatch(batch, now);
+            } catch (RuntimeException e) {
+                failedBatches.increment();
+                log.warn("Could not close {} debates; will retry on the next tick", batch.size(), e);
+                synchronized (wheel) {
+                    due.addAll(batch);
+                }
+            }
+        }
+    }
+
+    public Stats stats() {
+        synchronized (wheel) {
+            return new Stats(deadlines.size(), due.size(), closed.sum(), failedBatches.sum());
+        }
+    }
+
+    public static class Stats {
+        private final int scheduled;
+        private final int due;
+        private final long closed;
+        private final long failedBatches;
+
+        Stats(int scheduled, int due, long closed, long failedBatches) {
+            this.scheduled = scheduled;
+            this.due = due;
+            this.closed = closed;
+            this.failedBatches = failedBatches;
+        }
+
+        public int getScheduled() { return scheduled; }
+        public int getDue() { return due; }
+        public long getClosed() { return closed; }
+        public long getFailedBatches() { return failedBatches; }
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private void closeBatch(List<UUID> debateIds, Instant now) {
+        List<UUID> settled = new ArrayList<>();
+        List<Debate> notYetDue = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Debate debate : debateRepository.findAllById(debateIds)) {
+                if (debate.getStatus() != DebateStatus.VOTING) {
+                    continue;
+                }
+                if (debate.getVotingEndsAt() != null && debate.getVotingEndsAt().isAfter(now)) {
+                    notYetDue.add(debate);
+                } else {
+                    settle(debate);
+                    settled.add(debate.getId());
+                    eventPublisher.publishEvent(DebateUpdateEvent.status(debate));
+                }
+            }
+        });
+
+        closed.add(settled.size());
+        // Deleted and already-settled debates are simply dropped
+        debateIds.forEach(deadlines::remove);
+        notYetDue.forEach(debate -> schedule(debate.getId(), debate.getVotingEndsAt()));
+        log.debug("Closed voting on {} debates", settled.size());
+    }
+
+    // Entities are managed, so the participants' counters are written with the debate
+    private void settle(Debate debate) {
+        User challenger = debate.getChallenger();
+        User defender = debate.getDefender();
+        DebateVoteTally.Counts counts = debateVoteTally.current(debate);
+        int forChallenger = counts.challenger();
+        int forDefender = counts.defender();
+
+        debate.setStatus(DebateStatus.COMPLETED);
+        if (forChallenger == forDefender) {
+            debate.setWinner(null);
+            return;
+        }
+        User winner = forChallenger > forDefender ? challenger : defender;
+        User loser = winner == challenger ? defender : challenger;
+        debate.setWinner(winner);
+        winner.incrementDebatesWon();
+        loser.incrementDebatesLost();
+    }
+}
@@ -0,0 +1,104 @@
+package com.aisocial.platform.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pending per-key deltas that have not been written to the database yet.
+ *
+ * Each key gets its own {@link LongAdder}, so concurrent updates to a hot key
+ * spread across cells instead of contending on one lock. A flusher drains the
+ * accumulated deltas periodically and writes them in one batch; readers add
+ * {@link #pending} to the persisted value to see the live total.
+ *
+ * A key whose delta stayed at zero for a whole drain interval is evicted, so
+ * the map only holds recently changed keys. A writer that raced the eviction
+ * and added to the detached adder moves its delta to a fresh one.
+ */
+public final class DeltaCounter<K> {
+
+    private final Map<K, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        LongAdder adder = deltas.computeIfAbsent(key, k -> new LongAdder());
+        adder.add(delta);
+        if (deltas.get(key) != adder) {
+            // Evicted by a concurrent drain; whatever it still holds is ours to move
+            long stranded = adder.sumThenReset();
+            if (stranded != 0) {
+                add(key, stranded);
+            }
+        }
+    }
+
+    /**
+     * Add once the surrounding transaction commits, or right away when there
+     * is none. A rolled-back write leaves no delta behind.
+     */
+    public void addAfterCommit(K key, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(key, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(key, delta);
+            }
+        });
+    }
+
+    /**
+     * Delta accumulated for a key since the last drain.
+     */
+    public long pending(K key) {
+        LongAdder adder = deltas.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Take every non-zero delta, resetting it to zero, and evict keys that
+     * had nothing pending. Updates racing with the drain are either included
+     * here or left for the next one.
+     */
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        deltas.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0 && deltas.remove(key, adder)) {
+                // Anything added between the reset and the removal
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                drained.put(key, delta);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * Put drained deltas back, e.g. after a failed write.
+     */
+    public void restore(Map<K, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    /**
+     * Number of keys currently tracked.
+     */
+    int size() {
+        return deltas.size();
+    }
+
+    /**
+     * Drop a key whose row no longer exists.
+     */
+    public void forget(K key) {
+        deltas.remove(key);
+    }
+}
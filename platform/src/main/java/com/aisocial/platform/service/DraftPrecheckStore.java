@@ -0,0 +1,112 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived handoff of draft fact-check previews to publish.
+ *
+ * The preview endpoint stores its verdict here and hands the client a token.
+ * Publishing the same text as the same user with that token attaches the
+ * stored verdict instead of calling the model again. Tokens are bound to the
+ * user and to a hash of the exact text, so an edited draft needs a new
+ * preview. Entries live in memory only; a lost token just means the post is
+ * checked in the background after publish.
+ */
+@Component
+public class DraftPrecheckStore {
+
+    private final Map<String, Precheck> prechecks = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+    private Clock clock = Clock.systemUTC();
+
+    public DraftPrecheckStore(@Value("${app.fact-check.precheck.ttl-minutes:30}") long ttlMinutes,
+                              @Value("${app.fact-check.precheck.max-entries:10000}") int maxEntries) {
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Remember a preview result and return its token, or null if the result
+     * is an error (or the store is full) and should not be reused.
+     */
+    public String issue(UUID userId, String content, FactCheckResultDTO result) {
+        if (content == null || result == null || result.getError() != null) {
+            return null;
+        }
+        if (prechecks.size() >= maxEntries) {
+            purgeExpired();
+            if (prechecks.size() >= maxEntries) {
+                return null;
+            }
+        }
+        String token = UUID.randomUUID().toString();
+        prechecks.put(token, new Precheck(userId, FactCheckResultCache.hash(content), result,
+                clock.instant().plus(ttl)));
+        return token;
+    }
+
+    /**
+     * The stored result for a token, if it has not expired and was issued to
+     * this user for exactly this text. Tokens may be redeemed more than once
+     * (a publish can be retried) until they expire.
+     */
+    public Optional<FactCheckResultDTO> redeem(String token, UUID userId, String content) {
+        if (token == null || content == null) {
+            return Optional.empty();
+        }
+        Precheck precheck = prechecks.get(token);
+        if (precheck == null) {
+            return Optional.empty();
+        }
+        if (!precheck.expiresAt.isAfter(clock.instant())) {
+            prechecks.remove(token, precheck);
+            return Optional.empty();
+        }
+        if (!Objects.equals(precheck.userId, userId)
+                || !precheck.contentHash.equals(FactCheckResultCache.hash(content))) {
+            return Optional.empty();
+        }
+        return Optional.of(precheck.result);
+    }
+
+    @Scheduled(fixedDelayString = "${app.fact-check.precheck.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        prechecks.values().removeIf(precheck -> !precheck.expiresAt.isAfter(now));
+    }
+
+    public int size() {
+        return prechecks.size();
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private static class Precheck {
+        private final UUID userId;
+        private final String contentHash;
+        private final FactCheckResultDTO result;
+        private final Instant expiresAt;
+
+        Precheck(UUID userId, String contentHash, FactCheckResultDTO result, Instant expiresAt) {
+            this.userId = userId;
+            this.contentHash = contentHash;
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups background fact-checks into multi-claim model calls.
+ *
+ * Claims submitted within a short window (or until the batch is full) are
+ * sent together through {@link AIFactCheckService#checkClaims}, which falls
+ * back to single-claim calls for anything the batch answer misses. Used for
+ * bulk work: {@link DebateFactCheckFanout} sends the unchecked arguments of a
+ * debate that has just finished through here. Interactive checks and the
+ * per-round checks of a running debate keep using the single-claim path.
+ */
+@Component
+public class FactCheckBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(FactCheckBatcher.class);
+
+    private final AIFactCheckService aiFactCheckService;
+    private final int maxSize;
+    private final long windowMs;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public FactCheckBatcher(AIFactCheckService aiFactCheckService,
+                            @Value("${app.fact-check.batch.max-size:8}") int maxSize,
+                            @Value("${app.fact-check.batch.window-ms:200}") long windowMs,
+                            @Value("${app.fact-check.batch.workers:2}") int workers) {
+        this.aiFactCheckService = aiFactCheckService;
+        this.maxSize = Math.max(1, maxSize);
+        this.windowMs = windowMs;
+        this.executor = BoundedExecutors.scheduled("fact-check-batch", workers);
+    }
+
+    /**
+     * Queue a claim for the next batch. The future completes with the
+     * claim's verdict, or an error result if the batch could not run.
+     */
+    public CompletableFuture<FactCheckResultDTO> submit(String claim) {
+        Pending entry = new Pending(claim);
+        List<Pending> full = null;
+        synchronized (this) {
+            pending.add(entry);
+            if (pending.size() >= maxSize) {
+                full = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            List<Pending> batch = full;
+            executor.execute(() -> run(batch));
+        }
+        return entry.future;
+    }
+
+    /**
+     * Send whatever is waiting now instead of at the end of the window.
+     */
+    public void flush() {
+        List<Pending> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            run(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Caller holds the monitor
+    private List<Pending> drain() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void run(List<Pending> batch) {
+        List<String> claims = new ArrayList<>(batch.size());
+        for (Pending entry : batch) {
+            claims.add(entry.claim);
+        }
+
+        try {
+            log.debug("Running fact-check batch of {} claims", batch.size());
+            List<FactCheckResultDTO> results = aiFactCheckService.checkClaims(claims);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("Fact-check batch failed: {}", e.getMessage(), e);
+            for (Pending entry : batch) {
+                entry.future.complete(FactCheckResultDTO.error("Batch fact-check failed: " + e.getMessage()));
+            }
+        }
+    }
+
+    private static class Pending {
+        private final String claim;
+        private final CompletableFuture<FactCheckResultDTO> future = new CompletableFuture<>();
+
+        Pending(String claim) {
+            this.claim = claim;
+        }
+    }
+}
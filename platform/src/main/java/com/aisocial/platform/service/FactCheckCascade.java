@@ -0,0 +1,213 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Cheap-first routing of fact-check prompts across model tiers.
+ *
+ * The prompt goes to the fast model first. Its answer is kept only when the
+ * verdict is one the policy accepts from the fast tier (by default just
+ * UNVERIFIABLE, i.e. opinions) with enough confidence; factual verdicts,
+ * low-confidence answers, unparseable replies and errors escalate to the
+ * main model (spring.ai.anthropic.chat.options.model). Well-known claims
+ * never get here; {@link KnownClaimRules} answers them first.
+ *
+ * Each check has a total time budget (app.fact-check.deadline-ms) shared by
+ * both tiers, with the fast tier capped at a smaller slice of it so there is
+ * time left to escalate. Tier calls go through {@link HedgedCaller}, which
+ * hedges and retries within that budget.
+ *
+ * Per-tier counters, latency and an estimated spend (characters / 4 as a
+ * token count, times the configured price) are exposed via {@link #stats()}.
+ */
+@Component
+public class FactCheckCascade {
+
+    private static final Logger log = LoggerFactory.getLogger(FactCheckCascade.class);
+
+    public enum Tier { FAST, MAIN }
+
+    private final AiGateway aiGateway;
+    private final HedgedCaller hedgedCaller;
+    private final boolean enabled;
+    private final String fastModel;
+    private final Set<String> acceptVerdicts;
+    private final int acceptMinConfidence;
+    private final Duration budget;
+    private final Duration fastBudget;
+    private final Map<Tier, TierMetrics> metrics = new EnumMap<>(Tier.class);
+
+    public FactCheckCascade(AiGateway aiGateway,
+                            HedgedCaller hedgedCaller,
+                            @Value("${app.fact-check.cascade.enabled:true}") boolean enabled,
+                            @Value("${app.fact-check.cascade.fast-model:}") String fastModel,
+                            @Value("${app.fact-check.cascade.accept-verdicts:UNVERIFIABLE}") List<String> acceptVerdicts,
+                            @Value("${app.fact-check.cascade.accept-min-confidence:80}") int acceptMinConfidence,
+                            @Value("${app.fact-check.deadline-ms:20000}") long budgetMs,
+                            @Value("${app.fact-check.cascade.fast-budget-ms:5000}") long fastBudgetMs,
+                            @Value("${app.fact-check.cascade.fast-cost-per-mtok:4.0}") double fastCostPerMTok,
+                            @Value("${app.fact-check.cascade.main-cost-per-mtok:15.0}") double mainCostPerMTok) {
+        this.aiGateway = aiGateway;
+        this.hedgedCaller = hedgedCaller;
+        this.enabled = enabled && fastModel != null && !fastModel.isBlank();
+        this.fastModel = fastModel;
+        this.acceptVerdicts = acceptVerdicts.stream()
+                .map(verdict -> verdict.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.acceptMinConfidence = acceptMinConfidence;
+        this.budget = Duration.ofMillis(budgetMs);
+        this.fastBudget = Duration.ofMillis(fastBudgetMs);
+        this.metrics.put(Tier.FAST, new TierMetrics(fastCostPerMTok));
+        this.metrics.put(Tier.MAIN, new TierMetrics(mainCostPerMTok));
+    }
+
+    /**
+     * Answer a single-claim fact-check prompt, escalating as the policy says.
+     *
+     * @param parser turns a model reply into a result (an error result if it
+     *               cannot be parsed)
+     * @throws AiUnavailableException if the budget ran out before an answer
+     * @throws RuntimeException if the main tier call itself fails
+     */
+    public FactCheckResultDTO check(String prompt, Function<String, FactCheckResultDTO> parser) {
+        return check(prompt, parser, this::accepts);
+    }
+
+    /**
+     * Answer any fact-check prompt, e.g. a multi-claim batch, with the same
+     * tiers, budget and hedging as a single claim.
+     *
+     * @param acceptFast whether the fast tier's parsed answer may stand
+     */
+    public <T> T check(String prompt, Function<String, T> parser, Predicate<T> acceptFast) {
+        Deadline deadline = Deadline.after(budget);
+        if (enabled) {
+            try {
+                T fast = parser.apply(call(Tier.FAST, fastModel, prompt, deadline.cappedAt(fastBudget)));
+                if (acceptFast.test(fast)) {
+                    metrics.get(Tier.FAST).answered.increment();
+                    return fast;
+                }
+                log.debug("Escalating fact-check from fast tier");
+            } catch (RuntimeException e) {
+                log.warn("Fast-tier fact-check failed, escalating: {}", e.getMessage());
+            }
+            metrics.get(Tier.FAST).escalated.increment();
+        }
+
+        T result = parser.apply(call(Tier.MAIN, null, prompt, deadline));
+        metrics.get(Tier.MAIN).answered.increment();
+        return result;
+    }
+
+    /**
+     * Whether the fast tier's verdict on one claim is good enough to keep.
+     */
+    boolean accepts(FactCheckResultDTO result) {
+        return result != null
+                && result.getError() == null
+                && result.getVerdict() != null
+                && acceptVerdicts.contains(result.getVerdict().toUpperCase(Locale.ROOT))
+                && result.getConfidence() != null
+                && result.getConfidence() >= acceptMinConfidence;
+    }
+
+    public List<TierStats> stats() {
+        List<TierStats> stats = new ArrayList<>();
+        metrics.forEach((tier, m) -> {
+            long calls = m.calls.sum();
+            long tokens = m.estimatedTokens.sum();
+            stats.add(new TierStats(tier, tier == Tier.FAST ? fastModel : null, calls, m.answered.sum(),
+                    m.escalated.sum(), m.failures.sum(),
+                    calls == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(m.latencyNanos.sum()) / 1000.0 / calls,
+                    tokens, tokens * m.costPerMTok / 1_000_000.0));
+        });
+        return stats;
+    }
+
+    private String call(Tier tier, String model, String prompt, Deadline deadline) {
+        TierMetrics m = metrics.get(tier);
+        m.calls.increment();
+        long start = System.nanoTime();
+        try {
+            String response = hedgedCaller.call(tier.name(), deadline,
+                    () -> aiGateway.call(AiGateway.Use.FACT_CHECK, prompt, model));
+            m.estimatedTokens.add((prompt.length() + (response != null ? response.length() : 0)) / 4);
+            return response;
+        } catch (RuntimeException e) {
+            m.failures.increment();
+            throw e;
+        } finally {
+            m.latencyNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static class TierMetrics {
+        private final double costPerMTok;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder answered = new LongAdder();
+        private final LongAdder escalated = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAdder estimatedTokens = new LongAdder();
+
+        TierMetrics(double costPerMTok) {
+            this.costPerMTok = costPerMTok;
+        }
+    }
+
+    /**
+     * Counters for one tier since startup.
+     */
+    public static class TierStats {
+        private final Tier tier;
+        private final String model;
+        private final long calls;
+        private final long answered;
+        private final long escalated;
+        private final long failures;
+        private final double averageLatencyMs;
+        private final long estimatedTokens;
+        private final double estimatedCost;
+
+        public TierStats(Tier tier, String model, long calls, long answered, long escalated, long failures,
+                         double averageLatencyMs, long estimatedTokens, double estimatedCost) {
+            this.tier = tier;
+            this.model = model;
+            this.calls = calls;
+            this.answered = answered;
+            this.escalated = escalated;
+            this.failures = failures;
+            this.averageLatencyMs = averageLatencyMs;
+            this.estimatedTokens = estimatedTokens;
+            this.estimatedCost = estimatedCost;
+        }
+
+        public Tier getTier() { return tier; }
+        public String getModel() { return model; }
+        public long getCalls() { return calls; }
+        public long getAnswered() { return answered; }
+        public long getEscalated() { return escalated; }
+        public long getFailures() { return failures; }
+        public double getAverageLatencyMs() { return averageLatencyMs; }
+        public long getEstimatedTokens() { return estimatedTokens; }
+        public double getEstimatedCost() { return estimatedCost; }
+    }
+}
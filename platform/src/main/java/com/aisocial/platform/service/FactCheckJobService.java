@@ -0,0 +1,199 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckJobDTO;
+import com.aisocial.platform.dto.FactCheckJobDTO.Status;
+import com.aisocial.platform.dto.FactCheckJobDTO.TargetType;
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import com.aisocial.platform.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Runs post and argument fact-checks in the background.
+ *
+ * Submitting returns a job id straight away; a bounded worker pool makes the
+ * AI call and writes the verdict back through {@link AIFactCheckService}, so
+ * no request thread or database transaction waits on the model. When the
+ * queue is full new jobs are rejected rather than piling up. Submitting a
+ * target that already has a job queued or running returns that job instead
+ * of starting another.
+ *
+ * Jobs live in memory and are forgotten a while after they finish; the
+ * verdict itself is persisted on the post/argument and in fact_checks.
+ */
+@Service
+public class FactCheckJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(FactCheckJobService.class);
+
+    private final AIFactCheckService aiFactCheckService;
+    private final PostRepository postRepository;
+    private final DebateArgumentRepository debateArgumentRepository;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+
+    private final Map<UUID, FactCheckJobDTO> jobs = new ConcurrentHashMap<>();
+    private final Map<String, FactCheckJobDTO> activeByTarget = new ConcurrentHashMap<>();
+
+    public FactCheckJobService(AIFactCheckService aiFactCheckService,
+                               PostRepository postRepository,
+                               DebateArgumentRepository debateArgumentRepository,
+                               @Value("${app.fact-check.jobs.workers:4}") int workers,
+                               @Value("${app.fact-check.jobs.queue-capacity:100}") int queueCapacity,
+                               @Value("${app.fact-check.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.aiFactCheckService = aiFactCheckService;
+        this.postRepository = postRepository;
+        this.debateArgumentRepository = debateArgumentRepository;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        this.executor = BoundedExecutors.fixed("fact-check", workers, queueCapacity);
+    }
+
+    /**
+     * Queue a fact-check of a post.
+     *
+     * @throws IllegalArgumentException if the post does not exist
+     * @throws IllegalStateException if the job queue is full
+     */
+    public FactCheckJobDTO submitPost(UUID postId, UUID requestedById) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
+        return submit(TargetType.POST, postId,
+                () -> aiFactCheckService.factCheckPost(postId, requestedById));
+    }
+
+    /**
+     * Queue a fact-check of a debate argument.
+     *
+     * @throws IllegalArgumentException if the argument does not exist
+     * @throws IllegalStateException if the job queue is full
+     */
+    public FactCheckJobDTO submitArgument(UUID argumentId, UUID requestedById) {
+        if (!debateArgumentRepository.existsById(argumentId)) {
+            throw new IllegalArgumentException("Debate argument not found");
+        }
+        return submit(TargetType.ARGUMENT, argumentId,
+                () -> aiFactCheckService.factCheckDebateArgument(argumentId, requestedById));
+    }
+
+    /**
+     * Queue the deferred check of a post just published as pending. Shares
+     * the post's job slot, so a user asking for a check of the same post
+     * meanwhile joins this job.
+     *
+     * @throws IllegalStateException if the job queue is full
+     */
+    public FactCheckJobDTO submitPrePublish(UUID postId, String content) {
+        return submit(TargetType.POST, postId,
+                () -> aiFactCheckService.completePrePublishCheck(postId, content));
+    }
+
+    public Optional<FactCheckJobDTO> getJob(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(FactCheckJobService::copyOf);
+    }
+
+    /**
+     * Drop finished jobs older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.fact-check.jobs.cleanup-interval-ms:60000}")
+    public void evictFinished() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            synchronized (job) {
+                return job.getCompletedAt() != null && job.getCompletedAt().isBefore(cutoff);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private FactCheckJobDTO submit(TargetType targetType, UUID targetId, Supplier<FactCheckResultDTO> task) {
+        String targetKey = targetType + ":" + targetId;
+        FactCheckJobDTO created = newJob(targetType, targetId);
+        FactCheckJobDTO job = activeByTarget.putIfAbsent(targetKey, created);
+        if (job != null) {
+            log.debug("Joining fact-check job {} already active for {}", job.getJobId(), targetKey);
+            return copyOf(job);
+        }
+
+        jobs.put(created.getJobId(), created);
+        try {
+            executor.execute(() -> run(targetKey, created, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(created.getJobId());
+            activeByTarget.remove(targetKey, created);
+            throw new IllegalStateException("Fact-check queue is full");
+        }
+
+        log.info("Queued fact-check job {} for {} {}", created.getJobId(), targetType, targetId);
+        return copyOf(created);
+    }
+
+    private static FactCheckJobDTO newJob(TargetType targetType, UUID targetId) {
+        FactCheckJobDTO job = new FactCheckJobDTO();
+        job.setJobId(UUID.randomUUID());
+        job.setTargetType(targetType);
+        job.setTargetId(targetId);
+        job.setStatus(Status.QUEUED);
+        job.setSubmittedAt(Instant.now());
+        return job;
+    }
+
+    private void run(String targetKey, FactCheckJobDTO job, Supplier<FactCheckResultDTO> task) {
+        synchronized (job) {
+            job.setStatus(Status.RUNNING);
+        }
+
+        FactCheckResultDTO result = null;
+        String error = null;
+        try {
+            result = task.get();
+        } catch (RuntimeException e) {
+            log.error("Fact-check job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        } finally {
+            activeByTarget.remove(targetKey, job);
+        }
+
+        synchronized (job) {
+            job.setResult(result);
+            job.setError(error);
+            job.setStatus(error == null ? Status.COMPLETED : Status.FAILED);
+            job.setCompletedAt(Instant.now());
+        }
+    }
+
+    private static FactCheckJobDTO copyOf(FactCheckJobDTO job) {
+        synchronized (job) {
+            FactCheckJobDTO copy = new FactCheckJobDTO();
+            copy.setJobId(job.getJobId());
+            copy.setTargetType(job.getTargetType());
+            copy.setTargetId(job.getTargetId());
+            copy.setStatus(job.getStatus());
+            copy.setResult(job.getResult());
+            copy.setError(job.getError());
+            copy.setSubmittedAt(job.getSubmittedAt());
+            copy.setCompletedAt(job.getCompletedAt());
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.entity.FactCheckCacheEntry;
+import com.aisocial.platform.repository.FactCheckCacheRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Cache of AI fact-check results keyed by a hash of the claim text.
+ *
+ * Lookups go to a bounded in-memory LRU first and then to the
+ * fact_check_cache table, which survives restarts. How long a result lives
+ * depends on its verdict: settled verdicts (VERIFIED, FALSE) are kept much
+ * longer than contested ones (DISPUTED). Error results are never cached.
+ */
+@Component
+public class FactCheckResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(FactCheckResultCache.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final FactCheckCacheRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Duration> ttlByVerdict;
+    private final int maxEntries;
+    private final Map<String, CachedResult> memory;
+    private Clock clock = Clock.systemUTC();
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder storeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    public FactCheckResultCache(FactCheckCacheRepository repository,
+                                ObjectMapper objectMapper,
+                                @Value("${app.fact-check.cache.max-entries:1000}") int maxEntries,
+                                @Value("${app.fact-check.cache.ttl-hours.verified:168}") long verifiedHours,
+                                @Value("${app.fact-check.cache.ttl-hours.false:168}") long falseHours,
+                                @Value("${app.fact-check.cache.ttl-hours.likely-true:72}") long likelyTrueHours,
+                                @Value("${app.fact-check.cache.ttl-hours.unverifiable:24}") long unverifiableHours,
+                                @Value("${app.fact-check.cache.ttl-hours.disputed:6}") long disputedHours) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlByVerdict = Map.of(
+                "VERIFIED", Duration.ofHours(verifiedHours),
+                "FALSE", Duration.ofHours(falseHours),
+                "LIKELY_TRUE", Duration.ofHours(likelyTrueHours),
+                "UNVERIFIABLE", Duration.ofHours(unverifiableHours),
+                "DISPUTED", Duration.ofHours(disputedHours)
+        );
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > FactCheckResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached result for a sanitized claim, if one exists and has not expired.
+     * Each call returns a fresh copy.
+     */
+    public Optional<FactCheckResultDTO> get(String claim) {
+        String key = hash(claim);
+        Instant now = clock.instant();
+
+        CachedResult cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+            if (cached != null && !cached.expiresAt.isAfter(now)) {
+                memory.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            return read(cached.json);
+        }
+
+        try {
+            Optional<FactCheckCacheEntry> stored = repository.findById(key)
+                    .filter(entry -> entry.getExpiresAt().isAfter(now));
+            if (stored.isPresent()) {
+                storeHits.increment();
+                remember(key, new CachedResult(stored.get().getResultJson(), stored.get().getExpiresAt()));
+                return read(stored.get().getResultJson());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Fact-check cache lookup failed: {}", e.getMessage());
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Cache a result for a sanitized claim. Results whose verdict has no TTL
+     * (errors, unknown verdicts) are ignored.
+     */
+    public void put(String claim, FactCheckResultDTO result) {
+        Duration ttl = result == null || result.getVerdict() == null
+                ? null
+                : ttlByVerdict.get(result.getVerdict().toUpperCase(Locale.ROOT));
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize fact-check result for cache", e);
+            return;
+        }
+
+        String key = hash(claim);
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(ttl);
+        remember(key, new CachedResult(json, expiresAt));
+        writes.increment();
+
+        try {
+            repository.save(new FactCheckCacheEntry(key, result.getVerdict(), json, now, expiresAt));
+        } catch (DataAccessException e) {
+            log.warn("Could not persist fact-check cache entry: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.fact-check.cache.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int removed = repository.deleteExpired(clock.instant());
+            if (removed > 0) {
+                log.info("Purged {} expired fact-check cache entries", removed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Fact-check cache purge failed: {}", e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (memory) {
+            size = memory.size();
+        }
+        return new Stats(memoryHits.sum(), storeHits.sum(), misses.sum(), writes.sum(), size);
+    }
+
+    /**
+     * SHA-256 (hex) of the claim after Unicode normalization, case folding
+     * and whitespace collapsing, so trivially different copies share a key.
+     */
+    static String hash(String claim) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(claim, Normalizer.Form.NFKC))
+                .replaceAll(" ")
+                .strip()
+                .toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private void remember(String key, CachedResult cached) {
+        synchronized (memory) {
+            memory.put(key, cached);
+        }
+    }
+
+    private Optional<FactCheckResultDTO> read(String json) {
+        try {
+            return Optional.of(objectMapper.readValue(json, FactCheckResultDTO.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable fact-check cache entry", e);
+            return Optional.empty();
+        }
+    }
+
+    private static class CachedResult {
+        private final String json;
+        private final Instant expiresAt;
+
+        CachedResult(String json, Instant expiresAt) {
+            this.json = json;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Hit/miss counters since startup.
+     */
+    public static class Stats {
+        private final long memoryHits;
+        private final long storeHits;
+        private final long misses;
+        private final long writes;
+        private final int memoryEntries;
+
+        public Stats(long memoryHits, long storeHits, long misses, long writes, int memoryEntries) {
+            this.memoryHits = memoryHits;
+            this.storeHits = storeHits;
+            this.misses = misses;
+            this.writes = writes;
+            this.memoryEntries = memoryEntries;
+        }
+
+        public long getMemoryHits() { return memoryHits; }
+        public long getStoreHits() { return storeHits; }
+        public long getHits() { return memoryHits + storeHits; }
+        public long getMisses() { return misses; }
+        public long getWrites() { return writes; }
+        public int getMemoryEntries() { return memoryEntries; }
+
+        public double getHitRate() {
+            long lookups = getHits() + misses;
+            return lookups == 0 ? 0.0 : (double) getHits() / lookups;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.aisocial.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking AI calls against a deadline, hedging slow attempts and
+ * retrying failed ones without sleeping the caller.
+ *
+ * Each attempt runs on a worker. If it has not answered by the recent p95
+ * latency of its key (e.g. a model tier), a second, hedged attempt is
+ * started and whichever answers first wins. When every attempt of a round
+ * has failed, the next round is scheduled after a fully jittered
+ * exponential backoff, as long as it fits in what is left of the deadline.
+ * The caller waits at most until the deadline and then gets an
+ * {@link AiUnavailableException}; losing attempts finish in the background.
+ */
+@Component
+public class HedgedCaller {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgedCaller.class);
+
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final long initialHedgeDelayNanos;
+    private final long minHedgeDelayNanos;
+    private final int minSamples;
+    private final int windowSize;
+    private final int maxAttempts;
+    private final long backoffBaseNanos;
+    private final long backoffMaxNanos;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder deadlineExceeded = new LongAdder();
+
+    public HedgedCaller(@Value("${app.ai.hedge.enabled:true}") boolean hedgeEnabled,
+                        @Value("${app.ai.hedge.percentile:95}") double hedgePercentile,
+                        @Value("${app.ai.hedge.initial-delay-ms:3000}") long initialHedgeDelayMs,
+                        @Value("${app.ai.hedge.min-delay-ms:250}") long minHedgeDelayMs,
+                        @Value("${app.ai.hedge.min-samples:20}") int minSamples,
+                        @Value("${app.ai.hedge.window-size:200}") int windowSize,
+                        @Value("${app.ai.retry.max-attempts:3}") int maxAttempts,
+                        @Value("${app.ai.retry.backoff-base-ms:200}") long backoffBaseMs,
+                        @Value("${app.ai.retry.backoff-max-ms:2000}") long backoffMaxMs,
+                        @Value("${app.ai.hedge.workers:16}") int workerCount,
+                        @Value("${app.ai.hedge.queue-capacity:64}") int queueCapacity) {
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.initialHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialHedgeDelayMs);
+        this.minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(minHedgeDelayMs);
+        this.minSamples = minSamples;
+        this.windowSize = windowSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseNanos = TimeUnit.MILLISECONDS.toNanos(backoffBaseMs);
+        this.backoffMaxNanos = TimeUnit.MILLISECONDS.toNanos(backoffMaxMs);
+
+        this.workers = BoundedExecutors.fixed("ai-attempt", workerCount, queueCapacity);
+        this.scheduler = BoundedExecutors.scheduled("ai-hedge-timer", 1);
+    }
+
+    /**
+     * Run {@code attempt} until one try answers or the deadline passes.
+     *
+     * @param key latency statistics (and so the hedge delay) are kept per key
+     * @throws AiUnavailableException if the deadline passed first
+     * @throws RuntimeException the last failure once retries are used up
+     */
+    public String call(String key, Deadline deadline, Supplier<String> attempt) {
+        calls.increment();
+        Call call = new Call(windows.computeIfAbsent(key, k -> new LatencyWindow(windowSize)), deadline, attempt);
+        startRound(call, 1);
+        try {
+            return call.result.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            deadlineExceeded.increment();
+            call.result.cancel(false);
+            throw new AiUnavailableException("AI call for " + key + " missed its deadline");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            call.result.cancel(false);
+            throw new AiUnavailableException("Interrupted waiting for AI call");
+        }
+    }
+
+    public Stats stats() {
+        Map<String, Double> p95 = new LinkedHashMap<>();
+        windows.forEach((key, window) -> {
+            long nanos = window.percentile(hedgePercentile);
+            p95.put(key, nanos < 0 ? null : nanos / 1_000_000.0);
+        });
+        return new Stats(calls.sum(), attempts.sum(), hedges.sum(), hedgeWins.sum(),
+                retries.sum(), deadlineExceeded.sum(), p95);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void startRound(Call call, int number) {
+        Round round = new Round(call, number);
+        launch(round, false);
+        long hedgeAfter = hedgeDelayNanos(call.window);
+        if (hedgeEnabled && hedgeAfter < call.deadline.remainingNanos()) {
+            try {
+                scheduler.schedule(() -> launch(round, true), hedgeAfter, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                log.debug("Hedge timer unavailable: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void launch(Round round, boolean hedge) {
+        synchronized (round) {
+            if (round.finished || round.call.result.isDone()) {
+                return;
+            }
+            round.running++;
+        }
+        attempts.increment();
+        if (hedge) {
+            hedges.increment();
+        }
+        try {
+            workers.execute(() -> runAttempt(round, hedge));
+        } catch (RejectedExecutionException e) {
+            attemptFailed(round, new AiUnavailableException("AI attempt workers exhausted"));
+        }
+    }
+
+    private void runAttempt(Round round, boolean hedge) {
+        if (round.call.result.isDone()) {
+            attemptFailed(round, new AiUnavailableException("Call already settled"));
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            String response = round.call.attempt.get();
+            round.call.window.record(System.nanoTime() - start);
+            if (round.call.result.complete(response) && hedge) {
+                hedgeWins.increment();
+            }
+        } catch (RuntimeException e) {
+            attemptFailed(round, e);
+        }
+    }
+
+    private void attemptFailed(Round round, RuntimeException error) {
+        synchronized (round) {
+            round.running--;
+            if (round.running > 0 || round.finished) {
+                // The other attempt of this round may still answer
+                return;
+            }
+            round.finished = true;
+        }
+
+        Call call = round.call;
+        if (call.result.isDone()) {
+            return;
+        }
+        long backoff = backoffNanos(round.number);
+        if (round.number >= maxAttempts || backoff >= call.deadline.remainingNanos()) {
+            call.result.completeExceptionally(error);
+            return;
+        }
+        log.debug("AI attempt {} failed ({}), retrying in {} ms", round.number, error.getMessage(),
+                TimeUnit.NANOSECONDS.toMillis(backoff));
+        retries.increment();
+        try {
+            scheduler.schedule(() -> startRound(call, round.number + 1), backoff, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            call.result.completeExceptionally(error);
+        }
+    }
+
+    private long hedgeDelayNanos(LatencyWindow window) {
+        if (window.count() < minSamples) {
+            return initialHedgeDelayNanos;
+        }
+        return Math.max(minHedgeDelayNanos, window.percentile(hedgePercentile));
+    }
+
+    // Full jitter: uniform in [0, min(max, base * 2^(round - 1))]
+    private long backoffNanos(int round) {
+        long ceiling = Math.min(backoffMaxNanos, backoffBaseNanos << Math.min(round - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static class Call {
+        private final LatencyWindow window;
+        private final Deadline deadline;
+        private final Supplier<String> attempt;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        Call(LatencyWindow window, Deadline deadline, Supplier<String> attempt) {
+            this.window = window;
+            this.deadline = deadline;
+            this.attempt = attempt;
+        }
+    }
+
+    // One primary attempt plus at most one hedge; guarded by its own monitor
+    private static class Round {
+        private final Call call;
+        private final int number;
+        private int running;
+        private boolean finished;
+
+        Round(Call call, int number) {
+            this.call = call;
+            this.number = number;
+        }
+    }
+
+    /**
+     * Hedging and retry counters since startup, with the current latency
+     * percentile (in ms) that triggers a hedge for each key.
+     */
+    public static class Stats {
+        private final long calls;
+        private final long attempts;
+        private final long hedges;
+        private final long hedgeWins;
+        private final long retries;
+        private final long deadlineExceeded;
+        private final Map<String, Double> hedgeLatencyMs;
+
+        public Stats(long calls, long attempts, long hedges, long hedgeWins, long retries,
+                     long deadlineExceeded, Map<String, Double> hedgeLatencyMs) {
+            this.calls = calls;
+            this.attempts = attempts;
+            this.hedges = hedges;
+            this.hedgeWins = hedgeWins;
+            this.retries = retries;
+            this.deadlineExceeded = deadlineExceeded;
+            this.hedgeLatencyMs = hedgeLatencyMs;
+        }
+
+        public long getCalls() { return calls; }
+        public long getAttempts() { return attempts; }
+        public long getHedges() { return hedges; }
+        public long getHedgeWins() { return hedgeWins; }
+        public long getRetries() { return retries; }
+        public long getDeadlineExceeded() { return deadlineExceeded; }
+        public Map<String, Double> getHedgeLatencyMs() { return hedgeLatencyMs; }
+    }
+}
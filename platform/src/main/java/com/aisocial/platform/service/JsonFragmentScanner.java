@@ -0,0 +1,68 @@
+package com.aisocial.platform.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Incremental scanner over JSON text arriving in chunks.
+ *
+ * Tracks string and nesting state across chunks and hands back every object
+ * that closes at a given nesting depth (counting both objects and arrays),
+ * e.g. depth 3 for the elements of {@code {"suggestions": [{...}, {...}]}}.
+ * Text before the first bracket, such as a markdown fence, is ignored.
+ */
+final class JsonFragmentScanner {
+
+    private final int objectDepth;
+    private final StringBuilder text = new StringBuilder();
+    private final Deque<Integer> openings = new ArrayDeque<>();
+    private int scanned;
+    private boolean inString;
+    private boolean escaped;
+
+    JsonFragmentScanner(int objectDepth) {
+        this.objectDepth = objectDepth;
+    }
+
+    /**
+     * Append a chunk and return the objects at the target depth that it completed.
+     */
+    List<String> feed(String chunk) {
+        text.append(chunk);
+        List<String> completed = new ArrayList<>();
+        for (; scanned < text.length(); scanned++) {
+            char c = text.charAt(scanned);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                openings.push(scanned);
+            } else if ((c == '}' || c == ']') && !openings.isEmpty()) {
+                int depth = openings.size();
+                int start = openings.pop();
+                if (c == '}' && depth == objectDepth) {
+                    completed.add(text.substring(start, scanned + 1));
+                }
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Everything received so far.
+     */
+    CharSequence text() {
+        return text;
+    }
+}
@@ -0,0 +1,337 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Knowledge base of well-known claims with fixed verdicts, checked before
+ * any model call.
+ *
+ * Rules are loaded from a JSON file (app.fact-check.rules.location) and all
+ * their phrases are compiled into one {@link AhoCorasick} automaton, so a
+ * claim is matched against every rule in a single pass. Phrases match whole
+ * words only, ignoring case and punctuation. When several rules match, the
+ * most confident wins; only rules at or above app.fact-check.rules.min-confidence
+ * are authoritative enough to skip the model, and only when the claim asserts
+ * the known claim rather than merely mentioning it: the matched phrase must
+ * cover at least app.fact-check.rules.min-coverage of the claim's content
+ * words, and the claim must not be a question or negate or debunk the phrase
+ * ("flat earth theory has been debunked"). Other matches are left to the
+ * model.
+ *
+ * The file is re-read when it changes on disk (or on {@link #reload()}); a
+ * file that fails to load leaves the previous rules in place. Hit counters
+ * are kept per rule id and survive reloads.
+ */
+@Component
+public class KnownClaimRules {
+
+    private static final Logger log = LoggerFactory.getLogger(KnownClaimRules.class);
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // Words that turn a mention of a known claim into a rebuttal of it
+    private static final Set<String> DEBUNKING = Set.of(
+            "debunk", "debunked", "debunking", "debunks", "disproved", "disproven", "refuted", "refutes",
+            "myth", "myths", "hoax", "false", "untrue", "wrong", "misinformation", "nonsense", "conspiracy");
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+    private final int minConfidence;
+    private final double minCoverage;
+
+    private volatile Compiled compiled = Compiled.EMPTY;
+    private volatile long loadedModified = -1;
+    private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+
+    public KnownClaimRules(ResourceLoader resourceLoader,
+                           ObjectMapper objectMapper,
+                           @Value("${app.fact-check.rules.location:classpath:fact-check-rules.json}") String location,
+                           @Value("${app.fact-check.rules.min-confidence:90}") int minConfidence,
+                           @Value("${app.fact-check.rules.min-coverage:0.5}") double minCoverage) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+        this.minConfidence = minConfidence;
+        this.minCoverage = minCoverage;
+        reload();
+    }
+
+    /**
+     * The verdict of the best matching rule, if it is confident enough to
+     * stand in for a model call and the claim actually asserts it.
+     */
+    public Optional<FactCheckResultDTO> authoritativeMatch(String claim) {
+        return bestMatch(claim)
+                .filter(match -> match.rule.confidence >= minConfidence)
+                .filter(match -> asserts(claim, match))
+                .map(match -> hit(match.rule));
+    }
+
+    /**
+     * The verdict of the best matching rule regardless of confidence, e.g.
+     * for demo mode where any plausible answer beats a random one.
+     */
+    public Optional<FactCheckResultDTO> anyMatch(String claim) {
+        return bestMatch(claim).map(match -> hit(match.rule));
+    }
+
+    /**
+     * Re-read the rules file and swap in the new automaton.
+     *
+     * @return whether the file was loaded
+     */
+    public boolean reload() {
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            log.warn("Known-claim rules file {} not found; keeping {} rules", location, compiled.rules.size());
+            return false;
+        }
+        long modified = lastModified(resource);
+        try (InputStream in = resource.getInputStream()) {
+            RuleFile file = objectMapper.readValue(in, RuleFile.class);
+            compiled = compile(file.getRules() != null ? file.getRules() : List.of());
+            loadedModified = modified;
+            log.info("Loaded {} known-claim rules from {}", compiled.rules.size(), location);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not load known-claim rules from {}; keeping {} rules", location,
+                    compiled.rules.size(), e);
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.fact-check.rules.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        long modified = lastModified(resourceLoader.getResource(location));
+        if (modified > 0 && modified != loadedModified) {
+            reload();
+        }
+    }
+
+    /**
+     * Every loaded rule with its hit count since startup.
+     */
+    public List<RuleStats> stats() {
+        List<RuleStats> stats = new ArrayList<>();
+        for (Rule rule : compiled.rules) {
+            LongAdder count = hits.get(rule.id);
+            stats.add(new RuleStats(rule.id, rule.verdict, rule.confidence, count != null ? count.sum() : 0));
+        }
+        return stats;
+    }
+
+    // Most confident rule; among its hits, the longest phrase
+    private Optional<Match> bestMatch(String claim) {
+        Compiled current = compiled;
+        if (claim == null || current.rules.isEmpty()) {
+            return Optional.empty();
+        }
+        String text = normalize(claim);
+        Match best = null;
+        for (AhoCorasick.Hit hit : current.automaton.search(text)) {
+            Rule rule = current.ruleOfPattern.get(hit.pattern());
+            int length = hit.end() - hit.start();
+            if (best == null || rule.confidence > best.rule.confidence
+                    || (rule == best.rule && length > best.end - best.start)) {
+                best = new Match(rule, text, hit.start(), hit.end());
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Whether the claim states the matched phrase itself: not a question,
+     * no negation or debunking word around it, and the phrase is most of
+     * what the claim says.
+     */
+    private boolean asserts(String claim, Match match) {
+        if (claim.strip().endsWith("?")) {
+            return false;
+        }
+        int phraseWords = contentWords(match.text.substring(match.start, match.end));
+        int otherWords = 0;
+        for (String word : (match.text.substring(0, match.start) + " " + match.text.substring(match.end)).split(" ")) {
+            if (SimilarClaimIndex.NEGATIONS.contains(word) || DEBUNKING.contains(word)) {
+                return false;
+            }
+            if (!word.isEmpty() && !SimilarClaimIndex.STOP_WORDS.contains(word)) {
+                otherWords++;
+            }
+        }
+        return phraseWords > 0 && phraseWords >= minCoverage * (phraseWords + otherWords);
+    }
+
+    private static int contentWords(String text) {
+        int count = 0;
+        for (String word : text.split(" ")) {
+            if (!word.isEmpty() && !SimilarClaimIndex.STOP_WORDS.contains(word)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private FactCheckResultDTO hit(Rule rule) {
+        hits.computeIfAbsent(rule.id, id -> new LongAdder()).increment();
+        return rule.toResult();
+    }
+
+    /**
+     * Lowercase words separated by single spaces, padded with a space on both
+     * sides so that " phrase " only matches whole words.
+     */
+    static String normalize(String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return " " + NON_WORD.matcher(folded).replaceAll(" ").strip() + " ";
+    }
+
+    private static Compiled compile(List<Rule> rules) {
+        List<String> patterns = new ArrayList<>();
+        List<Rule> ruleOfPattern = new ArrayList<>();
+        List<Rule> valid = new ArrayList<>();
+        for (Rule rule : rules) {
+            if (rule.id == null || rule.verdict == null || rule.patterns == null) {
+                throw new IllegalArgumentException("Rule needs id, verdict and patterns: " + rule.id);
+            }
+            valid.add(rule);
+            for (String phrase : rule.patterns) {
+                String normalized = normalize(phrase);
+                if (!normalized.isBlank()) {
+                    patterns.add(normalized);
+                    ruleOfPattern.add(rule);
+                }
+            }
+        }
+        return new Compiled(valid, new AhoCorasick(patterns), ruleOfPattern);
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.exists() && resource.isFile() ? resource.lastModified() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Match(Rule rule, String text, int start, int end) {
+    }
+
+    private static class Compiled {
+        static final Compiled EMPTY = new Compiled(List.of(), new AhoCorasick(List.of()), List.of());
+
+        private final List<Rule> rules;
+        private final AhoCorasick automaton;
+        private final List<Rule> ruleOfPattern;
+
+        Compiled(List<Rule> rules, AhoCorasick automaton, List<Rule> ruleOfPattern) {
+            this.rules = rules;
+            this.automaton = automaton;
+            this.ruleOfPattern = ruleOfPattern;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class RuleFile {
+        private List<Rule> rules;
+
+        public List<Rule> getRules() { return rules; }
+        public void setRules(List<Rule> rules) { this.rules = rules; }
+    }
+
+    /**
+     * One known claim: the phrases that identify it and the verdict to give.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Rule {
+        private String id;
+        private List<String> patterns;
+        private String verdict;
+        private int confidence;
+        private String summary;
+        private List<String> reasoning;
+        private List<FactCheckResultDTO.Source> sources;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public List<String> getPatterns() { return patterns; }
+        public void setPatterns(List<String> patterns) { this.patterns = patterns; }
+
+        public String getVerdict() { return verdict; }
+        public void setVerdict(String verdict) { this.verdict = verdict; }
+
+        public int getConfidence() { return confidence; }
+        public void setConfidence(int confidence) { this.confidence = confidence; }
+
+        public String getSummary() { return summary; }
+        public void setSummary(String summary) { this.summary = summary; }
+
+        public List<String> getReasoning() { return reasoning; }
+        public void setReasoning(List<String> reasoning) { this.reasoning = reasoning; }
+
+        public List<FactCheckResultDTO.Source> getSources() { return sources; }
+        public void setSources(List<FactCheckResultDTO.Source> sources) { this.sources = sources; }
+
+        // A fresh DTO per match, so callers may modify it
+        FactCheckResultDTO toResult() {
+            FactCheckResultDTO result = new FactCheckResultDTO();
+            result.setVerdict(verdict);
+            result.setConfidence(confidence);
+            result.setSummary(summary);
+            result.setReasoning(reasoning != null ? List.copyOf(reasoning) : List.of());
+            if (sources != null && !sources.isEmpty()) {
+                result.setSources(List.copyOf(sources));
+            } else {
+                FactCheckResultDTO.Source source = new FactCheckResultDTO.Source();
+                source.setTitle("Known-claim knowledge base");
+                source.setRelevance("Matched rule " + id);
+                result.setSources(List.of(source));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A loaded rule and how often it answered a claim.
+     */
+    public static class RuleStats {
+        private final String id;
+        private final String verdict;
+        private final int confidence;
+        private final long hits;
+
+        public RuleStats(String id, String verdict, int confidence, long hits) {
+            this.id = id;
+            this.verdict = verdict;
+            this.confidence = confidence;
+            this.hits = hits;
+        }
+
+        public String getId() { return id; }
+        public String getVerdict() { return verdict; }
+        public int getConfidence() { return confidence; }
+        public long getHits() { return hits; }
+    }
+}
@@ -0,0 +1,83 @@
+package com.aisocial.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Write-behind buffer for post like counts.
+ *
+ * Likes and unlikes record a delta here instead of loading the post, changing
+ * likeCount and saving the whole entity, which serialized hot posts on the
+ * SQLite write lock and could lose updates. Deltas are flushed on a short
+ * interval as one batch of {@code like_count = like_count + ?} updates.
+ */
+@Component
+public class LikeCountBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeCountBuffer.class);
+
+    private static final String FLUSH_SQL =
+            "UPDATE posts SET like_count = COALESCE(like_count, 0) + ? WHERE id = ?";
+
+    private final DeltaCounter<UUID> deltas = new DeltaCounter<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Counted only once the like row is committed, so a rolled-back like
+    // (e.g. a duplicate losing the unique constraint) leaves no delta
+    public void increment(UUID postId) {
+        deltas.addAfterCommit(postId, 1);
+    }
+
+    public void decrement(UUID postId) {
+        deltas.addAfterCommit(postId, -1);
+    }
+
+    public void forget(UUID postId) {
+        deltas.forget(postId);
+    }
+
+    /**
+     * Live like count: the persisted value plus any delta not yet flushed.
+     */
+    public int currentCount(UUID postId, Integer persisted) {
+        long count = (persisted == null ? 0 : persisted) + deltas.pending(postId);
+        return (int) Math.max(0, count);
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.flush-interval-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        Map<UUID, Long> drained = deltas.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(drained.size());
+        drained.forEach((postId, delta) -> batch.add(new Object[]{delta, postId.toString()}));
+        try {
+            // One transaction: a failed batch rolls back whole and is retried whole
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            log.debug("Flushed like count deltas for {} posts", batch.size());
+        } catch (RuntimeException e) {
+            deltas.restore(drained);
+            log.warn("Like count flush failed; will retry {} deltas", drained.size(), e);
+        }
+    }
+}
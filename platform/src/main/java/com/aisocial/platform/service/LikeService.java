@@ -10,6 +10,11 @@ public interface LikeService {
     void unlikePost(UUID userId, UUID postId);
 
     long countLikes(UUID postId);
+
+    /**
+     * Like count including likes not yet flushed to the posts table.
+     */
+    long getLikeCount(UUID postId);
     
     boolean toggleLike(UUID userId, UUID postId);
 }
\ No newline at end of file
@@ -17,11 +17,14 @@ public class LikeServiceImpl implements LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
-    public LikeServiceImpl(LikeRepository likeRepository, UserRepository userRepository, PostRepository postRepository) {
+    public LikeServiceImpl(LikeRepository likeRepository, UserRepository userRepository, PostRepository postRepository,
+                           LikeCountBuffer likeCountBuffer) {
         this.likeRepository = likeRepository;
         this.userRepository = userRepository;
         this.postRepository = postRepository;
+        this.likeCountBuffer = likeCountBuffer;
     }
 
     @Override
@@ -35,10 +38,9 @@ public class LikeServiceImpl implements LikeService {
         // Allow liking own posts
         return likeRepository.findByUserAndPost(user, post)
             .orElseGet(() -> {
-                Like like = new Like(user, post);
-                post.incrementLikeCount();
-                postRepository.save(post);
-                return likeRepository.save(like);
+                Like saved = likeRepository.save(new Like(user, post));
+                likeCountBuffer.increment(postId);
+                return saved;
             });
     }
 
@@ -52,8 +54,7 @@ public class LikeServiceImpl implements LikeService {
 
         likeRepository.findByUserAndPost(user, post).ifPresent(like -> {
             likeRepository.delete(like);
-            post.setLikeCount(Math.max(0, post.getLikeCount() - 1));
-            postRepository.save(post);
+            likeCountBuffer.decrement(postId);
         });
     }
 
@@ -64,6 +65,13 @@ public class LikeServiceImpl implements LikeService {
         return likeRepository.countByPost(post);
     }
 
+    @Override
+    public long getLikeCount(UUID postId) {
+        Post post = postRepository.findById(postId)
+            .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+        return likeCountBuffer.currentCount(postId, post.getLikeCount());
+    }
+
     @Override
     @Transactional
     public boolean toggleLike(UUID userId, UUID postId) {
@@ -74,16 +82,15 @@ public class LikeServiceImpl implements LikeService {
 
         var existingLike = likeRepository.findByUserAndPost(user, post);
         
+        // Only the like row is written here; the post's like_count is
+        // updated in batches by LikeCountBuffer
         if (existingLike.isPresent()) {
             likeRepository.delete(existingLike.get());
-            post.setLikeCount(Math.max(0, post.getLikeCount() - 1));
-            postRepository.save(post);
+            likeCountBuffer.decrement(postId);
             return false;
         } else {
-            Like like = new Like(user, post);
-            post.incrementLikeCount();
-            postRepository.save(post);
-            likeRepository.save(like);
+            likeRepository.save(new Like(user, post));
+            likeCountBuffer.increment(postId);
             return true;
         }
     }
@@ -0,0 +1,143 @@
+package com.aisocial.platform.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * MinHash signatures with LSH banding over sets of hashed shingles.
+ *
+ * A signature keeps, for each of {@code numHashes} hash functions, the
+ * smallest hash of any shingle; two sets agree on a position with
+ * probability equal to their Jaccard similarity. Signatures are cut into
+ * {@code bands} bands of equal rows and each band is bucketed, so
+ * {@link #candidates} only returns ids sharing at least one whole band
+ * (likely for similar sets, unlikely for dissimilar ones) instead of
+ * scanning everything. Not thread-safe; callers synchronize.
+ */
+final class MinHashLsh {
+
+    private final long[] seeds;
+    private final int bands;
+    private final int rows;
+    private final List<Map<Long, List<Long>>> buckets = new ArrayList<>();
+
+    MinHashLsh(int numHashes, int bands, long seed) {
+        if (bands <= 0 || numHashes % bands != 0) {
+            throw new IllegalArgumentException("numHashes must be a multiple of bands");
+        }
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.seeds = new Random(seed).longs(numHashes).toArray();
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Single words plus adjacent word pairs, hashed to 64 bits.
+     */
+    static Set<Long> shingles(List<String> words) {
+        Set<Long> shingles = new HashSet<>();
+        for (int i = 0; i < words.size(); i++) {
+            shingles.add(hash(words.get(i)));
+            if (i + 1 < words.size()) {
+                shingles.add(hash(words.get(i) + ' ' + words.get(i + 1)));
+            }
+        }
+        return shingles;
+    }
+
+    long[] signature(Set<Long> shingles) {
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                long value = mix(shingle ^ seeds[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    void add(long id, long[] signature) {
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new ArrayList<>(1)).add(id);
+        }
+    }
+
+    void remove(long id, long[] signature) {
+        for (int band = 0; band < bands; band++) {
+            Map<Long, List<Long>> bucket = buckets.get(band);
+            long key = bandKey(signature, band);
+            List<Long> ids = bucket.get(key);
+            if (ids != null) {
+                ids.remove(Long.valueOf(id));
+                if (ids.isEmpty()) {
+                    bucket.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ids that share at least one band with the signature.
+     */
+    Set<Long> candidates(long[] signature) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            List<Long> ids = buckets.get(band).get(bandKey(signature, band));
+            if (ids != null) {
+                candidates.addAll(ids);
+            }
+        }
+        return candidates;
+    }
+
+    static double jaccard(Set<Long> a, Set<Long> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1.0;
+        }
+        Set<Long> smaller = a.size() <= b.size() ? a : b;
+        Set<Long> larger = smaller == a ? b : a;
+        int common = 0;
+        for (long shingle : smaller) {
+            if (larger.contains(shingle)) {
+                common++;
+            }
+        }
+        return (double) common / (a.size() + b.size() - common);
+    }
+
+    private long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    // 64-bit FNV-1a over UTF-8, finished with the SplitMix64 mixer
+    private static long hash(String shingle) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : shingle.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,7 +2,6 @@ package com.aisocial.platform.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -13,13 +12,13 @@ public class PostAssistantService {
 
     private static final Logger log = LoggerFactory.getLogger(PostAssistantService.class);
 
-    private final ChatClient chatClient;
+    private final AiGateway aiGateway;
 
     @Value("${app.fact-check.demo-mode:false}")
     private boolean demoMode;
 
-    public PostAssistantService(ChatClient.Builder chatClientBuilder) {
-        this.chatClient = chatClientBuilder.build();
+    public PostAssistantService(AiGateway aiGateway) {
+        this.aiGateway = aiGateway;
     }
 
     /**
@@ -44,10 +43,7 @@ public class PostAssistantService {
         try {
             log.info("Sending improve request to AI");
 
-            String response = chatClient.prompt()
-                    .user(prompt)
-                    .call()
-                    .content();
+            String response = aiGateway.call(AiGateway.Use.ASSISTANT, prompt);
 
             return parseResponse(response);
 
@@ -79,10 +75,7 @@ public class PostAssistantService {
         try {
             log.info("Sending generate request to AI");
 
-            String response = chatClient.prompt()
-                    .user(systemPrompt)
-                    .call()
-                    .content();
+            String response = aiGateway.call(AiGateway.Use.ASSISTANT, systemPrompt);
 
             return parseResponse(response);
 
@@ -92,6 +85,68 @@ public class PostAssistantService {
         }
     }
 
+    /**
+     * Streaming variant of {@link #improvePost}: forwards model tokens to the
+     * listener and emits a "suggestion" event as each suggestion completes.
+     */
+    public PostAssistantResult streamImprovePost(String content, String instruction, AiStreamListener listener) {
+        if (content == null || content.trim().isEmpty()) {
+            return PostAssistantResult.error("No content provided to improve");
+        }
+
+        if (demoMode) {
+            return generateDemoImproveResult(content);
+        }
+
+        return streamSuggestions(buildImprovePrompt(content, instruction), listener);
+    }
+
+    /**
+     * Streaming variant of {@link #generatePost}: forwards model tokens to the
+     * listener and emits a "suggestion" event as each suggestion completes.
+     */
+    public PostAssistantResult streamGeneratePost(String prompt, AiStreamListener listener) {
+        if (prompt == null || prompt.trim().isEmpty()) {
+            return PostAssistantResult.error("No prompt provided");
+        }
+
+        if (demoMode) {
+            return generateDemoGenerateResult(prompt);
+        }
+
+        return streamSuggestions(buildGeneratePrompt(prompt), listener);
+    }
+
+    private PostAssistantResult streamSuggestions(String prompt, AiStreamListener listener) {
+        // Suggestions sit at {"suggestions": [ {...} ]}, i.e. depth 3
+        JsonFragmentScanner scanner = new JsonFragmentScanner(3);
+        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+
+        try {
+            log.info("Streaming assistant response from AI");
+
+            String response = aiGateway.stream(AiGateway.Use.ASSISTANT, prompt, chunk -> {
+                listener.onToken(chunk);
+                for (String fragment : scanner.feed(chunk)) {
+                    try {
+                        listener.onEvent("suggestion", mapper.readValue(fragment, PostAssistantResult.Suggestion.class));
+                    } catch (Exception e) {
+                        log.debug("Skipping unparseable suggestion fragment: {}", fragment);
+                    }
+                }
+            }, listener::isCancelled);
+
+            if (listener.isCancelled()) {
+                return PostAssistantResult.error("Request cancelled");
+            }
+            return parseResponse(response);
+
+        } catch (Exception e) {
+            log.error("Error streaming from AI service: {}", e.getMessage(), e);
+            return PostAssistantResult.error("AI service unavailable: " + e.getMessage());
+        }
+    }
+
     private String buildImprovePrompt(String content, String instruction) {
         String additionalInstruction = instruction != null && !instruction.isEmpty()
                 ? "\n\nUser's specific request: " + instruction
@@ -0,0 +1,52 @@
+package com.aisocial.platform.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over (createdAt, id), the tie-broken ordering used by
+ * every post listing. Clients pass back {@code nextCursor} unchanged; the
+ * next page seeks past the encoded position instead of counting rows to skip.
+ */
+public final class PostCursor {
+
+    private final Instant createdAt;
+    private final UUID id;
+
+    public PostCursor(Instant createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static PostCursor of(Instant createdAt, UUID id) {
+        return new PostCursor(createdAt, id);
+    }
+
+    /**
+     * Decode a cursor string. Returns null for a missing cursor (first page).
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new PostCursor(
+                    Instant.ofEpochMilli(Long.parseLong(raw.substring(0, sep))),
+                    UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toEpochMilli() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public UUID getId() { return id; }
+}
@@ -0,0 +1,143 @@
+package com.aisocial.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FTS5 full-text index over posts.content.
+ *
+ * posts has a text UUID key and no stable integer rowid (SQLite may renumber
+ * the implicit one on VACUUM), so posts_fts_map hands each post an INTEGER
+ * PRIMARY KEY and posts_fts stores the post's text under that rowid. Every
+ * trigger finds a post's FTS row through the map's post_id index and touches
+ * it by rowid, never by scanning the index. Triggers on posts keep it in step
+ * with every insert, content change and delete, including rows written
+ * outside the application (e.g. seed data). Hibernate does not manage
+ * virtual tables or triggers, so they are created here at startup; an index
+ * left over from an older layout is dropped and rebuilt.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    static final List<String> SCHEMA = List.of(
+            """
+            CREATE TABLE IF NOT EXISTS posts_fts_map (
+                rowid INTEGER PRIMARY KEY,
+                post_id VARCHAR(36) NOT NULL UNIQUE
+            )
+            """,
+            """
+            CREATE VIRTUAL TABLE IF NOT EXISTS posts_fts USING fts5(
+                content,
+                tokenize = 'unicode61 remove_diacritics 2'
+            )
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS posts_fts_insert AFTER INSERT ON posts BEGIN
+                INSERT INTO posts_fts_map (post_id) VALUES (new.id);
+                INSERT INTO posts_fts (rowid, content)
+                    VALUES ((SELECT rowid FROM posts_fts_map WHERE post_id = new.id), new.content);
+            END
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS posts_fts_delete AFTER DELETE ON posts BEGIN
+                DELETE FROM posts_fts WHERE rowid = (SELECT rowid FROM posts_fts_map WHERE post_id = old.id);
+                DELETE FROM posts_fts_map WHERE post_id = old.id;
+            END
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS posts_fts_update AFTER UPDATE OF content ON posts
+            WHEN old.content IS NOT new.content BEGIN
+                UPDATE posts_fts SET content = new.content
+                    WHERE rowid = (SELECT rowid FROM posts_fts_map WHERE post_id = new.id);
+            END
+            """
+    );
+
+    // Earlier layouts had no map table; their triggers are replaced too
+    private static final List<String> DROP_LEGACY = List.of(
+            "DROP TRIGGER IF EXISTS posts_fts_insert",
+            "DROP TRIGGER IF EXISTS posts_fts_delete",
+            "DROP TRIGGER IF EXISTS posts_fts_update",
+            "DROP TABLE IF EXISTS posts_fts"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public PostSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            boolean created = ensureSchema();
+            if (created || rebuildOnStartup) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("Could not set up the post search index; search will fail until it exists", e);
+        }
+    }
+
+    /**
+     * Create the index tables and sync triggers if missing, replacing an
+     * older layout. Returns true if the index is new (and so needs a rebuild
+     * to index old posts).
+     */
+    public boolean ensureSchema() {
+        Integer map = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = 'posts_fts_map'", Integer.class);
+        boolean created = map == null || map == 0;
+        if (created) {
+            DROP_LEGACY.forEach(jdbcTemplate::execute);
+        }
+        SCHEMA.forEach(jdbcTemplate::execute);
+        return created;
+    }
+
+    /**
+     * Re-index every post from the posts table.
+     */
+    public void rebuild() {
+        jdbcTemplate.execute("DELETE FROM posts_fts");
+        jdbcTemplate.execute("DELETE FROM posts_fts_map");
+        jdbcTemplate.execute("INSERT INTO posts_fts_map (post_id) SELECT id FROM posts");
+        jdbcTemplate.execute("""
+                INSERT INTO posts_fts (rowid, content)
+                SELECT m.rowid, p.content FROM posts_fts_map m JOIN posts p ON p.id = m.post_id
+                """);
+        log.info("Rebuilt post search index");
+    }
+
+    /**
+     * Turn free text into an FTS5 query: every word becomes a quoted prefix
+     * term, so operators and punctuation in user input are never parsed as
+     * query syntax. Returns null if the text has no searchable words.
+     */
+    public static String toMatchQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                terms.add("\"" + word + "\"*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
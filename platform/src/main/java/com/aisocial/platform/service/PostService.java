@@ -1,11 +1,11 @@
 package com.aisocial.platform.service;
 
+import com.aisocial.platform.dto.CursorSliceDTO;
 import com.aisocial.platform.dto.PostResponseDTO;
 import com.aisocial.platform.dto.PostSearchRequestDTO;
 import com.aisocial.platform.dto.PostStyleDTO;
 import com.aisocial.platform.entity.Post;
 import com.aisocial.platform.entity.User;
-import org.springframework.data.domain.Page;    
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +19,9 @@ public interface PostService {
 
     PostResponseDTO createPostWithFactCheckAndStyle(UUID authorId, String content, boolean factCheck, PostStyleDTO style);
 
+    PostResponseDTO createPostWithFactCheckAndStyle(UUID authorId, String content, boolean factCheck,
+                                                    PostStyleDTO style, String precheckToken);
+
     Post replyToPost(UUID authorId, UUID parentPostId, String content);
 
     Post repost(UUID authorId, UUID originalPostId);
@@ -29,9 +32,9 @@ public interface PostService {
 
     List<Post> getPostsByUser(User user);
 
-    List<PostResponseDTO> getPostsByUserId(UUID userId);
+    CursorSliceDTO<PostResponseDTO> getPostsByUserId(UUID userId, String cursor, int size);
 
-    List<PostResponseDTO> getRepliesByUserId(UUID userId);
+    CursorSliceDTO<PostResponseDTO> getRepliesByUserId(UUID userId, String cursor, int size);
 
     void likePost(Post post);
 
@@ -39,11 +42,11 @@ public interface PostService {
 
     void incrementRepostCount(Post post);
 
-    List<PostResponseDTO> getFeedForUser(UUID userId);
+    CursorSliceDTO<PostResponseDTO> getFeedForUser(UUID userId, String cursor, int size);
 
-    List<Post> getReplies(UUID postId);
+    CursorSliceDTO<PostResponseDTO> getReplies(UUID postId, UUID viewerId, String cursor, int size);
 
-    Page<PostResponseDTO> searchPosts(PostSearchRequestDTO request);
+    CursorSliceDTO<PostResponseDTO> searchPosts(PostSearchRequestDTO request);
 
     PostResponseDTO convertPostToDTO(Post post, UUID currentUserId);
 }
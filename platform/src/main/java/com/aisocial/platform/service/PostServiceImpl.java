@@ -1,5 +1,6 @@
 package com.aisocial.platform.service;
 
+import com.aisocial.platform.dto.CursorSliceDTO;
 import com.aisocial.platform.dto.FactCheckResultDTO;
 import com.aisocial.platform.dto.PostResponseDTO;
 import com.aisocial.platform.dto.PostSearchRequestDTO;
@@ -18,13 +19,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,6 +44,11 @@ public class PostServiceImpl implements PostService {
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
     private final AIFactCheckService aiFactCheckService;
+    private final TimelineService timelineService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final DraftPrecheckStore draftPrecheckStore;
+    private final FactCheckJobService factCheckJobService;
+    private final TrustScoreService trustScoreService;
     private final ObjectMapper objectMapper;
 
     public PostServiceImpl(PostRepository postRepository,
@@ -44,12 +56,22 @@ public class PostServiceImpl implements PostService {
                            UserRepository userRepository,
                            LikeRepository likeRepository,
                            AIFactCheckService aiFactCheckService,
+                           TimelineService timelineService,
+                           LikeCountBuffer likeCountBuffer,
+                           DraftPrecheckStore draftPrecheckStore,
+                           FactCheckJobService factCheckJobService,
+                           TrustScoreService trustScoreService,
                            ObjectMapper objectMapper) {
         this.postRepository = postRepository;
         this.followRepository = followRepository;
         this.userRepository = userRepository;
         this.likeRepository = likeRepository;
         this.aiFactCheckService = aiFactCheckService;
+        this.timelineService = timelineService;
+        this.likeCountBuffer = likeCountBuffer;
+        this.draftPrecheckStore = draftPrecheckStore;
+        this.factCheckJobService = factCheckJobService;
+        this.trustScoreService = trustScoreService;
         this.objectMapper = objectMapper;
     }
 
@@ -63,7 +85,10 @@ public class PostServiceImpl implements PostService {
         post.setContent(content);
         post.setCreatedAt(Instant.now());
 
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        userRepository.adjustPostCount(savedPost.getAuthor().getId(), 1);
+        timelineService.fanOut(savedPost);
+        return savedPost;
     }
 
     @Override
@@ -73,6 +98,12 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public PostResponseDTO createPostWithFactCheckAndStyle(UUID authorId, String content, boolean factCheck, PostStyleDTO style) {
+        return createPostWithFactCheckAndStyle(authorId, content, factCheck, style, null);
+    }
+
+    @Override
+    public PostResponseDTO createPostWithFactCheckAndStyle(UUID authorId, String content, boolean factCheck,
+                                                           PostStyleDTO style, String precheckToken) {
         User author = userRepository.findById(authorId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -98,36 +129,62 @@ public class PostServiceImpl implements PostService {
 
         FactCheckResultDTO factCheckResult = null;
 
-        // Run fact-check if requested
+        // Attach the verdict from the draft preview; without one the post is
+        // published as pending and checked in the background, so publishing
+        // never waits on the model
         if (factCheck) {
-            log.info("Running pre-publish fact-check for post by user {}", authorId);
-            factCheckResult = aiFactCheckService.previewFactCheck(content);
-
-            // Update post with fact-check results
-            if (factCheckResult != null && factCheckResult.getError() == null) {
+            factCheckResult = draftPrecheckStore.redeem(precheckToken, authorId, content).orElse(null);
+            if (factCheckResult != null) {
+                log.info("Attaching draft pre-check verdict to post by user {}", authorId);
                 post.setFactCheckStatus(mapVerdictToStatus(factCheckResult.getVerdict()));
                 post.setFactCheckScore(factCheckResult.getConfidence() != null
                         ? factCheckResult.getConfidence() / 100.0 : null);
                 post.setWasCheckedBefore(true);
+                post.setFactCheckedAt(Instant.now());
 
                 try {
                     post.setFactCheckData(objectMapper.writeValueAsString(factCheckResult));
                 } catch (Exception e) {
                     log.warn("Could not serialize fact-check data", e);
                 }
+            } else {
+                post.setFactCheckPending(true);
             }
         }
 
         // Save the post
         Post savedPost = postRepository.save(post);
+        userRepository.adjustPostCount(savedPost.getAuthor().getId(), 1);
+        timelineService.fanOut(savedPost);
+        if (factCheckResult != null) {
+            // The attached verdict counts like a check, so a later one is a re-check
+            trustScoreService.updateOnFactCheck(authorId, savedPost.getFactCheckStatus());
+        }
+
+        UUID factCheckJobId = null;
+        if (Boolean.TRUE.equals(savedPost.getFactCheckPending())) {
+            factCheckJobId = submitPrePublishCheck(savedPost);
+        }
 
         // Convert to DTO and include fact-check result
         PostResponseDTO dto = convertToDTO(savedPost, authorId);
         dto.setFactCheckResult(factCheckResult);
+        dto.setFactCheckJobId(factCheckJobId);
 
         return dto;
     }
 
+    private UUID submitPrePublishCheck(Post post) {
+        try {
+            return factCheckJobService.submitPrePublish(post.getId(), post.getContent()).getJobId();
+        } catch (IllegalStateException e) {
+            log.warn("Fact-check queue full; post {} published unchecked", post.getId());
+            post.setFactCheckPending(false);
+            postRepository.save(post);
+            return null;
+        }
+    }
+
     private FactCheckStatus mapVerdictToStatus(String verdict) {
         if (verdict == null) {
             return FactCheckStatus.UNCHECKED;
@@ -161,7 +218,10 @@ public class PostServiceImpl implements PostService {
         postRepository.save(parent);
 
         // Save and return the reply
-        return postRepository.save(reply);
+        Post savedReply = postRepository.save(reply);
+        userRepository.adjustPostCount(savedReply.getAuthor().getId(), 1);
+        timelineService.fanOut(savedReply);
+        return savedReply;
     }
 
     @Override
@@ -179,7 +239,10 @@ public class PostServiceImpl implements PostService {
         original.incrementRepostCount();
         postRepository.save(original);
 
-        return postRepository.save(repost);
+        Post savedRepost = postRepository.save(repost);
+        userRepository.adjustPostCount(savedRepost.getAuthor().getId(), 1);
+        timelineService.fanOut(savedRepost);
+        return savedRepost;
     }
 
     @Override
@@ -191,7 +254,10 @@ public class PostServiceImpl implements PostService {
             throw new IllegalStateException("User is not the author of this post");
         }
 
+        timelineService.removePost(post);
         postRepository.delete(post);
+        likeCountBuffer.forget(postId);
+        userRepository.adjustPostCount(authorId, -1);
     }
 
     @Override
@@ -205,33 +271,38 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public List<PostResponseDTO> getPostsByUserId(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    public CursorSliceDTO<PostResponseDTO> getPostsByUserId(UUID userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
 
-        List<Post> posts = postRepository.findByAuthorOrderByCreatedAtDesc(user);
+        PostCursor after = PostCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Post> posts = after == null
+                ? postRepository.findPageByAuthor(userId, pageable)
+                : postRepository.findPageByAuthorBefore(userId, after.getCreatedAt(), after.getId(), pageable);
 
-        return posts.stream()
-                .map(post -> convertToDTO(post, userId))
-                .collect(Collectors.toList());
+        return toCursorSlice(posts, userId);
     }
 
     @Override
-    public List<PostResponseDTO> getRepliesByUserId(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    public CursorSliceDTO<PostResponseDTO> getRepliesByUserId(UUID userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
 
-        List<Post> replies = postRepository.findByAuthorAndReplyToIsNotNullOrderByCreatedAtDesc(user);
+        PostCursor after = PostCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Post> replies = after == null
+                ? postRepository.findReplyPageByAuthor(userId, pageable)
+                : postRepository.findReplyPageByAuthorBefore(userId, after.getCreatedAt(), after.getId(), pageable);
 
-        return replies.stream()
-                .map(post -> convertToDTO(post, userId))
-                .collect(Collectors.toList());
+        return toCursorSlice(replies, userId);
     }
 
     @Override
     public void likePost(Post post) {
-        post.incrementLikeCount();
-        postRepository.save(post);
+        likeCountBuffer.increment(post.getId());
     }
 
     @Override
@@ -247,90 +318,165 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public List<PostResponseDTO> getFeedForUser(UUID userId) {
+    public CursorSliceDTO<PostResponseDTO> getFeedForUser(UUID userId, String cursor, int size) {
         userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        List<User> followedUsers = followRepository.findFollowingByUserId(userId);
-
-        if (followedUsers.isEmpty()) {
-            return List.of();
-        }
+        // Read the pre-built timeline instead of querying every followed author.
+        // One extra row tells us whether another page exists.
+        List<Post> posts = timelineService.readTimeline(userId, PostCursor.decode(cursor), size + 1);
+        boolean hasNext = posts.size() > size;
+        Slice<Post> slice = new SliceImpl<>(hasNext ? posts.subList(0, size) : posts, PageRequest.of(0, size), hasNext);
 
-        List<Post> posts = postRepository.findFeedPostsByAuthors(followedUsers);
-        
-        return posts.stream()
-            .map(post -> convertToDTO(post, userId))  // Pass userId here
-            .collect(Collectors.toList());
+        return toCursorSlice(slice, userId);
     }
 
     @Override
-    public List<Post> getReplies(UUID postId) {
-        return postRepository.findByReplyTo_IdOrderByCreatedAtAsc(postId);
+    public CursorSliceDTO<PostResponseDTO> getReplies(UUID postId, UUID viewerId, String cursor, int size) {
+        PostCursor after = PostCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Post> replies = after == null
+                ? postRepository.findReplyPageByParent(postId, pageable)
+                : postRepository.findReplyPageByParentAfter(postId, after.getCreatedAt(), after.getId(), pageable);
+
+        return toCursorSlice(replies, viewerId);
     }
-    
+
     @Override
-    public Page<PostResponseDTO> searchPosts(PostSearchRequestDTO request) {
+    public CursorSliceDTO<PostResponseDTO> searchPosts(PostSearchRequestDTO request) {
         User author = null;
         if (request.getAuthorId() != null) {
             author = userRepository.findById(request.getAuthorId())
                     .orElseThrow(() -> new IllegalArgumentException("Author not found"));
         }
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-
-        // Escape LIKE wildcards in query to prevent pattern injection
-        String escapedQuery = request.getQuery() != null 
-            ? escapeLikePattern(request.getQuery()) 
-            : null;
+        // Free text goes through the FTS index, ranked by relevance
+        String match = PostSearchIndex.toMatchQuery(request.getQuery());
+        if (match != null) {
+            return searchRanked(match, request);
+        }
 
-        Page<Post> posts = postRepository.searchPosts(
-                escapedQuery,
+        PostCursor after = PostCursor.decode(request.getCursor());
+        Slice<Post> posts = postRepository.findPageFiltered(
                 author,
                 request.getStart(),
                 request.getEnd(),
-                pageable
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getId() : null,
+                PageRequest.of(0, request.getSize())
+        );
+
+        // The viewerId is who is VIEWING the search results, not the author
+        return toCursorSlice(posts, request.getViewerId());
+    }
+
+    private CursorSliceDTO<PostResponseDTO> searchRanked(String match, PostSearchRequestDTO request) {
+        RankCursor after = RankCursor.decode(request.getCursor());
+        int size = request.getSize();
+
+        List<Object[]> rows = postRepository.searchRanked(
+                match,
+                request.getAuthorId() != null ? request.getAuthorId().toString() : null,
+                request.getStart() != null ? request.getStart().toEpochMilli() : null,
+                request.getEnd() != null ? request.getEnd().toEpochMilli() : null,
+                after != null ? after.getScore() : null,
+                after != null ? after.getId().toString() : null,
+                size + 1
         );
 
-        // Use the viewerId from the request, NOT the author's ID
-        // The viewerId is who is VIEWING the search results
-        UUID viewerId = request.getViewerId(); // You'll need to add this to PostSearchRequestDTO
+        boolean hasNext = rows.size() > size;
+        List<Object[]> page = hasNext ? rows.subList(0, size) : rows;
+        List<UUID> ids = page.stream()
+                .map(row -> UUID.fromString(row[0].toString()))
+                .toList();
+
+        Map<UUID, Post> postsById = ids.isEmpty()
+                ? Map.of()
+                : postRepository.findAllWithAuthorByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = page.get(page.size() - 1);
+            nextCursor = new RankCursor(((Number) last[1]).longValue(), UUID.fromString(last[0].toString())).encode();
+        }
+        return new CursorSliceDTO<>(convertToDTOs(posts, request.getViewerId()), nextCursor, hasNext);
+    }
+
+    /**
+     * Convert a slice of posts for the viewer, pointing the next cursor at the
+     * last post returned.
+     */
+    private CursorSliceDTO<PostResponseDTO> toCursorSlice(Slice<Post> posts, UUID viewerId) {
+        List<Post> content = posts.getContent();
+        String nextCursor = null;
+        if (posts.hasNext() && !content.isEmpty()) {
+            Post last = content.get(content.size() - 1);
+            nextCursor = PostCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
 
-        return posts.map(post -> convertToDTO(post, viewerId));
+        return new CursorSliceDTO<>(convertToDTOs(content, viewerId), nextCursor, posts.hasNext());
     }
 
     /**
-     * Escapes LIKE pattern wildcards in user input to prevent pattern injection.
+     * Convert a page of posts, loading the viewer's like, repost and follow
+     * state for the whole page with one IN-list query each instead of up to
+     * four lookups per post.
      */
-    private String escapeLikePattern(String input) {
-        return input
-                .replace("\\", "\\\\")  // escape backslash first
-                .replace("%", "\\%")     // escape percent wildcard
-                .replace("_", "\\_");    // escape underscore wildcard
+    private List<PostResponseDTO> convertToDTOs(List<Post> posts, UUID currentUserId) {
+        ViewerState viewerState = loadViewerState(posts, currentUserId);
+        return posts.stream()
+                .map(post -> convertToDTO(post, currentUserId, viewerState))
+                .collect(Collectors.toList());
     }
 
     private PostResponseDTO convertToDTO(Post post, UUID currentUserId) {
+        return convertToDTO(post, currentUserId, loadViewerState(List.of(post), currentUserId));
+    }
+
+    private ViewerState loadViewerState(List<Post> posts, UUID currentUserId) {
+        if (currentUserId == null || posts.isEmpty()) {
+            return ViewerState.EMPTY;
+        }
+
+        Set<UUID> postIds = new HashSet<>();
+        Set<UUID> authorIds = new HashSet<>();
+        for (Post post : posts) {
+            postIds.add(post.getId());
+            authorIds.add(post.getAuthor().getId());
+            if (post.getRepostOf() != null) {
+                authorIds.add(post.getRepostOf().getAuthor().getId());
+            }
+        }
+        authorIds.remove(currentUserId);
+
+        return new ViewerState(
+                new HashSet<>(likeRepository.findLikedAmong(currentUserId, postIds)),
+                new HashSet<>(postRepository.findRepostedAmong(currentUserId, postIds)),
+                authorIds.isEmpty()
+                        ? Set.of()
+                        : new HashSet<>(followRepository.findFollowedAmong(currentUserId, authorIds)));
+    }
+
+    private PostResponseDTO convertToDTO(Post post, UUID currentUserId, ViewerState viewerState) {
         PostResponseDTO dto = new PostResponseDTO();
         dto.setId(post.getId());
         dto.setContent(post.getContent());
         dto.setCreatedAt(post.getCreatedAt());
-        dto.setLikeCount(post.getLikeCount());
+        dto.setLikeCount(likeCountBuffer.currentCount(post.getId(), post.getLikeCount()));
         dto.setReplyCount(post.getReplyCount());
         dto.setRepostCount(post.getRepostCount());
         dto.setFactCheckStatus(post.getFactCheckStatus());
         dto.setFactCheckScore(post.getFactCheckScore());
+        dto.setFactCheckPending(post.getFactCheckPending());
         
         // Create UserDTO and populate isFollowing flag
         UserDTO authorDTO = new UserDTO(post.getAuthor());
-        if (currentUserId != null && !currentUserId.equals(post.getAuthor().getId())) {
-            boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(
-                currentUserId, 
-                post.getAuthor().getId()
-            );
-            authorDTO.setIsFollowing(isFollowing);
-        } else {
-            authorDTO.setIsFollowing(false);
-        }
+        authorDTO.setIsFollowing(viewerState.followedAuthorIds.contains(post.getAuthor().getId()));
         dto.setAuthor(authorDTO);
         
         if (post.getReplyTo() != null) {
@@ -345,35 +491,15 @@ public class PostServiceImpl implements PostService {
             
             // Also populate isFollowing for repost author
             UserDTO repostAuthorDTO = new UserDTO(post.getRepostOf().getAuthor());
-            if (currentUserId != null && !currentUserId.equals(post.getRepostOf().getAuthor().getId())) {
-                boolean isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(
-                    currentUserId, 
-                    post.getRepostOf().getAuthor().getId()
-                );
-                repostAuthorDTO.setIsFollowing(isFollowing);
-            } else {
-                repostAuthorDTO.setIsFollowing(false);
-            }
+            repostAuthorDTO.setIsFollowing(
+                    viewerState.followedAuthorIds.contains(post.getRepostOf().getAuthor().getId()));
             repostDto.setAuthor(repostAuthorDTO);
             
             dto.setRepostOf(repostDto);
         }
         
-        // Check if current user liked this post
-        if (currentUserId != null) {
-            boolean liked = likeRepository.existsByUser_IdAndPost_Id(currentUserId, post.getId());
-            dto.setIsLikedByCurrentUser(liked);
-        } else {
-            dto.setIsLikedByCurrentUser(false);
-        }
-
-        // Check if current user reposted this post
-        if (currentUserId != null) {
-            boolean reposted = postRepository.existsByAuthor_IdAndRepostOf_Id(currentUserId, post.getId());
-            dto.setIsRepostedByCurrentUser(reposted);
-        } else {
-            dto.setIsRepostedByCurrentUser(false);
-        }
+        dto.setIsLikedByCurrentUser(viewerState.likedPostIds.contains(post.getId()));
+        dto.setIsRepostedByCurrentUser(viewerState.repostedPostIds.contains(post.getId()));
 
         // Parse and set style
         if (post.getStyle() != null && !post.getStyle().isEmpty()) {
@@ -403,4 +529,21 @@ public class PostServiceImpl implements PostService {
     public PostResponseDTO convertPostToDTO(Post post, UUID currentUserId) {
         return convertToDTO(post, currentUserId);
     }
+
+    /**
+     * What the viewer has liked, reposted and followed among one page of posts.
+     */
+    private static class ViewerState {
+        static final ViewerState EMPTY = new ViewerState(Set.of(), Set.of(), Set.of());
+
+        final Set<UUID> likedPostIds;
+        final Set<UUID> repostedPostIds;
+        final Set<UUID> followedAuthorIds;
+
+        ViewerState(Set<UUID> likedPostIds, Set<UUID> repostedPostIds, Set<UUID> followedAuthorIds) {
+            this.likedPostIds = likedPostIds;
+            this.repostedPostIds = repostedPostIds;
+            this.followedAuthorIds = followedAuthorIds;
+        }
+    }
 }
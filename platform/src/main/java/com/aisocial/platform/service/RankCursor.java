@@ -0,0 +1,45 @@
+package com.aisocial.platform.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for relevance-ordered search: (score, id), where score
+ * is the scaled integer BM25 value reported for the last result (lower is
+ * better).
+ */
+public final class RankCursor {
+
+    private final long score;
+    private final UUID id;
+
+    public RankCursor(long score, UUID id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    /**
+     * Decode a cursor string. Returns null for a missing cursor (first page).
+     */
+    public static RankCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(':');
+            return new RankCursor(Long.parseLong(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = score + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getScore() { return score; }
+    public UUID getId() { return id; }
+}
@@ -0,0 +1,101 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.Post;
+import com.aisocial.platform.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory list of the newest posts of each pull-mode (high-follower) author.
+ *
+ * Pull-mode authors are not fanned out on write; readers merge these lists
+ * into their timeline at read time instead. Lists are loaded lazily from the
+ * database and kept newest first, capped at a fixed length.
+ */
+@Component
+public class RecentPostCache {
+
+    /**
+     * Newest first: createdAt descending, then post id descending, matching
+     * the ORDER BY used for timeline and feed queries. Ids are stored as text,
+     * so ties compare by string form as the database does.
+     */
+    public static final Comparator<Entry> NEWEST_FIRST = Comparator
+            .comparing(Entry::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(entry -> entry.getPostId().toString(), Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final Map<UUID, List<Entry>> postsByAuthor = new ConcurrentHashMap<>();
+
+    @Value("${app.timeline.recent-posts-per-author:200}")
+    private int postsPerAuthor = 200;
+
+    public RecentPostCache(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * Newest posts of an author, loading them from the database on first use.
+     * The returned list is immutable.
+     */
+    public List<Entry> getRecent(UUID authorId) {
+        return postsByAuthor.computeIfAbsent(authorId, this::load);
+    }
+
+    /**
+     * Record a newly published post. If the author's list has not been
+     * loaded yet, the next read picks the post up from the database.
+     */
+    public void add(Post post) {
+        Entry entry = new Entry(post.getId(), post.getCreatedAt());
+        postsByAuthor.computeIfPresent(post.getAuthor().getId(), (authorId, current) -> {
+            List<Entry> updated = new ArrayList<>(current.size() + 1);
+            updated.add(entry);
+            updated.addAll(current);
+            updated.sort(NEWEST_FIRST);
+            return List.copyOf(updated.subList(0, Math.min(updated.size(), postsPerAuthor)));
+        });
+    }
+
+    public void remove(UUID authorId, UUID postId) {
+        postsByAuthor.computeIfPresent(authorId, (id, current) -> current.stream()
+                .filter(entry -> !entry.getPostId().equals(postId))
+                .toList());
+    }
+
+    public void evict(UUID authorId) {
+        postsByAuthor.remove(authorId);
+    }
+
+    private List<Entry> load(UUID authorId) {
+        return postRepository.findByAuthor_IdOrderByCreatedAtDescIdDesc(authorId, PageRequest.of(0, postsPerAuthor))
+                .stream()
+                .map(post -> new Entry(post.getId(), post.getCreatedAt()))
+                .toList();
+    }
+
+    /**
+     * A post reference as it appears on a timeline.
+     */
+    public static class Entry {
+        private final UUID postId;
+        private final Instant createdAt;
+
+        public Entry(UUID postId, Instant createdAt) {
+            this.postId = postId;
+            this.createdAt = createdAt;
+        }
+
+        public UUID getPostId() { return postId; }
+        public Instant getCreatedAt() { return createdAt; }
+    }
+}
@@ -0,0 +1,395 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-process near-duplicate index of previously fact-checked claims.
+ *
+ * The exact-hash {@link FactCheckResultCache} misses paraphrases ("The earth
+ * is flat" vs "earth is actually flat!"). Here each claim is reduced to its
+ * content words (filler and stop words dropped), turned into word and
+ * word-pair shingles, and indexed with {@link MinHashLsh}. A lookup takes
+ * the LSH candidates, computes their exact Jaccard similarity and reuses the
+ * best verdict at or above app.fact-check.similar.threshold, marked with
+ * {@code reused} and the similarity. A candidate whose negations or numbers
+ * differ from the claim ("is not flat", "rose 2C") is never reused.
+ *
+ * Only settled verdicts (app.fact-check.similar.verdicts) are indexed. The
+ * index is filled at startup from fact_checks.claims and
+ * posts.fact_check_data, then grows with every new model verdict; the
+ * oldest entries are dropped beyond max-entries.
+ */
+@Component
+public class SimilarClaimIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarClaimIndex.class);
+
+    static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "is", "are", "was", "were", "be", "been", "being", "am",
+            "it", "its", "this", "that", "these", "those", "of", "to", "in", "on", "at",
+            "for", "and", "or", "as", "by", "with", "from", "s", "i", "we", "you", "they",
+            "actually", "really", "literally", "just", "totally", "clearly", "definitely",
+            "very", "so", "truly", "indeed", "honestly", "basically", "fact", "think", "believe");
+    static final Set<String> NEGATIONS = Set.of(
+            "not", "no", "never", "none", "nobody", "nothing", "neither", "nor", "cannot", "t",
+            "dont", "doesnt", "didnt", "isnt", "arent", "wasnt", "werent", "cant", "wont", "wouldnt", "shouldnt");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final double threshold;
+    private final int maxEntries;
+    private final int minWords;
+    private final Set<String> verdicts;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final MinHashLsh lsh;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Long> idsByText = new HashMap<>();
+    private final Deque<Long> insertionOrder = new ArrayDeque<>();
+    private long nextId;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder candidatesChecked = new LongAdder();
+
+    public SimilarClaimIndex(JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${app.fact-check.similar.enabled:true}") boolean enabled,
+                             @Value("${app.fact-check.similar.threshold:0.7}") double threshold,
+                             @Value("${app.fact-check.similar.max-entries:20000}") int maxEntries,
+                             @Value("${app.fact-check.similar.min-words:2}") int minWords,
+                             @Value("${app.fact-check.similar.num-hashes:128}") int numHashes,
+                             @Value("${app.fact-check.similar.bands:32}") int bands,
+                             @Value("${app.fact-check.similar.verdicts:VERIFIED,FALSE,LIKELY_TRUE}") List<String> verdicts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.maxEntries = maxEntries;
+        this.minWords = minWords;
+        this.verdicts = verdicts.stream()
+                .map(verdict -> verdict.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.lsh = new MinHashLsh(numHashes, bands, 0x5eedL);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            int loaded = loadFromStore();
+            log.info("Indexed {} previously fact-checked claims for near-duplicate reuse", loaded);
+        }
+    }
+
+    /**
+     * The verdict of the most similar indexed claim, if it is similar enough
+     * to reuse. Each call returns a fresh copy.
+     */
+    public Optional<FactCheckResultDTO> find(String claim) {
+        if (!enabled || claim == null) {
+            return Optional.empty();
+        }
+        lookups.increment();
+        Claim query = Claim.of(claim);
+        if (query.words.size() < minWords) {
+            return Optional.empty();
+        }
+        long[] signature = lsh.signature(query.shingles);
+
+        Entry best = null;
+        double bestSimilarity = 0;
+        lock.readLock().lock();
+        try {
+            for (long id : lsh.candidates(signature)) {
+                Entry entry = entries.get(id);
+                candidatesChecked.increment();
+                if (entry == null || !entry.claim.compatibleWith(query)) {
+                    continue;
+                }
+                double similarity = MinHashLsh.jaccard(query.shingles, entry.claim.shingles);
+                if (similarity >= threshold && similarity > bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+
+        Optional<FactCheckResultDTO> result = read(best.json);
+        if (result.isPresent()) {
+            hits.increment();
+            result.get().setReused(true);
+            result.get().setReusedSimilarity(Math.round(bestSimilarity * 1000) / 1000.0);
+        }
+        return result;
+    }
+
+    /**
+     * Index a verdict for later reuse. Unsettled verdicts, errors, reused
+     * results and claims too short to compare are ignored; re-adding a
+     * claim replaces its verdict.
+     */
+    public void add(String claim, FactCheckResultDTO result) {
+        if (!enabled || claim == null || result == null || result.getVerdict() == null
+                || result.getError() != null || Boolean.TRUE.equals(result.getReused())
+                || !verdicts.contains(result.getVerdict().toUpperCase(Locale.ROOT))) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize fact-check result for the similar-claim index", e);
+            return;
+        }
+        Claim indexed = Claim.of(claim);
+        if (indexed.words.size() < minWords) {
+            return;
+        }
+        long[] signature = lsh.signature(indexed.shingles);
+
+        lock.writeLock().lock();
+        try {
+            Long previous = idsByText.remove(indexed.text);
+            if (previous != null) {
+                Entry replaced = entries.remove(previous);
+                lsh.remove(previous, replaced.signature);
+            }
+            long id = nextId++;
+            entries.put(id, new Entry(indexed, signature, json));
+            idsByText.put(indexed.text, id);
+            insertionOrder.addLast(id);
+            lsh.add(id, signature);
+            evictOverflow();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index settled verdicts already stored in the database: the fact_checks
+     * history first, then each post's current verdict, so the latest wins.
+     *
+     * @return how many claims were indexed
+     */
+    public int loadFromStore() {
+        int before = size();
+        try {
+            jdbcTemplate.query(
+                    "SELECT p.content, fc.status, fc.overall_score, fc.claims FROM fact_checks fc "
+                            + "JOIN posts p ON p.id = fc.post_id WHERE fc.claims IS NOT NULL ORDER BY fc.created_at",
+                    this::indexRow);
+            jdbcTemplate.query(
+                    "SELECT content, fact_check_status, fact_check_score, fact_check_data FROM posts "
+                            + "WHERE fact_check_data IS NOT NULL",
+                    this::indexRow);
+        } catch (DataAccessException e) {
+            log.warn("Could not load fact-checked claims for the similar-claim index: {}", e.getMessage());
+        }
+        return size() - before;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(lookups.sum(), hits.sum(), candidatesChecked.sum(), size());
+    }
+
+    // Columns: claim text, status, score (0-1), stored JSON
+    private void indexRow(ResultSet rs) throws SQLException {
+        // wasNull() reports on the last column read, so check it straight after the score
+        double score = rs.getDouble(3);
+        Double confidence = rs.wasNull() ? null : score;
+        add(rs.getString(1), storedResult(rs.getString(2), confidence, rs.getString(4)));
+    }
+
+    // Caller holds the write lock
+    private void evictOverflow() {
+        while (entries.size() > maxEntries && !insertionOrder.isEmpty()) {
+            Long oldest = insertionOrder.pollFirst();
+            Entry evicted = entries.remove(oldest);
+            if (evicted != null) {
+                idsByText.remove(evicted.claim.text);
+                lsh.remove(oldest, evicted.signature);
+            }
+        }
+        // Replaced entries leave stale ids behind; compact once they dominate
+        if (insertionOrder.size() > 2 * Math.max(entries.size(), 16)) {
+            insertionOrder.removeIf(id -> !entries.containsKey(id));
+        }
+    }
+
+    /**
+     * A stored verdict as a result DTO. The status column is authoritative;
+     * the JSON may be a full result (written by this service) or the shorter
+     * seed-data shape with plain-text sources and a free-text verdict.
+     */
+    private FactCheckResultDTO storedResult(String status, Double score, String json) {
+        if (status == null) {
+            return null;
+        }
+        FactCheckResultDTO result = new FactCheckResultDTO();
+        result.setVerdict(status);
+        result.setConfidence(score != null ? (int) Math.round(score * 100) : null);
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            String summary = node.path("summary").asText(null);
+            if (summary == null && node.path("verdict").isTextual()
+                    && !node.path("verdict").asText().equalsIgnoreCase(status)) {
+                summary = node.path("verdict").asText();
+            }
+            result.setSummary(summary);
+            List<String> reasoning = new ArrayList<>();
+            node.path("reasoning").forEach(step -> reasoning.add(step.asText()));
+            result.setReasoning(reasoning);
+            List<FactCheckResultDTO.Source> sources = new ArrayList<>();
+            node.path("sources").forEach(source -> sources.add(source.isTextual()
+                    ? titled(source.asText())
+                    : objectMapper.convertValue(source, FactCheckResultDTO.Source.class)));
+            result.setSources(sources);
+            if (result.getConfidence() == null && node.path("confidence").isInt()) {
+                result.setConfidence(node.path("confidence").asInt());
+            }
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.debug("Unreadable stored fact-check data; indexing the verdict only: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    private static FactCheckResultDTO.Source titled(String title) {
+        FactCheckResultDTO.Source source = new FactCheckResultDTO.Source();
+        source.setTitle(title);
+        return source;
+    }
+
+    private Optional<FactCheckResultDTO> read(String json) {
+        try {
+            return Optional.of(objectMapper.readValue(json, FactCheckResultDTO.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable similar-claim entry", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A claim reduced to what similarity is judged on.
+     */
+    private static final class Claim {
+        private final String text;
+        private final List<String> words;
+        private final Set<Long> shingles;
+        private final int negations;
+        private final Set<String> numbers;
+
+        private Claim(String text, List<String> words, int negations, Set<String> numbers) {
+            this.text = text;
+            this.words = words;
+            this.shingles = MinHashLsh.shingles(words);
+            this.negations = negations;
+            this.numbers = numbers;
+        }
+
+        static Claim of(String claim) {
+            String text = KnownClaimRules.normalize(claim).strip();
+            List<String> words = new ArrayList<>();
+            int negations = 0;
+            Set<String> numbers = new TreeSet<>();
+            for (String word : text.split(" ")) {
+                if (word.isEmpty() || STOP_WORDS.contains(word)) {
+                    continue;
+                }
+                words.add(word);
+                if (NEGATIONS.contains(word)) {
+                    negations++;
+                }
+                if (word.chars().anyMatch(Character::isDigit)) {
+                    numbers.add(word);
+                }
+            }
+            return new Claim(text, words, negations, numbers);
+        }
+
+        // Similar wording is not enough if one side negates or changes a figure
+        boolean compatibleWith(Claim other) {
+            return negations % 2 == other.negations % 2 && numbers.equals(other.numbers);
+        }
+    }
+
+    private static final class Entry {
+        private final Claim claim;
+        private final long[] signature;
+        private final String json;
+
+        Entry(Claim claim, long[] signature, String json) {
+            this.claim = claim;
+            this.signature = signature;
+            this.json = json;
+        }
+    }
+
+    /**
+     * Lookup counters since startup.
+     */
+    public static class Stats {
+        private final long lookups;
+        private final long hits;
+        private final long candidatesChecked;
+        private final int entries;
+
+        public Stats(long lookups, long hits, long candidatesChecked, int entries) {
+            this.lookups = lookups;
+            this.hits = hits;
+            this.candidatesChecked = candidatesChecked;
+            this.entries = entries;
+        }
+
+        public long getLookups() { return lookups; }
+        public long getHits() { return hits; }
+        public long getCandidatesChecked() { return candidatesChecked; }
+        public int getEntries() { return entries; }
+
+        public double getHitRate() {
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.aisocial.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Populates home timelines from the follows that existed before fan-out on
+ * write was introduced (or that were loaded straight into the database).
+ */
+@Component
+public class TimelineBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineBackfillJob.class);
+
+    private final TimelineService timelineService;
+
+    @Value("${app.timeline.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public TimelineBackfillJob(TimelineService timelineService) {
+        this.timelineService = timelineService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            timelineService.refreshPullAuthors();
+            timelineService.backfillAll();
+        } catch (Exception e) {
+            log.warn("Timeline backfill failed; feeds will fill in as new posts arrive", e);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.Post;
+import com.aisocial.platform.entity.TimelineEntry;
+import com.aisocial.platform.repository.FollowRepository;
+import com.aisocial.platform.repository.PostRepository;
+import com.aisocial.platform.repository.TimelineEntryRepository;
+import com.aisocial.platform.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized home timelines with a hybrid push/pull strategy.
+ *
+ * Publishing a post writes one timeline row per follower of the author, so a
+ * feed read is a bounded range scan over the reader's own rows instead of an
+ * IN-list query over every followed author's post history.
+ *
+ * Authors with at least {@code app.timeline.high-follower-threshold} followers
+ * are not fanned out (one post would become a write storm). Their recent posts
+ * are kept in {@link RecentPostCache} and k-way merged into the reader's
+ * timeline at read time, so publish latency does not grow with follower count.
+ *
+ * Fan-out only ever adds rows, so the authors fanned out since the last pass
+ * are remembered and their followers' timelines are trimmed back to
+ * {@code app.timeline.max-entries} on a schedule, off the publish path.
+ */
+@Service
+public class TimelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineService.class);
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final RecentPostCache recentPostCache;
+
+    // Authors currently served by pull at read time instead of fan-out on write
+    private final Set<UUID> pullAuthors = ConcurrentHashMap.newKeySet();
+
+    // Authors whose followers' timelines have grown since the last trim
+    private final Set<UUID> untrimmedAuthors = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.timeline.max-entries:800}")
+    private int maxEntries = 800;
+
+    @Value("${app.timeline.high-follower-threshold:10000}")
+    private long highFollowerThreshold = 10000;
+
+    public TimelineService(TimelineEntryRepository timelineEntryRepository,
+                           PostRepository postRepository,
+                           FollowRepository followRepository,
+                           UserRepository userRepository,
+                           RecentPostCache recentPostCache) {
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.postRepository = postRepository;
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.recentPostCache = recentPostCache;
+    }
+
+    /**
+     * Push a newly saved post into the timeline of every follower of its author,
+     * or record it for read-time merging if the author is in pull mode.
+     */
+    @Transactional
+    public int fanOut(Post post) {
+        UUID authorId = post.getAuthor().getId();
+        if (isPullAuthor(authorId)) {
+            recentPostCache.add(post);
+            return 0;
+        }
+
+        int written = timelineEntryRepository.fanOutToFollowers(post.getId());
+        if (written > 0) {
+            untrimmedAuthors.add(authorId);
+        }
+        log.debug("Fanned out post {} to {} timelines", post.getId(), written);
+        return written;
+    }
+
+    /**
+     * Remove a post from every timeline it was written to.
+     */
+    @Transactional
+    public void removePost(Post post) {
+        timelineEntryRepository.deleteByPostId(post.getId());
+        recentPostCache.remove(post.getAuthor().getId(), post.getId());
+    }
+
+    /**
+     * Copy the followed author's recent posts into the follower's timeline.
+     * Pull-mode authors are merged at read time, so nothing is copied.
+     */
+    @Transactional
+    public void onFollow(UUID followerId, UUID followingId) {
+        if (isPullAuthor(followingId)) {
+            return;
+        }
+        timelineEntryRepository.backfillFromAuthor(followerId, followingId, maxEntries);
+    }
+
+    /**
+     * Drop the unfollowed author's posts from the follower's timeline. If the
+     * author falls back under the threshold they return to fan-out on write.
+     */
+    @Transactional
+    public void onUnfollow(UUID followerId, UUID followingId) {
+        timelineEntryRepository.deleteByOwnerAndAuthor(followerId, followingId);
+
+        if (pullAuthors.contains(followingId)
+                && followerCount(followingId) < highFollowerThreshold) {
+            pullAuthors.remove(followingId);
+            recentPostCache.evict(followingId);
+            timelineEntryRepository.backfillFollowersOfAuthor(followingId, maxEntries);
+            untrimmedAuthors.add(followingId);
+            log.info("Author {} dropped below {} followers; switched back to fan-out", followingId, highFollowerThreshold);
+        }
+    }
+
+    /**
+     * Rebuild one user's timeline from scratch out of their current follows.
+     */
+    @Transactional
+    public int rebuild(UUID ownerId) {
+        timelineEntryRepository.deleteByOwner(ownerId);
+        return timelineEntryRepository.backfillOwner(ownerId, maxEntries);
+    }
+
+    /**
+     * Backfill every timeline from existing follows and trim each one back to
+     * the configured size. Safe to re-run: existing rows are left untouched.
+     */
+    @Transactional
+    public int backfillAll() {
+        int inserted = timelineEntryRepository.backfillAll(maxEntries);
+        int trimmed = timelineEntryRepository.trimAll(maxEntries);
+        log.info("Timeline backfill inserted {} entries, trimmed {}", inserted, trimmed);
+        return inserted;
+    }
+
+    /**
+     * Trim the timelines written to since the last pass back to the configured
+     * size. Authors are put back if the delete fails, so the next pass retries.
+     */
+    @Scheduled(fixedDelayString = "${app.timeline.trim-interval-ms:60000}")
+    public int trimPending() {
+        List<UUID> authors = new ArrayList<>(untrimmedAuthors);
+        if (authors.isEmpty()) {
+            return 0;
+        }
+        untrimmedAuthors.removeAll(authors);
+        try {
+            int trimmed = timelineEntryRepository.trimFollowersOf(authors, maxEntries);
+            log.debug("Trimmed {} timeline entries for followers of {} authors", trimmed, authors.size());
+            return trimmed;
+        } catch (DataAccessException e) {
+            untrimmedAuthors.addAll(authors);
+            log.warn("Timeline trim failed; will retry: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Reload the set of pull-mode authors from current follower counts.
+     */
+    @Transactional(readOnly = true)
+    public void refreshPullAuthors() {
+        List<UUID> authors = followRepository.findUserIdsWithFollowersAtLeast(highFollowerThreshold);
+        pullAuthors.retainAll(authors);
+        pullAuthors.addAll(authors);
+        log.info("{} authors above {} followers are served by pull", authors.size(), highFollowerThreshold);
+    }
+
+    /**
+     * Read a page of a user's timeline, newest first: the pushed entries merged
+     * with the recent posts of any followed pull-mode authors. Pass the last
+     * post of the previous page as {@code before}, or null for the first page.
+     */
+    @Transactional(readOnly = true)
+    public List<Post> readTimeline(UUID ownerId, PostCursor before, int limit) {
+        int size = Math.min(limit, maxEntries);
+        PageRequest page = PageRequest.of(0, size);
+
+        List<TimelineEntry> pushed = before == null
+                ? timelineEntryRepository.findLatestByOwner(ownerId, page)
+                : timelineEntryRepository.findLatestByOwnerBefore(ownerId, before.getCreatedAt(), before.getId(), page);
+
+        List<List<RecentPostCache.Entry>> sources = new ArrayList<>();
+        sources.add(pushed.stream()
+                .map(entry -> new RecentPostCache.Entry(entry.getPostId(), entry.getCreatedAt()))
+                .toList());
+
+        if (!pullAuthors.isEmpty()) {
+            RecentPostCache.Entry position = before == null
+                    ? null
+                    : new RecentPostCache.Entry(before.getId(), before.getCreatedAt());
+            for (UUID authorId : followRepository.findFollowedAmong(ownerId, pullAuthors)) {
+                List<RecentPostCache.Entry> recent = recentPostCache.getRecent(authorId);
+                sources.add(position == null
+                        ? recent
+                        : recent.stream()
+                                .dropWhile(entry -> RecentPostCache.NEWEST_FIRST.compare(entry, position) <= 0)
+                                .toList());
+            }
+        }
+
+        List<UUID> postIds = mergeNewestFirst(sources, size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Post> postsById = postRepository.findAllWithAuthorByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        // Keep timeline order; skip rows whose post has since disappeared
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * K-way merge of newest-first lists, dropping duplicates (an author who
+     * moved into pull mode may still have pushed rows on some timelines).
+     */
+    static List<UUID> mergeNewestFirst(List<List<RecentPostCache.Entry>> sources, int limit) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(
+                (a, b) -> RecentPostCache.NEWEST_FIRST.compare(a.head, b.head));
+        for (List<RecentPostCache.Entry> source : sources) {
+            Iterator<RecentPostCache.Entry> it = source.iterator();
+            if (it.hasNext()) {
+                heap.add(new Cursor(it));
+            }
+        }
+
+        List<UUID> merged = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Cursor cursor = heap.poll();
+            if (seen.add(cursor.head.getPostId())) {
+                merged.add(cursor.head.getPostId());
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Whether the author is served by pull. Authors not yet in pull mode are
+     * checked against the stored users.follower_count, a primary-key read,
+     * rather than counting their follows on every publish.
+     */
+    public boolean isPullAuthor(UUID authorId) {
+        if (pullAuthors.contains(authorId)) {
+            return true;
+        }
+        if (followerCount(authorId) >= highFollowerThreshold) {
+            pullAuthors.add(authorId);
+            log.info("Author {} reached {} followers; switched to pull", authorId, highFollowerThreshold);
+            return true;
+        }
+        return false;
+    }
+
+    private long followerCount(UUID userId) {
+        return userRepository.findFollowerCountById(userId).orElse(0L);
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    private static class Cursor {
+        private final Iterator<RecentPostCache.Entry> it;
+        private RecentPostCache.Entry head;
+
+        Cursor(Iterator<RecentPostCache.Entry> it) {
+            this.it = it;
+            this.head = it.next();
+        }
+
+        boolean advance() {
+            if (!it.hasNext()) {
+                return false;
+            }
+            head = it.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.aisocial.platform.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel for deadlines, in the style of Kafka's purgatory.
+ *
+ * Level 0 has {@code wheelSize} slots of {@code tickMs}; each level above has
+ * the same number of slots, each as long as the whole level below. An item
+ * goes into the lowest level whose span still covers its deadline and is
+ * moved down a level each time its slot comes round, until it expires from
+ * level 0 at most one tick after its deadline. Deadlines beyond the top
+ * level wait in an overflow map that is revisited once per top-level slot.
+ *
+ * Adding and expiring are O(1) per item and {@link #advanceTo} only touches
+ * the slots that elapsed, so cost does not grow with the number of pending
+ * items. Not thread-safe; callers synchronize. Items are compared with
+ * equals; adding an item already in the wheel with another deadline keeps
+ * both, so callers that reschedule should ignore stale expiries.
+ */
+final class TimingWheel<T> {
+
+    private final long[] ticks;
+    private final int wheelSize;
+    private final List<List<Map<T, Long>>> levels = new ArrayList<>();
+    private final Map<T, Long> overflow = new HashMap<>();
+    // Every level-0 slot before this time has expired
+    private long currentTime;
+    private int size;
+
+    TimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1 || levelCount <= 0) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick, two or more slots and a level");
+        }
+        this.wheelSize = wheelSize;
+        this.ticks = new long[levelCount];
+        for (int level = 0; level < levelCount; level++) {
+            ticks[level] = level == 0 ? tickMs : Math.multiplyExact(ticks[level - 1], wheelSize);
+            List<Map<T, Long>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new HashMap<>());
+            }
+            levels.add(slots);
+        }
+        this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+    }
+
+    /**
+     * Schedule an item. Returns false, without keeping it, if the deadline
+     * has already passed as far as the wheel is concerned.
+     */
+    boolean add(T item, long deadlineMs) {
+        if (deadlineMs < currentTime) {
+            return false;
+        }
+        if (!place(item, deadlineMs)) {
+            overflow.put(item, deadlineMs);
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Move the wheel forward to {@code nowMs} and return every item whose
+     * slot has fully elapsed, i.e. whose deadline is at or before now.
+     */
+    List<T> advanceTo(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + ticks[0] <= nowMs) {
+            Map<T, Long> due = slot(0, currentTime);
+            expired.addAll(due.keySet());
+            size -= due.size();
+            due.clear();
+            currentTime += ticks[0];
+            cascade();
+        }
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private boolean place(T item, long deadlineMs) {
+        for (int level = 0; level < ticks.length; level++) {
+            long span = ticks[level] * wheelSize;
+            long levelStart = currentTime - Math.floorMod(currentTime, ticks[level]);
+            if (deadlineMs < levelStart + span) {
+                slot(level, deadlineMs).put(item, deadlineMs);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Slots that start now on the upper levels are spread over the levels below,
+    // top first, so an item can drop several levels in one step
+    private void cascade() {
+        long topSpan = ticks[ticks.length - 1] * wheelSize;
+        if (!overflow.isEmpty() && Math.floorMod(currentTime, ticks[ticks.length - 1]) == 0) {
+            Iterator<Map.Entry<T, Long>> pending = overflow.entrySet().iterator();
+            while (pending.hasNext()) {
+                Map.Entry<T, Long> entry = pending.next();
+                if (entry.getValue() < currentTime + topSpan) {
+                    pending.remove();
+                    place(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (int level = ticks.length - 1; level >= 1; level--) {
+            if (Math.floorMod(currentTime, ticks[level]) != 0) {
+                continue;
+            }
+            Map<T, Long> starting = slot(level, currentTime);
+            if (starting.isEmpty()) {
+                continue;
+            }
+            Map<T, Long> moving = new HashMap<>(starting);
+            starting.clear();
+            moving.forEach(this::place);
+        }
+    }
+
+    private Map<T, Long> slot(int level, long timeMs) {
+        return levels.get(level).get((int) Math.floorMod(timeMs / ticks[level], (long) wheelSize));
+    }
+}
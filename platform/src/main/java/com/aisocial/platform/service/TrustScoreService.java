@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,10 +34,19 @@ public class TrustScoreService {
     private static final double VERIFIED_BONUS_CAP = 30.0;
     private static final double FALSE_PENALTY = 5.0;
 
+    /**
+     * One verdict landing on a user's content: a first check counts towards
+     * postsFactChecked, a re-check only moves between verdict buckets.
+     */
+    public record VerdictChange(FactCheckStatus previous, FactCheckStatus current, boolean recheck) {
+    }
+
     private final UserRepository userRepository;
+    private final UserTypeaheadIndex typeaheadIndex;
 
-    public TrustScoreService(UserRepository userRepository) {
+    public TrustScoreService(UserRepository userRepository, UserTypeaheadIndex typeaheadIndex) {
         this.userRepository = userRepository;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     /**
@@ -69,6 +79,7 @@ public class TrustScoreService {
         BigDecimal newScore = calculateScore(user);
         user.setTrustScore(newScore);
         userRepository.save(user);
+        typeaheadIndex.upsertAfterCommit(user);
 
         log.info("Recalculated trust score for user {}: {}", userId, newScore);
         return newScore;
@@ -82,6 +93,69 @@ public class TrustScoreService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
+        countFactCheck(user, status);
+
+        BigDecimal newScore = calculateScore(user);
+        user.setTrustScore(newScore);
+        userRepository.save(user);
+        typeaheadIndex.upsertAfterCommit(user);
+
+        log.info("Updated trust score for user {} after fact-check ({}): {}", userId, status, newScore);
+        return newScore;
+    }
+
+    /**
+     * Move a re-checked post or argument from its previous verdict to the new
+     * one. postsFactChecked is not incremented again, so repeated checks of
+     * the same content do not count twice.
+     */
+    @Transactional
+    public BigDecimal updateOnRecheck(UUID userId, FactCheckStatus previous, FactCheckStatus current) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+
+        if (bucketOf(previous) == bucketOf(current)) {
+            return user.getTrustScore();
+        }
+
+        moveBucket(user, previous, current);
+
+        BigDecimal newScore = calculateScore(user);
+        user.setTrustScore(newScore);
+        userRepository.save(user);
+        typeaheadIndex.upsertAfterCommit(user);
+
+        log.info("Updated trust score for user {} after re-check ({} -> {}): {}", userId, previous, current, newScore);
+        return newScore;
+    }
+
+    /**
+     * Apply several verdicts for one user at once, e.g. all arguments of a
+     * debate round, with a single score recalculation and save.
+     */
+    @Transactional
+    public BigDecimal updateOnFactChecks(UUID userId, List<VerdictChange> changes) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+
+        for (VerdictChange change : changes) {
+            if (change.recheck()) {
+                moveBucket(user, change.previous(), change.current());
+            } else {
+                countFactCheck(user, change.current());
+            }
+        }
+
+        BigDecimal newScore = calculateScore(user);
+        user.setTrustScore(newScore);
+        userRepository.save(user);
+        typeaheadIndex.upsertAfterCommit(user);
+
+        log.info("Updated trust score for user {} after {} fact-checks: {}", userId, changes.size(), newScore);
+        return newScore;
+    }
+
+    private static void countFactCheck(User user, FactCheckStatus status) {
         user.incrementPostsFactChecked();
 
         switch (status) {
@@ -89,13 +163,37 @@ public class TrustScoreService {
             case FALSE -> user.incrementPostsFalse();
             default -> { /* DISPUTED, UNVERIFIABLE, UNCHECKED - no score change */ }
         }
+    }
 
-        BigDecimal newScore = calculateScore(user);
-        user.setTrustScore(newScore);
-        userRepository.save(user);
+    private static void moveBucket(User user, FactCheckStatus previous, FactCheckStatus current) {
+        if (bucketOf(previous) == bucketOf(current)) {
+            return;
+        }
+        switch (bucketOf(previous)) {
+            case VERIFIED -> user.setPostsVerified(Math.max(0, user.getPostsVerified() - 1));
+            case FALSE -> user.setPostsFalse(Math.max(0, user.getPostsFalse() - 1));
+            default -> { }
+        }
+        switch (bucketOf(current)) {
+            case VERIFIED -> user.setPostsVerified(user.getPostsVerified() + 1);
+            case FALSE -> user.setPostsFalse(user.getPostsFalse() + 1);
+            default -> { }
+        }
+    }
 
-        log.info("Updated trust score for user {} after fact-check ({}): {}", userId, status, newScore);
-        return newScore;
+    /**
+     * Which score counter a verdict lands in: VERIFIED (postsVerified),
+     * FALSE (postsFalse) or UNCHECKED (neither).
+     */
+    private static FactCheckStatus bucketOf(FactCheckStatus status) {
+        if (status == null) {
+            return FactCheckStatus.UNCHECKED;
+        }
+        return switch (status) {
+            case VERIFIED, LIKELY_TRUE -> FactCheckStatus.VERIFIED;
+            case FALSE -> FactCheckStatus.FALSE;
+            default -> FactCheckStatus.UNCHECKED;
+        };
     }
 
     /**
@@ -0,0 +1,64 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes the follower, following and post counters stored on users.
+ *
+ * The counters are kept in step by atomic increments, but a failed request
+ * between the write and the increment (or rows loaded straight into the
+ * database) can leave them off. This walks users in id order, one batch per
+ * transaction, and corrects only the rows that have drifted.
+ */
+@Component
+public class UserCounterReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCounterReconciliationJob.class);
+
+    private final UserRepository userRepository;
+
+    @Value("${app.counters.reconcile-batch-size:500}")
+    private int batchSize = 500;
+
+    public UserCounterReconciliationJob(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Scheduled(initialDelayString = "${app.counters.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${app.counters.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            log.warn("User counter reconciliation failed", e);
+        }
+    }
+
+    /**
+     * Reconcile every user's counters. Returns the number of users corrected.
+     */
+    public int reconcileAll() {
+        int corrected = 0;
+        int scanned = 0;
+        List<UUID> batch = userRepository.findFirstIds(PageRequest.of(0, batchSize));
+        while (!batch.isEmpty()) {
+            corrected += userRepository.reconcileCounters(batch);
+            scanned += batch.size();
+            batch = userRepository.findIdsAfter(batch.get(batch.size() - 1), PageRequest.of(0, batchSize));
+        }
+
+        if (corrected > 0) {
+            log.info("Reconciled counters for {} of {} users", corrected, scanned);
+        }
+        return corrected;
+    }
+}
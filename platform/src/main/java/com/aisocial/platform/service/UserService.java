@@ -38,5 +38,7 @@ public interface UserService {
     
     Page<UserResponseDTO> searchUsers(UserSearchRequestDTO request);
 
+    List<UserResponseDTO> typeahead(String query, int limit);
+
     UserDTO updateUser(UUID userId, UpdateUserRequestDTO request);
 }
\ No newline at end of file
@@ -28,13 +28,19 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final PostRepository postRepository;
+    private final TimelineService timelineService;
+    private final UserTypeaheadIndex typeaheadIndex;
 
     public UserServiceImpl(UserRepository userRepository,
                            FollowRepository followRepository,
-                           PostRepository postRepository) {
+                           PostRepository postRepository,
+                           TimelineService timelineService,
+                           UserTypeaheadIndex typeaheadIndex) {
         this.userRepository = userRepository;
         this.followRepository = followRepository;
         this.postRepository = postRepository;
+        this.timelineService = timelineService;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     @Override
@@ -89,6 +95,9 @@ public class UserServiceImpl implements UserService {
 
         Follow follow = new Follow(follower, following);
         followRepository.save(follow);
+        userRepository.adjustFollowingCount(followerId, 1);
+        userRepository.adjustFollowerCount(followingId, 1);
+        timelineService.onFollow(followerId, followingId);
     }
 
     @Override
@@ -100,6 +109,9 @@ public class UserServiceImpl implements UserService {
         }
 
         followRepository.deleteByFollower_IdAndFollowing_Id(followerId, followingId);
+        userRepository.adjustFollowingCount(followerId, -1);
+        userRepository.adjustFollowerCount(followingId, -1);
+        timelineService.onUnfollow(followerId, followingId);
     }
 
     @Override
@@ -149,6 +161,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User savedUser = userRepository.save(user);
+        typeaheadIndex.upsertAfterCommit(savedUser);
         return new UserDTO(savedUser);
     }
 
@@ -159,9 +172,10 @@ public class UserServiceImpl implements UserService {
     private UserDTO toEnrichedDTO(User user, UUID viewerId) {
         UserDTO dto = UserDTO.fromEntity(user);
 
-        dto.setFollowerCount(followRepository.countByFollowing_Id(user.getId()));
-        dto.setFollowingCount(followRepository.countByFollower_Id(user.getId()));
-        dto.setPostCount(postRepository.countByAuthor(user));
+        // Stored counters; no COUNT(*) per rendered user
+        dto.setFollowerCount(user.getFollowerCount());
+        dto.setFollowingCount(user.getFollowingCount());
+        dto.setPostCount(user.getPostCount());
 
         if (viewerId != null && !viewerId.equals(user.getId())) {
             dto.setIsFollowing(followRepository.existsByFollower_IdAndFollowing_Id(viewerId, user.getId()));
@@ -232,4 +246,18 @@ public class UserServiceImpl implements UserService {
                 u.getCreatedAt()
         ));
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<UserResponseDTO> typeahead(String query, int limit) {
+        return typeaheadIndex.search(query, limit)
+                .stream()
+                .map(e -> new UserResponseDTO(
+                        e.getId(),
+                        e.getUsername(),
+                        e.getDisplayName(),
+                        e.getTrustScore(),
+                        e.getCreatedAt()
+                ))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,288 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory typeahead index over usernames and display names.
+ *
+ * Prefix lookups walk a sorted map of terms (the username, the full display
+ * name and each word of it); infix lookups intersect trigram postings and
+ * confirm the candidates with a substring check. Prefix matches rank ahead
+ * of infix matches, then by trust score. Lookups never touch the database.
+ *
+ * The index is loaded at startup and kept current by {@link #upsertAfterCommit(User)}
+ * whenever a user's profile or trust score is saved, so a rolled-back change
+ * never shows up in suggestions. Writers are serialized;
+ * readers are lock-free and may briefly see a user under both old and new
+ * names while an update is applied.
+ */
+@Component
+public class UserTypeaheadIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserTypeaheadIndex.class);
+
+    static final int GRAM = 3;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Comparator<Entry> BY_TRUST = Comparator
+            .comparing(Entry::getTrustScore, Comparator.reverseOrder())
+            .thenComparing(Entry::getUsername);
+
+    private final UserRepository userRepository;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<UUID>> terms = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<UUID>> trigrams = new ConcurrentHashMap<>();
+
+    public UserTypeaheadIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reload the whole index from the users table.
+     */
+    public synchronized void rebuild() {
+        entries.clear();
+        terms.clear();
+        trigrams.clear();
+        userRepository.findAll().forEach(user -> add(new Entry(user)));
+        log.info("Typeahead index loaded with {} users", entries.size());
+    }
+
+    /**
+     * Add a user or replace its indexed names and trust score.
+     */
+    public synchronized void upsert(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        Entry previous = entries.get(user.getId());
+        if (previous != null) {
+            removeEntry(previous);
+        }
+        add(new Entry(user));
+    }
+
+    /**
+     * Upsert the user once the surrounding transaction commits, or right away
+     * when there is none.
+     */
+    public void upsertAfterCommit(User user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upsert(user);
+            }
+        });
+    }
+
+    public synchronized void remove(UUID userId) {
+        Entry previous = entries.get(userId);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Best matches for what the user has typed so far, prefix matches first,
+     * each group ordered by trust score descending.
+     */
+    public List<Entry> search(String query, int limit) {
+        String needle = normalize(query == null ? "" : query.strip().replaceFirst("^@", ""));
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<UUID> prefixIds = new HashSet<>();
+        for (Set<UUID> ids : terms.subMap(needle, true, needle + Character.MAX_VALUE, true).values()) {
+            prefixIds.addAll(ids);
+        }
+        List<Entry> results = ranked(prefixIds, limit);
+        if (results.size() >= limit || needle.length() < GRAM) {
+            return results;
+        }
+
+        List<Entry> infix = new ArrayList<>();
+        for (UUID id : infixCandidates(needle)) {
+            Entry entry = entries.get(id);
+            if (entry != null && !prefixIds.contains(id) && entry.contains(needle)) {
+                infix.add(entry);
+            }
+        }
+        infix.sort(BY_TRUST);
+        results.addAll(infix.subList(0, Math.min(infix.size(), limit - results.size())));
+        return results;
+    }
+
+    private List<Entry> ranked(Collection<UUID> ids, int limit) {
+        List<Entry> matches = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(BY_TRUST);
+        return new ArrayList<>(matches.subList(0, Math.min(matches.size(), limit)));
+    }
+
+    /**
+     * Ids whose names contain every trigram of the needle, intersecting from
+     * the shortest posting list.
+     */
+    private Set<UUID> infixCandidates(String needle) {
+        List<Set<UUID>> postings = new ArrayList<>();
+        for (String gram : trigramsOf(needle)) {
+            Set<UUID> ids = trigrams.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            postings.add(ids);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<UUID> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.getId(), entry);
+        for (String term : entry.terms()) {
+            terms.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(entry.getId());
+        }
+        for (String gram : entry.trigrams()) {
+            trigrams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(entry.getId());
+        }
+    }
+
+    private void removeEntry(Entry entry) {
+        entries.remove(entry.getId());
+        for (String term : entry.terms()) {
+            removePosting(terms, term, entry.getId());
+        }
+        for (String gram : entry.trigrams()) {
+            removePosting(trigrams, gram, entry.getId());
+        }
+    }
+
+    private static void removePosting(Map<String, Set<UUID>> index, String key, UUID id) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> trigramsOf(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * An indexed user, holding just what a typeahead row displays.
+     */
+    public static class Entry {
+        private final UUID id;
+        private final String username;
+        private final String displayName;
+        private final BigDecimal trustScore;
+        private final Instant createdAt;
+        private final String normalizedUsername;
+        private final String normalizedDisplayName;
+
+        Entry(User user) {
+            this.id = user.getId();
+            this.username = user.getUsername();
+            this.displayName = user.getDisplayName();
+            this.trustScore = user.getTrustScore() != null ? user.getTrustScore() : BigDecimal.ZERO;
+            this.createdAt = user.getCreatedAt();
+            this.normalizedUsername = normalize(username);
+            this.normalizedDisplayName = normalize(displayName).strip();
+        }
+
+        public UUID getId() { return id; }
+        public String getUsername() { return username; }
+        public String getDisplayName() { return displayName; }
+        public BigDecimal getTrustScore() { return trustScore; }
+        public Instant getCreatedAt() { return createdAt; }
+
+        boolean contains(String needle) {
+            return normalizedUsername.contains(needle) || normalizedDisplayName.contains(needle);
+        }
+
+        Set<String> terms() {
+            Set<String> result = new HashSet<>();
+            if (!normalizedUsername.isEmpty()) {
+                result.add(normalizedUsername);
+            }
+            if (!normalizedDisplayName.isEmpty()) {
+                result.add(normalizedDisplayName);
+                for (String word : WORD_SEPARATOR.split(normalizedDisplayName)) {
+                    if (!word.isEmpty()) {
+                        result.add(word);
+                    }
+                }
+            }
+            return result;
+        }
+
+        Set<String> trigrams() {
+            Set<String> result = trigramsOf(normalizedUsername);
+            result.addAll(trigramsOf(normalizedDisplayName));
+            return result;
+        }
+    }
+}
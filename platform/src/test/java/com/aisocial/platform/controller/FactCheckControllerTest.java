@@ -1,9 +1,17 @@
 package com.aisocial.platform.controller;
 
+import com.aisocial.platform.dto.FactCheckJobDTO;
 import com.aisocial.platform.entity.FactCheck;
 import com.aisocial.platform.entity.FactCheckStatus;
 import com.aisocial.platform.service.AIFactCheckService;
+import com.aisocial.platform.service.AiStreamRunner;
+import com.aisocial.platform.service.DraftPrecheckStore;
+import com.aisocial.platform.service.FactCheckCascade;
+import com.aisocial.platform.service.FactCheckJobService;
+import com.aisocial.platform.service.FactCheckResultCache;
 import com.aisocial.platform.service.FactCheckService;
+import com.aisocial.platform.service.KnownClaimRules;
+import com.aisocial.platform.service.SimilarClaimIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,13 +32,18 @@ class FactCheckControllerTest {
 
     private FactCheckService service;
     private AIFactCheckService aiFactCheckService;
+    private FactCheckJobService factCheckJobService;
     private FactCheckController controller;
 
     @BeforeEach
     void setUp() {
         service = Mockito.mock(FactCheckService.class);
         aiFactCheckService = Mockito.mock(AIFactCheckService.class);
-        controller = new FactCheckController(service, aiFactCheckService);
+        factCheckJobService = Mockito.mock(FactCheckJobService.class);
+        controller = new FactCheckController(service, aiFactCheckService, factCheckJobService,
+                Mockito.mock(FactCheckResultCache.class), Mockito.mock(AiStreamRunner.class),
+                Mockito.mock(DraftPrecheckStore.class), Mockito.mock(KnownClaimRules.class),
+                Mockito.mock(FactCheckCascade.class), Mockito.mock(SimilarClaimIndex.class));
     }
 
     @Test
@@ -141,4 +154,57 @@ class FactCheckControllerTest {
         assertEquals(404, response.getStatusCode().value());
         verify(service, times(1)).delete(id);
     }
+
+    @Test
+    @DisplayName("Should accept a post fact-check as a queued job")
+    void testFactCheckPostAccepted() {
+        UUID postId = UUID.randomUUID();
+        FactCheckJobDTO job = new FactCheckJobDTO();
+        job.setJobId(UUID.randomUUID());
+        job.setStatus(FactCheckJobDTO.Status.QUEUED);
+
+        when(factCheckJobService.submitPost(postId, null)).thenReturn(job);
+
+        ResponseEntity<FactCheckJobDTO> response = controller.factCheckPost(postId, null);
+        assertEquals(202, response.getStatusCode().value());
+        assertEquals(job, response.getBody());
+        verifyNoInteractions(aiFactCheckService);
+    }
+
+    @Test
+    @DisplayName("Should return 404 when fact-checking a missing argument")
+    void testFactCheckArgumentNotFound() {
+        UUID argumentId = UUID.randomUUID();
+        when(factCheckJobService.submitArgument(argumentId, null))
+                .thenThrow(new IllegalArgumentException("Debate argument not found"));
+
+        ResponseEntity<FactCheckJobDTO> response = controller.factCheckArgument(argumentId, null);
+        assertEquals(404, response.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("Should return 503 when the fact-check queue is full")
+    void testFactCheckPostQueueFull() {
+        UUID postId = UUID.randomUUID();
+        when(factCheckJobService.submitPost(postId, null))
+                .thenThrow(new IllegalStateException("Fact-check queue is full"));
+
+        ResponseEntity<FactCheckJobDTO> response = controller.factCheckPost(postId, null);
+        assertEquals(503, response.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("Should return job status or 404")
+    void testGetJob() {
+        UUID jobId = UUID.randomUUID();
+        FactCheckJobDTO job = new FactCheckJobDTO();
+        job.setJobId(jobId);
+        job.setStatus(FactCheckJobDTO.Status.COMPLETED);
+
+        when(factCheckJobService.getJob(any(UUID.class))).thenReturn(Optional.empty());
+        when(factCheckJobService.getJob(jobId)).thenReturn(Optional.of(job));
+
+        assertEquals(job, controller.getJob(jobId).getBody());
+        assertEquals(404, controller.getJob(UUID.randomUUID()).getStatusCode().value());
+    }
 }
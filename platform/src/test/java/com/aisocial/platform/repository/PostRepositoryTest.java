@@ -8,9 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,4 +141,36 @@ class PostRepositoryTest {
                 bobPost.getId()
             );
     }
+
+    @Test
+    @DisplayName("Should page an author's posts by keyset without skipping ties")
+    void shouldPageByKeyset() {
+        User user = userRepository.save(new User("dave", "Dave", "Bio"));
+        Instant base = Instant.parse("2024-06-01T12:00:00Z");
+
+        // Two posts share a timestamp so the id tiebreaker is exercised
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post(user, "Post " + i);
+            post.setCreatedAt(base.plusSeconds(i == 4 ? 3 : i));
+            postRepository.save(post);
+        }
+
+        Slice<Post> first = postRepository.findPageByAuthor(user.getId(), PageRequest.of(0, 2));
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+
+        List<Post> seen = new ArrayList<>(first.getContent());
+        Slice<Post> next = first;
+        while (next.hasNext()) {
+            Post last = next.getContent().get(next.getContent().size() - 1);
+            next = postRepository.findPageByAuthorBefore(
+                    user.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+            seen.addAll(next.getContent());
+        }
+
+        assertThat(seen).hasSize(5);
+        assertThat(seen).extracting(Post::getId).doesNotHaveDuplicates();
+        assertThat(seen).extracting(Post::getCreatedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
 }
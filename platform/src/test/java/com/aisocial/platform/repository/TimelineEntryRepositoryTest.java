@@ -0,0 +1,124 @@
+package com.aisocial.platform.repository;
+
+import com.aisocial.platform.entity.Follow;
+import com.aisocial.platform.entity.Post;
+import com.aisocial.platform.entity.TimelineEntry;
+import com.aisocial.platform.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Timeline Entry Repository Tests")
+class TimelineEntryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    private User author;
+    private User follower;
+    private User stranger;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persistAndFlush(new User("author", "Author", "Bio"));
+        follower = entityManager.persistAndFlush(new User("follower", "Follower", "Bio"));
+        stranger = entityManager.persistAndFlush(new User("stranger", "Stranger", "Bio"));
+        entityManager.persistAndFlush(new Follow(follower, author));
+    }
+
+    private Post persistPost(User user, String content, Instant createdAt) {
+        Post post = new Post(user, content);
+        post.setCreatedAt(createdAt);
+        return entityManager.persistAndFlush(post);
+    }
+
+    @Test
+    @DisplayName("Should fan a post out to followers only")
+    void shouldFanOutToFollowers() {
+        Post post = persistPost(author, "Hello followers", Instant.now());
+
+        int written = timelineEntryRepository.fanOutToFollowers(post.getId());
+
+        assertThat(written).isEqualTo(1);
+        assertThat(timelineEntryRepository.countById_OwnerId(follower.getId())).isEqualTo(1);
+        assertThat(timelineEntryRepository.countById_OwnerId(stranger.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read a timeline newest first")
+    void shouldReadTimelineNewestFirst() {
+        Instant now = Instant.now();
+        Post older = persistPost(author, "Older", now.minusSeconds(60));
+        Post newer = persistPost(author, "Newer", now);
+        timelineEntryRepository.fanOutToFollowers(older.getId());
+        timelineEntryRepository.fanOutToFollowers(newer.getId());
+
+        List<TimelineEntry> entries = timelineEntryRepository.findLatestByOwner(follower.getId(), PageRequest.of(0, 10));
+
+        assertThat(entries).extracting(TimelineEntry::getPostId)
+                .containsExactly(newer.getId(), older.getId());
+    }
+
+    @Test
+    @DisplayName("Should backfill a new follow and remove entries on unfollow")
+    void shouldBackfillAndRemoveOnUnfollow() {
+        persistPost(author, "One", Instant.now().minusSeconds(30));
+        persistPost(author, "Two", Instant.now());
+        entityManager.persistAndFlush(new Follow(stranger, author));
+
+        int inserted = timelineEntryRepository.backfillFromAuthor(stranger.getId(), author.getId(), 1);
+        assertThat(inserted).isEqualTo(1);
+
+        timelineEntryRepository.deleteByOwnerAndAuthor(stranger.getId(), author.getId());
+        assertThat(timelineEntryRepository.countById_OwnerId(stranger.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should backfill all timelines idempotently and drop deleted posts")
+    void shouldBackfillAllAndDeleteByPost() {
+        Post post = persistPost(author, "Backfilled", Instant.now());
+
+        assertThat(timelineEntryRepository.backfillAll(800)).isEqualTo(1);
+        assertThat(timelineEntryRepository.backfillAll(800)).isZero();
+
+        timelineEntryRepository.deleteByPostId(post.getId());
+        assertThat(timelineEntryRepository.countById_OwnerId(follower.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should trim only the timelines of the given authors' followers")
+    void shouldTrimFollowersOfAuthors() {
+        Instant now = Instant.now();
+        persistPost(author, "Oldest", now.minusSeconds(120));
+        Post middle = persistPost(author, "Middle", now.minusSeconds(60));
+        Post newest = persistPost(author, "Newest", now);
+        persistPost(follower, "Other", now);
+        entityManager.persistAndFlush(new Follow(stranger, follower));
+        timelineEntryRepository.backfillAll(800);
+
+        assertThat(timelineEntryRepository.trimFollowersOf(List.of(author.getId()), 2)).isEqualTo(1);
+        assertThat(timelineEntryRepository.trimFollowersOf(List.of(author.getId()), 2)).isZero();
+        assertThat(timelineEntryRepository.findLatestByOwner(follower.getId(), PageRequest.of(0, 10)))
+                .extracting(TimelineEntry::getPostId)
+                .containsExactly(newest.getId(), middle.getId());
+        assertThat(timelineEntryRepository.trimFollowersOf(List.of(author.getId()), 0)).isEqualTo(2);
+        assertThat(timelineEntryRepository.countById_OwnerId(stranger.getId())).isEqualTo(1);
+    }
+}
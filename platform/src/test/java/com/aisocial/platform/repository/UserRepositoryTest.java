@@ -1,5 +1,6 @@
 package com.aisocial.platform.repository;
 
+import com.aisocial.platform.entity.Follow;
 import com.aisocial.platform.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -167,4 +169,69 @@ class UserRepositoryTest {
         assertTrue(found.isPresent());
         assertEquals(0, found.get().getTrustScore().compareTo(new BigDecimal("87.65")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should adjust stored counters atomically")
+    void shouldAdjustCounters() {
+        User savedUser = entityManager.persistAndFlush(testUser);
+
+        userRepository.adjustFollowerCount(savedUser.getId(), 1);
+        userRepository.adjustFollowerCount(savedUser.getId(), 1);
+        userRepository.adjustFollowingCount(savedUser.getId(), 1);
+        userRepository.adjustPostCount(savedUser.getId(), -1);
+        entityManager.clear();
+
+        User found = userRepository.findById(savedUser.getId()).orElseThrow();
+        assertEquals(2L, found.getFollowerCount());
+        assertEquals(1L, found.getFollowingCount());
+        assertEquals(-1L, found.getPostCount());
+    }
+
+    @Test
+    @DisplayName("Should read the stored follower count by id")
+    void shouldFindFollowerCount() {
+        User savedUser = entityManager.persistAndFlush(testUser);
+
+        userRepository.adjustFollowerCount(savedUser.getId(), 4);
+
+        assertEquals(Optional.of(4L), userRepository.findFollowerCountById(savedUser.getId()));
+        assertTrue(userRepository.findFollowerCountById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep adjusted counters when a stale user is saved")
+    void shouldNotOverwriteCountersOnSave() {
+        User savedUser = entityManager.persistAndFlush(testUser);
+
+        userRepository.adjustFollowerCount(savedUser.getId(), 3);
+        userRepository.adjustPostCount(savedUser.getId(), 2);
+        // The managed instance still holds the counts it was loaded with
+        savedUser.setBio("Updated bio");
+        userRepository.saveAndFlush(savedUser);
+        entityManager.clear();
+
+        User found = userRepository.findById(savedUser.getId()).orElseThrow();
+        assertEquals("Updated bio", found.getBio());
+        assertEquals(3L, found.getFollowerCount());
+        assertEquals(2L, found.getPostCount());
+    }
+
+    @Test
+    @DisplayName("Should reconcile drifted counters from follows and posts")
+    void shouldReconcileDriftedCounters() {
+        User savedUser = entityManager.persistAndFlush(testUser);
+        User other = entityManager.persistAndFlush(new User("other", "Other", "Bio"));
+        entityManager.persistAndFlush(new Follow(other, savedUser));
+
+        // Drift: the follow was written without its counter increments
+        int corrected = userRepository.reconcileCounters(List.of(savedUser.getId(), other.getId()));
+        entityManager.clear();
+
+        assertEquals(2, corrected);
+        assertEquals(1L, userRepository.findById(savedUser.getId()).orElseThrow().getFollowerCount());
+        assertEquals(1L, userRepository.findById(other.getId()).orElseThrow().getFollowingCount());
+
+        // Already correct rows are left alone
+        assertEquals(0, userRepository.reconcileCounters(List.of(savedUser.getId(), other.getId())));
+    }
+}
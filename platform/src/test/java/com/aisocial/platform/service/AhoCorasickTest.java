@@ -0,0 +1,32 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Aho-Corasick Tests")
+class AhoCorasickTest {
+
+    @Test
+    @DisplayName("Should find overlapping and nested patterns in one pass")
+    void shouldFindAllOccurrences() {
+        AhoCorasick automaton = new AhoCorasick(List.of("he", "she", "his", "hers"));
+
+        List<AhoCorasick.Hit> hits = automaton.search("ushers");
+
+        assertThat(hits).containsExactly(
+                new AhoCorasick.Hit(1, 1, 4),
+                new AhoCorasick.Hit(0, 2, 4),
+                new AhoCorasick.Hit(3, 2, 6));
+    }
+
+    @Test
+    @DisplayName("Should report nothing for text without patterns or an empty pattern set")
+    void shouldHandleNoMatches() {
+        assertThat(new AhoCorasick(List.of("abc")).search("abxabyab")).isEmpty();
+        assertThat(new AhoCorasick(List.of()).search("anything")).isEmpty();
+    }
+}
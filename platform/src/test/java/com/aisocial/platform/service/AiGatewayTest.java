@@ -0,0 +1,136 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AI Gateway Tests")
+class AiGatewayTest {
+
+    private StubChatModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new StubChatModel();
+    }
+
+    private AiGateway gateway(int assistantPermits, long latencyTargetMs, int failureThreshold, long openMs) {
+        return new AiGateway(ChatClient.builder(model), 4, assistantPermits, 0,
+                8, 1, 32, latencyTargetMs, failureThreshold, openMs);
+    }
+
+    @Test
+    @DisplayName("Should return the provider response and count the call")
+    void shouldCallProvider() {
+        model.reply = prompt -> "echo: " + prompt;
+        AiGateway gateway = gateway(2, 1000, 3, 1000);
+
+        assertThat(gateway.call(AiGateway.Use.FACT_CHECK, "hello")).isEqualTo("echo: hello");
+        assertThat(gateway.stats().getSuccesses()).isEqualTo(1);
+        assertThat(gateway.stats().getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should refuse calls beyond a use's bulkhead without affecting other uses")
+    void shouldIsolateBulkheads() throws Exception {
+        AiGateway gateway = gateway(1, 10_000, 3, 1000);
+        CountDownLatch release = new CountDownLatch(1);
+        model.gate = release;
+
+        CompletableFuture<String> held = CompletableFuture.supplyAsync(
+                () -> gateway.call(AiGateway.Use.ASSISTANT, "slow"));
+        while (gateway.stats().getInFlight() == 0) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> gateway.call(AiGateway.Use.ASSISTANT, "second"))
+                .isInstanceOf(AiUnavailableException.class);
+        assertThat(gateway.stats().getRejectedBulkhead()).isEqualTo(1);
+
+        model.gate = null;
+        assertThat(gateway.call(AiGateway.Use.FACT_CHECK, "independent")).isEqualTo("ok");
+
+        release.countDown();
+        assertThat(held.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after repeated failures and close after a good trial")
+    void shouldTripCircuitBreaker() throws Exception {
+        AiGateway gateway = gateway(2, 10_000, 2, 100);
+        model.failure = new IllegalStateException("provider down");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> gateway.call(AiGateway.Use.FACT_CHECK, "claim"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThatThrownBy(() -> gateway.call(AiGateway.Use.FACT_CHECK, "claim"))
+                .isInstanceOf(AiUnavailableException.class);
+        assertThat(model.calls.get()).isEqualTo(2);
+        assertThat(gateway.stats().getRejectedCircuit()).isEqualTo(1);
+
+        Thread.sleep(150);
+        model.failure = null;
+        assertThat(gateway.call(AiGateway.Use.FACT_CHECK, "claim")).isEqualTo("ok");
+        assertThat(gateway.stats().getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should keep a failing model's circuit away from the default model")
+    void shouldIsolateModelCircuits() {
+        AiGateway gateway = gateway(2, 10_000, 2, 10_000);
+        model.replyByModel.put("fast", prompt -> {
+            throw new IllegalStateException("fast tier down");
+        });
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> gateway.call(AiGateway.Use.FACT_CHECK, "claim", "fast"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThatThrownBy(() -> gateway.call(AiGateway.Use.FACT_CHECK, "claim", "fast"))
+                .isInstanceOf(AiUnavailableException.class);
+
+        assertThat(gateway.call(AiGateway.Use.FACT_CHECK, "claim")).isEqualTo("ok");
+        assertThat(gateway.stats().getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(gateway.stats().getModelCircuitStates()).containsEntry("fast", CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should shrink the concurrency limit when latency exceeds the target")
+    void shouldBackOffOnSlowCalls() {
+        AiGateway gateway = gateway(2, 5, 10, 1000);
+        model.latency = Duration.ofMillis(20);
+
+        for (int i = 0; i < 5; i++) {
+            gateway.call(AiGateway.Use.FACT_CHECK, "claim");
+        }
+
+        assertThat(gateway.stats().getConcurrencyLimit()).isLessThan(8);
+        assertThat(gateway.stats().getAverageLatencyMs()).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Adaptive limit should grow additively while saturated and fast")
+    void shouldGrowLimitWhenSaturated() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 4, 1_000_000, 0.5);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        limit.onSuccess(10);
+        assertThat(limit.getLimit()).isEqualTo(3);
+
+        limit.onFailure();
+        assertThat(limit.getLimit()).isEqualTo(1);
+        assertThat(limit.getInFlight()).isZero();
+    }
+}
@@ -41,7 +41,7 @@ class DebateArgumentServiceTest {
 
     @BeforeEach
     void setup() {
-        service = new DebateArgumentService(debateArgumentRepository);
+        service = new DebateArgumentService(debateArgumentRepository, debateRepository);
 
         // Persist user first
         user = new User("alice", "Alice", "bio");
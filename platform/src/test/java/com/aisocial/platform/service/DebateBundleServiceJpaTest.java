@@ -0,0 +1,118 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.DebateBundleDTO;
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.DebateArgument;
+import com.aisocial.platform.entity.DebateLike;
+import com.aisocial.platform.entity.DebateStatus;
+import com.aisocial.platform.entity.DebateVote;
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.entity.VoteType;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import com.aisocial.platform.repository.DebateLikeRepository;
+import com.aisocial.platform.repository.DebateRepository;
+import com.aisocial.platform.repository.DebateVoteRepository;
+import com.aisocial.platform.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a bundle from the database on the service's own worker threads. The
+ * data is committed first (the test is not transactional) and the database
+ * is a shared-cache in-memory one, so every pooled connection sees it.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:sqlite:file:debate-bundle?mode=memory&cache=shared")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Debate Bundle Service JPA Tests")
+class DebateBundleServiceJpaTest {
+
+    @Autowired
+    private DebateRepository debateRepository;
+
+    @Autowired
+    private DebateArgumentRepository debateArgumentRepository;
+
+    @Autowired
+    private DebateVoteRepository debateVoteRepository;
+
+    @Autowired
+    private DebateLikeRepository debateLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private DebateBundleService bundleService;
+
+    @BeforeEach
+    void setUp() {
+        bundleService = new DebateBundleService(debateRepository, debateArgumentRepository,
+                debateVoteRepository, debateLikeRepository,
+                new DebateVoteTally(jdbcTemplate, transactionManager), transactionManager, 4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bundleService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should load a finished debate with its lazy participants, arguments and viewer state")
+    void shouldLoadBundle() {
+        User challenger = userRepository.save(new User("bundle_alice", "Alice", "bio"));
+        User defender = userRepository.save(new User("bundle_bob", "Bob", "bio"));
+        User viewer = userRepository.save(new User("bundle_carol", "Carol", "bio"));
+        Debate finished = new Debate("Tabs or spaces", challenger, defender);
+        finished.setStatus(DebateStatus.COMPLETED);
+        finished.setWhoseTurn(defender);
+        finished.setWinner(challenger);
+        Debate debate = debateRepository.save(finished);
+        debateArgumentRepository.save(new DebateArgument(debate, challenger, 1, "Tabs are semantic"));
+        DebateVote vote = new DebateVote();
+        vote.setDebateId(debate.getId());
+        vote.setUserId(viewer.getId());
+        vote.setVote(VoteType.CHALLENGER);
+        vote.setCreatedAt(Instant.now());
+        debateVoteRepository.save(vote);
+        debateLikeRepository.save(new DebateLike(debate.getId(), viewer.getId()));
+
+        DebateBundleDTO bundle = bundleService.getBundle(debate.getId(), viewer.getId()).orElseThrow();
+
+        assertThat(bundle.getDebate().getWhoseTurnId()).isEqualTo(defender.getId());
+        assertThat(bundle.getDebate().getWinnerId()).isEqualTo(challenger.getId());
+        assertThat(bundle.getDebate().getChallenger().getUsername()).isEqualTo("bundle_alice");
+        assertThat(bundle.getArguments()).singleElement()
+                .satisfies(argument -> {
+                    assertThat(argument.getContent()).isEqualTo("Tabs are semantic");
+                    assertThat(argument.getUser().getUsername()).isEqualTo("bundle_alice");
+                    assertThat(argument.getDebateId()).isEqualTo(debate.getId());
+                });
+        assertThat(bundle.getViewerVote()).isEqualTo(VoteType.CHALLENGER);
+        assertThat(bundle.isViewerLiked()).isTrue();
+        assertThat(bundleService.getBundle(UUID.randomUUID(), null)).isEmpty();
+    }
+}
@@ -0,0 +1,159 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.DebateBundleDTO;
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.DebateArgument;
+import com.aisocial.platform.entity.DebateStatus;
+import com.aisocial.platform.entity.DebateVote;
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.entity.VoteType;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import com.aisocial.platform.repository.DebateLikeRepository;
+import com.aisocial.platform.repository.DebateRepository;
+import com.aisocial.platform.repository.DebateVoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Debate Bundle Service Tests")
+class DebateBundleServiceTest {
+
+    @Mock
+    private DebateRepository debateRepository;
+
+    @Mock
+    private DebateArgumentRepository debateArgumentRepository;
+
+    @Mock
+    private DebateVoteRepository debateVoteRepository;
+
+    @Mock
+    private DebateLikeRepository debateLikeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DebateBundleService bundleService;
+    private DebateVoteTally voteTally;
+    private Debate debate;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        voteTally = new DebateVoteTally(null, null);
+        bundleService = new DebateBundleService(debateRepository, debateArgumentRepository,
+                debateVoteRepository, debateLikeRepository, voteTally, transactionManager, 4, 16);
+
+        User challenger = user("alice");
+        User defender = user("bob");
+        viewer = user("carol");
+        debate = new Debate();
+        debate.setId(UUID.randomUUID());
+        debate.setTopic("Tabs or spaces");
+        debate.setChallenger(challenger);
+        debate.setDefender(defender);
+        debate.setStatus(DebateStatus.VOTING);
+        debate.setVotesChallenger(2);
+        debate.setVotesDefender(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bundleService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should assemble the debate, its arguments and the viewer's vote and like")
+    void shouldAssembleBundle() {
+        DebateArgument opening = argument(debate.getChallenger(), 1, "Tabs are semantic");
+        DebateArgument reply = argument(debate.getDefender(), 1, "Spaces render the same everywhere");
+        DebateVote vote = new DebateVote();
+        vote.setVote(VoteType.DEFENDER);
+        when(debateRepository.findWithParticipantsById(debate.getId())).thenReturn(Optional.of(debate));
+        when(debateArgumentRepository.findWithAuthorsByDebateId(debate.getId())).thenReturn(List.of(opening, reply));
+        when(debateVoteRepository.findByDebateIdAndUserId(debate.getId(), viewer.getId())).thenReturn(Optional.of(vote));
+        when(debateLikeRepository.existsByDebateIdAndUserId(debate.getId(), viewer.getId())).thenReturn(true);
+        voteTally.record(debate.getId(), null, VoteType.DEFENDER);
+
+        DebateBundleDTO bundle = bundleService.getBundle(debate.getId(), viewer.getId()).orElseThrow();
+
+        assertThat(bundle.getDebate().getTopic()).isEqualTo("Tabs or spaces");
+        assertThat(bundle.getDebate().getChallenger().getUsername()).isEqualTo("alice");
+        assertThat(bundle.getDebate().getVotesDefender()).isEqualTo(2);
+        assertThat(bundle.getDebate().getTotalVotes()).isEqualTo(4);
+        assertThat(bundle.getArguments()).extracting("content")
+                .containsExactly("Tabs are semantic", "Spaces render the same everywhere");
+        assertThat(bundle.getViewerVote()).isEqualTo(VoteType.DEFENDER);
+        assertThat(bundle.isViewerLiked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should run the reads concurrently")
+    void shouldReadConcurrently() {
+        CountDownLatch argumentsStarted = new CountDownLatch(1);
+        // The debate read only returns once the arguments read is under way
+        when(debateRepository.findWithParticipantsById(debate.getId())).thenAnswer(invocation ->
+                argumentsStarted.await(5, TimeUnit.SECONDS) ? Optional.of(debate) : Optional.empty());
+        when(debateArgumentRepository.findWithAuthorsByDebateId(debate.getId())).thenAnswer(invocation -> {
+            argumentsStarted.countDown();
+            return List.of();
+        });
+
+        assertThat(bundleService.getBundle(debate.getId(), null)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should skip viewer reads for anonymous viewers")
+    void shouldSkipViewerReadsWhenAnonymous() {
+        when(debateRepository.findWithParticipantsById(debate.getId())).thenReturn(Optional.of(debate));
+        when(debateArgumentRepository.findWithAuthorsByDebateId(debate.getId())).thenReturn(List.of());
+
+        DebateBundleDTO bundle = bundleService.getBundle(debate.getId(), null).orElseThrow();
+
+        assertThat(bundle.getViewerVote()).isNull();
+        assertThat(bundle.isViewerLiked()).isFalse();
+        verifyNoInteractions(debateVoteRepository, debateLikeRepository);
+    }
+
+    @Test
+    @DisplayName("Should return empty when the debate does not exist")
+    void shouldReturnEmptyWhenDebateMissing() {
+        UUID missing = UUID.randomUUID();
+        when(debateRepository.findWithParticipantsById(missing)).thenReturn(Optional.empty());
+        when(debateArgumentRepository.findWithAuthorsByDebateId(missing)).thenReturn(List.of());
+
+        assertThat(bundleService.getBundle(missing, null)).isEmpty();
+    }
+
+    private DebateArgument argument(User author, int round, String content) {
+        DebateArgument argument = new DebateArgument();
+        argument.setId(UUID.randomUUID());
+        argument.setDebate(debate);
+        argument.setUser(author);
+        argument.setRoundNumber(round);
+        argument.setContent(content);
+        return argument;
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.entity.DebateArgument;
+import com.aisocial.platform.entity.FactCheckStatus;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Debate Fact-Check Fan-out Tests")
+class DebateFactCheckFanoutTest {
+
+    @Mock
+    private AIFactCheckService aiFactCheckService;
+
+    @Mock
+    private FactCheckBatcher factCheckBatcher;
+
+    @Mock
+    private DebateArgumentRepository debateArgumentRepository;
+
+    private DebateFactCheckFanout fanout;
+    private final UUID debateId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        fanout = new DebateFactCheckFanout(aiFactCheckService, factCheckBatcher, debateArgumentRepository, true, 6, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+    }
+
+    private static DebateArgument argument(int round, String content, boolean checked) {
+        DebateArgument argument = new DebateArgument(null, null, round, content);
+        argument.setId(UUID.randomUUID());
+        if (checked) {
+            argument.setFactCheckStatus(FactCheckStatus.VERIFIED);
+            argument.setFactCheckedAt(Instant.now());
+        }
+        return argument;
+    }
+
+    private static FactCheckResultDTO verdict(String verdict) {
+        FactCheckResultDTO result = new FactCheckResultDTO();
+        result.setVerdict(verdict);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should check both arguments of a round concurrently and store them together")
+    @SuppressWarnings("unchecked")
+    void shouldCheckRoundConcurrently() throws Exception {
+        DebateArgument first = argument(2, "first", false);
+        DebateArgument second = argument(2, "second", false);
+        when(debateArgumentRepository.findByDebateIdOrderByRoundNumberAscCreatedAtAsc(debateId))
+                .thenReturn(List.of(argument(1, "earlier", false), first, second));
+        // Each check only answers once both are in flight
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        when(aiFactCheckService.checkClaim(anyString())).thenAnswer(inv -> {
+            bothRunning.countDown();
+            return bothRunning.await(5, TimeUnit.SECONDS) ? verdict("VERIFIED") : verdict("ERROR");
+        });
+
+        Map<UUID, FactCheckResultDTO> results = fanout.checkRound(new DebateRoundCompletedEvent(debateId, 2, false))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(results).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(results.values()).extracting(FactCheckResultDTO::getVerdict).containsOnly("VERIFIED");
+        ArgumentCaptor<Map<UUID, FactCheckResultDTO>> stored = ArgumentCaptor.forClass(Map.class);
+        verify(aiFactCheckService, times(1)).applyToArguments(stored.capture());
+        assertThat(stored.getValue()).containsOnlyKeys(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Should batch every unchecked argument when the debate moves to voting")
+    void shouldCheckWholeDebateAtVoting() throws Exception {
+        List<DebateArgument> arguments = List.of(
+                argument(1, "a", true), argument(1, "b", false),
+                argument(2, "c", false), argument(2, "d", true),
+                argument(3, "e", false), argument(3, "f", false));
+        when(debateArgumentRepository.findByDebateIdOrderByRoundNumberAscCreatedAtAsc(debateId)).thenReturn(arguments);
+        when(factCheckBatcher.submit(anyString())).thenReturn(CompletableFuture.completedFuture(verdict("FALSE")));
+
+        Map<UUID, FactCheckResultDTO> results = fanout.checkRound(new DebateRoundCompletedEvent(debateId, 3, true))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(results).hasSize(4);
+        verify(factCheckBatcher, times(4)).submit(anyString());
+        verify(factCheckBatcher, never()).submit("a");
+        verify(aiFactCheckService, never()).checkClaim(anyString());
+    }
+
+    @Test
+    @DisplayName("Should turn a failing check into an error result instead of failing the round")
+    void shouldContainFailures() throws Exception {
+        DebateArgument ok = argument(1, "ok", false);
+        DebateArgument broken = argument(1, "broken", false);
+        when(debateArgumentRepository.findByDebateIdOrderByRoundNumberAscCreatedAtAsc(debateId))
+                .thenReturn(List.of(ok, broken));
+        when(aiFactCheckService.checkClaim("ok")).thenReturn(verdict("VERIFIED"));
+        when(aiFactCheckService.checkClaim("broken")).thenThrow(new IllegalStateException("boom"));
+
+        Map<UUID, FactCheckResultDTO> results = fanout.checkRound(new DebateRoundCompletedEvent(debateId, 1, false))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(results.get(ok.getId()).getVerdict()).isEqualTo("VERIFIED");
+        assertThat(results.get(broken.getId()).getError()).contains("boom");
+    }
+}
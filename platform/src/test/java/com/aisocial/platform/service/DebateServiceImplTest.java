@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -33,6 +34,10 @@ class DebateServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    // Nothing pending, so DTOs carry the persisted counts
+    @Spy
+    private DebateVoteTally debateVoteTally = new DebateVoteTally(null, null);
+
     @InjectMocks
     private DebateServiceImpl debateService;
 
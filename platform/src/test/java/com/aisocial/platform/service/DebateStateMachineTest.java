@@ -14,8 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +33,9 @@ class DebateStateMachineTest {
     @Mock
     private DebateRepository debateRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DebateStateMachine stateMachine;
 
@@ -65,9 +69,6 @@ class DebateStateMachineTest {
         @Test
         @DisplayName("Should allow challenger to argue when it's their turn")
         void shouldAllowChallengerWhenTheirTurn() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.empty());
-
             assertTrue(stateMachine.canSubmitArgument(debate, challenger));
         }
 
@@ -93,9 +94,7 @@ class DebateStateMachineTest {
         @Test
         @DisplayName("Should not allow argument when user already argued this round")
         void shouldNotAllowWhenAlreadyArgued() {
-            DebateArgument existingArg = new DebateArgument(debate, challenger, 1, "Already argued");
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.of(existingArg));
+            alreadyArgued(challenger, 1);
 
             assertFalse(stateMachine.canSubmitArgument(debate, challenger));
         }
@@ -108,20 +107,20 @@ class DebateStateMachineTest {
         @Test
         @DisplayName("Should submit argument and switch turn to defender")
         void shouldSubmitAndSwitchTurn() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.empty());
             when(debateArgumentRepository.save(any(DebateArgument.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
-            // After challenger argues, defender hasn't argued yet
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 1))
-                    .thenReturn(Optional.empty());
 
             DebateArgument result = stateMachine.submitArgument(debate, challenger, "My argument");
 
             assertNotNull(result);
             assertEquals(defender, debate.getWhoseTurn());
             assertEquals(1, debate.getCurrentRound());
+            assertFalse(stateMachine.isRoundComplete(debate, 1));
             verify(debateRepository).save(debate);
+            verify(debateArgumentRepository, never()).findSlotsByDebate(any());
+            verify(eventPublisher, never()).publishEvent(any(DebateRoundCompletedEvent.class));
+            verify(eventPublisher).publishEvent(argThat((DebateUpdateEvent event) ->
+                    event.type().equals("argument") && event.data().get("whoseTurnId").equals(defender.getId())));
         }
 
         @Test
@@ -145,11 +144,7 @@ class DebateStateMachineTest {
             // Challenger has already argued, it's defender's turn
             debate.setWhoseTurn(defender);
 
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.of(new DebateArgument(debate, challenger, 1, "challenger arg")));
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 1))
-                    .thenReturn(Optional.empty())  // Before submission
-                    .thenReturn(Optional.of(new DebateArgument(debate, defender, 1, "defender arg"))); // After submission
+            alreadyArgued(challenger, 1);
             when(debateArgumentRepository.save(any(DebateArgument.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
@@ -159,6 +154,7 @@ class DebateStateMachineTest {
             // Should advance to round 2 with defender first (alternating)
             assertEquals(2, debate.getCurrentRound());
             assertEquals(defender, debate.getWhoseTurn());
+            verify(eventPublisher).publishEvent(new DebateRoundCompletedEvent(debate.getId(), 1, false));
         }
 
         @Test
@@ -168,11 +164,7 @@ class DebateStateMachineTest {
             debate.setWhoseTurn(defender);
 
             // Both have argued in round 3 after this submission
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 3))
-                    .thenReturn(Optional.of(new DebateArgument(debate, challenger, 3, "arg")));
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 3))
-                    .thenReturn(Optional.empty())
-                    .thenReturn(Optional.of(new DebateArgument(debate, defender, 3, "arg")));
+            alreadyArgued(challenger, 3);
             when(debateArgumentRepository.save(any(DebateArgument.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
@@ -181,6 +173,26 @@ class DebateStateMachineTest {
             assertEquals(DebateStatus.VOTING, debate.getStatus());
             assertNull(debate.getWhoseTurn());
             assertNotNull(debate.getVotingEndsAt());
+            verify(eventPublisher).publishEvent(new DebateRoundCompletedEvent(debate.getId(), 3, true));
+        }
+
+        @Test
+        @DisplayName("Should rebuild who has argued with one query when the state is missing")
+        void shouldRebuildMissingStateOnce() {
+            debate.setArguedMask(null);
+            debate.setWhoseTurn(defender);
+            when(debateArgumentRepository.findSlotsByDebate(debate))
+                    .thenReturn(List.of(slot(challenger, 1)));
+            when(debateArgumentRepository.save(any(DebateArgument.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+
+            stateMachine.submitArgument(debate, defender, "Defender arg");
+
+            assertEquals(2, debate.getCurrentRound());
+            assertEquals(defender, debate.getWhoseTurn());
+            assertEquals(0b11, debate.getArguedMask());
+            verify(debateArgumentRepository, times(1)).findSlotsByDebate(debate);
+            verify(debateRepository, times(1)).save(debate);
         }
     }
 
@@ -221,17 +233,13 @@ class DebateStateMachineTest {
         @Test
         @DisplayName("Should return first mover when no one has argued")
         void shouldReturnFirstMoverWhenNoOneArgued() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.empty());
-
             assertEquals(challenger, stateMachine.getExpectedTurn(debate));
         }
 
         @Test
         @DisplayName("Should return second mover when first has argued")
         void shouldReturnSecondMoverWhenFirstArgued() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.of(new DebateArgument(debate, challenger, 1, "arg")));
+            alreadyArgued(challenger, 1);
 
             assertEquals(defender, stateMachine.getExpectedTurn(debate));
         }
@@ -240,8 +248,8 @@ class DebateStateMachineTest {
         @DisplayName("Should return defender as first mover in round 2")
         void shouldReturnDefenderFirstInRound2() {
             debate.setCurrentRound(2);
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 2))
-                    .thenReturn(Optional.empty());
+            alreadyArgued(challenger, 1);
+            alreadyArgued(defender, 1);
 
             assertEquals(defender, stateMachine.getExpectedTurn(debate));
         }
@@ -254,21 +262,13 @@ class DebateStateMachineTest {
         @Test
         @DisplayName("Should return false when no one has argued")
         void shouldReturnFalseWhenNoOneArgued() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.empty());
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 1))
-                    .thenReturn(Optional.empty());
-
             assertFalse(stateMachine.isRoundComplete(debate, 1));
         }
 
         @Test
         @DisplayName("Should return false when only one has argued")
         void shouldReturnFalseWhenOnlyOneArgued() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.of(new DebateArgument(debate, challenger, 1, "arg")));
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 1))
-                    .thenReturn(Optional.empty());
+            alreadyArgued(challenger, 1);
 
             assertFalse(stateMachine.isRoundComplete(debate, 1));
         }
@@ -276,12 +276,43 @@ class DebateStateMachineTest {
         @Test
         @DisplayName("Should return true when both have argued")
         void shouldReturnTrueWhenBothArgued() {
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, challenger, 1))
-                    .thenReturn(Optional.of(new DebateArgument(debate, challenger, 1, "arg")));
-            when(debateArgumentRepository.findByDebateAndUserAndRoundNumber(debate, defender, 1))
-                    .thenReturn(Optional.of(new DebateArgument(debate, defender, 1, "arg")));
+            alreadyArgued(challenger, 1);
+            alreadyArgued(defender, 1);
 
             assertTrue(stateMachine.isRoundComplete(debate, 1));
+            assertFalse(stateMachine.isRoundComplete(debate, 2));
         }
+
+        @Test
+        @DisplayName("Should load who has argued from the arguments when the state is missing")
+        void shouldLoadMissingState() {
+            debate.setArguedMask(null);
+            when(debateArgumentRepository.findSlotsByDebate(debate))
+                    .thenReturn(List.of(slot(challenger, 1), slot(defender, 1), slot(outsider, 2)));
+
+            assertTrue(stateMachine.isRoundComplete(debate, 1));
+            assertFalse(stateMachine.isRoundComplete(debate, 2));
+            verify(debateArgumentRepository, times(1)).findSlotsByDebate(debate);
+        }
+    }
+
+    // Record an argument the way DebateStateMachine stores it: two bits per round
+    private void alreadyArgued(User user, int round) {
+        int side = user == challenger ? 0 : 1;
+        debate.setArguedMask(debate.getArguedMask() | 1 << ((round - 1) * 2 + side));
+    }
+
+    private static DebateArgumentRepository.ArgumentSlot slot(User user, int round) {
+        return new DebateArgumentRepository.ArgumentSlot() {
+            @Override
+            public Integer getRoundNumber() {
+                return round;
+            }
+
+            @Override
+            public UUID getUserId() {
+                return user.getId();
+            }
+        };
     }
 }
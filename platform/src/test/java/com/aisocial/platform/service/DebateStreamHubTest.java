@@ -0,0 +1,161 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Debate Stream Hub Tests")
+class DebateStreamHubTest {
+
+    private DebateStreamHub hub;
+    private final UUID debateId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        hub = new DebateStreamHub(3, 2, 60_000, 2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver updates only to subscribers of that debate, in order")
+    void shouldFanOutPerDebate() throws InterruptedException {
+        RecordingSink watching = new RecordingSink();
+        RecordingSink elsewhere = new RecordingSink();
+        hub.register(debateId, watching);
+        hub.register(UUID.randomUUID(), elsewhere);
+
+        hub.onDebateUpdate(new DebateUpdateEvent(debateId, "votes", Map.of("votesChallenger", 1)));
+        hub.onDebateUpdate(new DebateUpdateEvent(debateId, "likes", Map.of("likeCount", 4)));
+
+        awaitUntil(() -> watching.names.size() == 2);
+        assertThat(watching.names).containsExactly("votes", "likes");
+        assertThat(elsewhere.names).isEmpty();
+        assertThat(hub.stats().getDelivered()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest pending updates of a slow subscriber")
+    void shouldDropOldestWhenBufferFull() throws InterruptedException {
+        RecordingSink slow = new RecordingSink();
+        slow.hold = new CountDownLatch(1);
+        hub.register(debateId, slow);
+
+        hub.onDebateUpdate(new DebateUpdateEvent(debateId, "first", Map.of()));
+        awaitUntil(() -> slow.sending);
+        // Buffer of three while "first" is stuck in send
+        for (int i = 1; i <= 5; i++) {
+            hub.onDebateUpdate(new DebateUpdateEvent(debateId, "update-" + i, Map.of()));
+        }
+        slow.hold.countDown();
+
+        awaitUntil(() -> slow.names.size() == 4);
+        assertThat(slow.names).containsExactly("first", "update-3", "update-4", "update-5");
+        assertThat(hub.stats().getDropped()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should forget a subscriber whose client went away")
+    void shouldRemoveFailedSubscriber() throws InterruptedException {
+        RecordingSink gone = new RecordingSink();
+        gone.fail = true;
+        hub.register(debateId, gone);
+
+        hub.onDebateUpdate(new DebateUpdateEvent(debateId, "votes", Map.of()));
+
+        awaitUntil(() -> hub.stats().getSubscribers() == 0);
+        assertThat(hub.stats().getDebates()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers beyond the limit")
+    void shouldRefuseBeyondLimit() {
+        assertThat(hub.register(debateId, new RecordingSink())).isNotNull();
+        assertThat(hub.register(debateId, new RecordingSink())).isNotNull();
+        assertThat(hub.register(debateId, new RecordingSink())).isNull();
+
+        assertThat(hub.stats().getRefused()).isEqualTo(1);
+        assertThat(hub.stats().getSubscribers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a subscriber who joins while the last one leaves")
+    void shouldNotOrphanJoiningSubscriber() throws Exception {
+        ExecutorService leaver = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                DebateStreamHub.Subscriber last = hub.register(debateId, new RecordingSink());
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> leaving = leaver.submit(() -> {
+                    start.await();
+                    last.close();
+                    return null;
+                });
+                start.await();
+                DebateStreamHub.Subscriber joining = hub.register(debateId, new RecordingSink());
+                leaving.get(5, TimeUnit.SECONDS);
+
+                assertThat(hub.stats().getDebates()).as("iteration %d", i).isEqualTo(1);
+                joining.close();
+            }
+        } finally {
+            leaver.shutdownNow();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class RecordingSink implements DebateStreamHub.EventSink {
+        final List<String> names = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch hold;
+        volatile boolean sending;
+        volatile boolean fail;
+
+        @Override
+        public void send(String name, Object data) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            sending = true;
+            if (hold != null) {
+                try {
+                    hold.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            names.add(name);
+        }
+
+        @Override
+        public void complete() {
+        }
+    }
+}
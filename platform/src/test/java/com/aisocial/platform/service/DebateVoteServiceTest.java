@@ -12,8 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 
 import java.util.List;
@@ -37,13 +41,24 @@ class DebateVoteServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private DebateVoteTally tally;
     private DebateVoteService service;
     private Debate debate;
     private User voter;
 
     @BeforeEach
     void setUp() {
-        service = new DebateVoteService(debateVoteRepository, debateRepository);
+        tally = new DebateVoteTally(jdbcTemplate, transactionManager);
+        service = new DebateVoteService(debateVoteRepository, debateRepository, tally);
 
         // Create users for the debate
         User challenger = new User("challenger_" + UUID.randomUUID(), "Challenger", "bio");
@@ -68,6 +83,9 @@ class DebateVoteServiceTest {
         vote.setVote(VoteType.CHALLENGER);
 
         service.save(vote);
+        // Not counted until the vote row commits
+        assertThat(tally.current(debate).challenger()).isZero();
+        commit();
 
         List<DebateVote> byDebate = service.findByDebateId(debate.getId());
         assertThat(byDebate).hasSize(1);
@@ -81,7 +99,7 @@ class DebateVoteServiceTest {
 
         // Verify vote count was updated on the debate
         Debate updatedDebate = debateRepository.findById(debate.getId()).orElseThrow();
-        assertThat(updatedDebate.getVotesChallenger()).isEqualTo(1);
+        assertThat(tally.current(updatedDebate).challenger()).isEqualTo(1);
     }
 
     @Test
@@ -92,18 +110,67 @@ class DebateVoteServiceTest {
         vote.setVote(VoteType.DEFENDER);
 
         service.save(vote);
+        commit();
 
         // Verify vote count was incremented
         Debate afterSave = debateRepository.findById(debate.getId()).orElseThrow();
-        assertThat(afterSave.getVotesDefender()).isEqualTo(1);
+        assertThat(tally.current(afterSave).defender()).isEqualTo(1);
 
         service.delete(vote.getId());
+        commit();
 
         List<DebateVote> votes = service.findByDebateId(debate.getId());
         assertThat(votes).isEmpty();
 
         // Verify vote count was decremented
         Debate afterDelete = debateRepository.findById(debate.getId()).orElseThrow();
-        assertThat(afterDelete.getVotesDefender()).isEqualTo(0);
+        assertThat(tally.current(afterDelete).defender()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should write changed votes to the debate columns on flush")
+    void testFlushPersistsCounts() {
+        User second = userRepository.save(new User("voter_" + UUID.randomUUID(), "Voter", "bio"));
+        DebateVote first = new DebateVote();
+        first.setDebateId(debate.getId());
+        first.setUserId(voter.getId());
+        first.setVote(VoteType.CHALLENGER);
+        service.save(first);
+        DebateVote other = new DebateVote();
+        other.setDebateId(debate.getId());
+        other.setUserId(second.getId());
+        other.setVote(VoteType.CHALLENGER);
+        service.save(other);
+        service.update(other.getId(), VoteType.TIE);
+        commit();
+
+        tally.flush();
+        entityManager.clear();
+
+        Debate persisted = debateRepository.findById(debate.getId()).orElseThrow();
+        assertThat(persisted.getVotesChallenger()).isEqualTo(1);
+        assertThat(persisted.getVotesDefender()).isEqualTo(0);
+        assertThat(persisted.getVotesTie()).isEqualTo(1);
+        assertThat(tally.current(persisted).total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not count a vote whose transaction rolls back")
+    void testRolledBackVoteIsNotCounted() {
+        DebateVote vote = new DebateVote();
+        vote.setDebateId(debate.getId());
+        vote.setUserId(voter.getId());
+        vote.setVote(VoteType.CHALLENGER);
+        service.save(vote);
+
+        TestTransaction.end();
+
+        assertThat(tally.current(debate).challenger()).isZero();
+    }
+
+    private static void commit() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
     }
 }
@@ -32,6 +32,9 @@ class DebateVoteServiceUnitTest {
     @Mock
     private DebateRepository debateRepository;
 
+    @Mock
+    private DebateVoteTally debateVoteTally;
+
     @InjectMocks
     private DebateVoteService debateVoteService;
 
@@ -112,6 +115,7 @@ class DebateVoteServiceUnitTest {
 
             assertNotNull(result);
             verify(debateVoteRepository).save(vote);
+            verify(debateVoteTally).record(debate.getId(), null, VoteType.CHALLENGER);
         }
 
         @Test
@@ -131,6 +135,7 @@ class DebateVoteServiceUnitTest {
 
             assertEquals("Debate participants cannot vote on their own debate", exception.getMessage());
             verify(debateVoteRepository, never()).save(any());
+            verifyNoInteractions(debateVoteTally);
         }
 
         @Test
@@ -150,6 +155,7 @@ class DebateVoteServiceUnitTest {
 
             assertEquals("Debate participants cannot vote on their own debate", exception.getMessage());
             verify(debateVoteRepository, never()).save(any());
+            verifyNoInteractions(debateVoteTally);
         }
     }
 }
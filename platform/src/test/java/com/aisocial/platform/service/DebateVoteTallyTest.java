@@ -0,0 +1,169 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.DebateDTO;
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.VoteType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Debate Vote Tally Tests")
+class DebateVoteTallyTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DebateVoteTally tally;
+    private final UUID debateId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        tally = new DebateVoteTally(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should overlay pending votes and changes on the stored counts")
+    void shouldOverlayPendingVotes() {
+        tally.record(debateId, null, VoteType.CHALLENGER);
+        tally.record(debateId, null, VoteType.DEFENDER);
+        tally.record(debateId, VoteType.DEFENDER, VoteType.TIE);
+        tally.record(debateId, VoteType.CHALLENGER, null);
+        tally.record(debateId, VoteType.TIE, VoteType.TIE);
+
+        DebateDTO dto = new DebateDTO();
+        dto.setId(debateId);
+        dto.setVotesChallenger(5);
+        dto.setVotesDefender(3);
+        dto.setVotesTie(null);
+        tally.overlay(dto);
+
+        assertThat(dto.getVotesChallenger()).isEqualTo(5);
+        assertThat(dto.getVotesDefender()).isEqualTo(3);
+        assertThat(dto.getVotesTie()).isEqualTo(1);
+        assertThat(dto.getTotalVotes()).isEqualTo(9);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should flush concurrent votes as one aggregated update per column")
+    void shouldFlushAggregatedDeltas() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            VoteType vote = i % 4 == 0 ? VoteType.DEFENDER : VoteType.CHALLENGER;
+            pool.submit(() -> tally.record(debateId, null, vote));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        tally.flush();
+
+        ArgumentCaptor<List<Object[]>> challenger = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> defender = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE debates SET votes_challenger"), challenger.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE debates SET votes_defender"), defender.capture());
+        verifyNoMoreInteractions(jdbcTemplate);
+        assertThat(challenger.getValue()).hasSize(1);
+        assertThat(challenger.getValue().get(0)).containsExactly(750L, debateId.toString());
+        assertThat(defender.getValue().get(0)).containsExactly(250L, debateId.toString());
+    }
+
+    @Test
+    @DisplayName("Should hold a second flush until the one in flight has written")
+    void shouldSerializeFlushes() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenAnswer(invocation -> {
+                    writing.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return new int[]{1};
+                })
+                .thenReturn(new int[]{1});
+        tally.record(debateId, null, VoteType.CHALLENGER);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = pool.submit(tally::flush);
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            tally.record(debateId, null, VoteType.DEFENDER);
+            Future<?> second = pool.submit(tally::flush);
+
+            Thread.sleep(100);
+            assertThat(second).isNotDone();
+            verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE debates SET votes_defender"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep votes for the next flush when a flush fails")
+    void shouldRestoreDeltasOnFailure() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database is locked"));
+        tally.record(debateId, null, VoteType.TIE);
+
+        tally.flush();
+
+        DebateDTO dto = new DebateDTO();
+        dto.setId(debateId);
+        assertThat(tally.overlay(dto).getVotesTie()).isEqualTo(1);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE debates SET votes_tie = COALESCE(votes_tie, 0) + ? WHERE id = ?"),
+                anyList());
+    }
+
+    @Test
+    @DisplayName("Should apply a vote change on commit and report the counts it will produce")
+    void shouldRecordAfterCommit() {
+        Debate debate = new Debate();
+        debate.setId(debateId);
+        debate.setVotesChallenger(2);
+        debate.setVotesDefender(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            DebateVoteTally.Counts announced = tally.record(debate, VoteType.DEFENDER, VoteType.CHALLENGER);
+
+            assertThat(announced).isEqualTo(new DebateVoteTally.Counts(3, 0, 0));
+            assertThat(tally.current(debate)).isEqualTo(new DebateVoteTally.Counts(2, 1, 0));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(tally.current(debate)).isEqualTo(new DebateVoteTally.Counts(3, 0, 0));
+    }
+}
@@ -0,0 +1,270 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.Debate;
+import com.aisocial.platform.entity.DebateStatus;
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.entity.VoteType;
+import com.aisocial.platform.repository.DebateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Debate Voting Closer Tests")
+class DebateVotingCloserTest {
+
+    @Mock
+    private DebateRepository debateRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DebateVoteTally voteTally;
+
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private final Map<UUID, Debate> debates = new HashMap<>();
+    private DebateVotingCloser closer;
+    private User challenger;
+    private User defender;
+
+    @BeforeEach
+    void setUp() {
+        voteTally = new DebateVoteTally(jdbcTemplate, transactionManager);
+        closer = new DebateVotingCloser(debateRepository, eventPublisher, voteTally, transactionManager, true, 1000, 64, 4, 2);
+        closer.setClock(clock);
+        challenger = user("alice");
+        defender = user("bob");
+    }
+
+    @Test
+    @DisplayName("Should close a debate when voting ends and credit the winner")
+    void shouldSettleWinner() {
+        Debate debate = votingDebate(Duration.ofMinutes(5), 7, 3);
+        stubFindAllById();
+        closer.schedule(debate.getId(), debate.getVotingEndsAt());
+
+        closer.tick();
+        assertThat(debate.getStatus()).isEqualTo(DebateStatus.VOTING);
+        verify(debateRepository, never()).findAllById(anyIterable());
+
+        clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+        closer.tick();
+
+        assertThat(debate.getStatus()).isEqualTo(DebateStatus.COMPLETED);
+        assertThat(debate.getWinner()).isSameAs(challenger);
+        assertThat(challenger.getDebatesWon()).isEqualTo(1);
+        assertThat(defender.getDebatesLost()).isEqualTo(1);
+        assertThat(closer.stats().getClosed()).isEqualTo(1);
+        assertThat(closer.stats().getScheduled()).isZero();
+        verify(eventPublisher).publishEvent(argThat((DebateUpdateEvent event) ->
+                event.debateId().equals(debate.getId()) && event.type().equals("status")
+                        && challenger.getId().equals(event.data().get("winnerId"))));
+    }
+
+    @Test
+    @DisplayName("Should leave the winner empty on a draw")
+    void shouldSettleDraw() {
+        Debate debate = votingDebate(Duration.ofSeconds(-1), 4, 4);
+        stubFindAllById();
+        closer.schedule(debate.getId(), debate.getVotingEndsAt());
+
+        closer.tick();
+
+        assertThat(debate.getStatus()).isEqualTo(DebateStatus.COMPLETED);
+        assertThat(debate.getWinner()).isNull();
+        assertThat(challenger.getDebatesWon()).isZero();
+        assertThat(defender.getDebatesLost()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count votes not yet written when picking the winner")
+    void shouldSettleOnLiveTally() {
+        Debate debate = votingDebate(Duration.ofSeconds(-1), 1, 2);
+        stubFindAllById();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database is locked"));
+        voteTally.record(debate.getId(), null, VoteType.CHALLENGER);
+        voteTally.record(debate.getId(), null, VoteType.CHALLENGER);
+        closer.schedule(debate.getId(), debate.getVotingEndsAt());
+
+        closer.tick();
+
+        assertThat(debate.getWinner()).isSameAs(challenger);
+        assertThat(defender.getDebatesLost()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild deadlines at startup and close overdue debates in batches")
+    void shouldRebuildAndCloseInBatches() {
+        List<DebateRepository.VotingDeadline> open = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Debate debate = votingDebate(Duration.ofHours(-i - 1), 0, 2);
+            open.add(deadline(debate));
+        }
+        Debate later = votingDebate(Duration.ofHours(3), 1, 0);
+        open.add(deadline(later));
+        when(debateRepository.findVotingDeadlines()).thenReturn(open);
+        stubFindAllById();
+
+        closer.rebuild();
+        closer.tick();
+
+        // Batch size 2: five overdue debates take three transactions
+        verify(debateRepository, times(3)).findAllById(anyIterable());
+        assertThat(defender.getDebatesWon()).isEqualTo(5);
+        assertThat(later.getStatus()).isEqualTo(DebateStatus.VOTING);
+        assertThat(closer.stats().getScheduled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should schedule a debate when its last round completes")
+    void shouldScheduleFinishedDebates() {
+        Debate debate = votingDebate(Duration.ofSeconds(30), 1, 2);
+        when(debateRepository.findById(debate.getId())).thenReturn(Optional.of(debate));
+
+        closer.onRoundCompleted(new DebateRoundCompletedEvent(debate.getId(), 2, false));
+        closer.onRoundCompleted(new DebateRoundCompletedEvent(debate.getId(), 3, true));
+
+        verify(debateRepository, times(1)).findById(debate.getId());
+        assertThat(closer.stats().getScheduled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not touch debates that already left VOTING")
+    void shouldSkipClosedDebates() {
+        Debate debate = votingDebate(Duration.ofSeconds(-1), 5, 0);
+        debate.setStatus(DebateStatus.COMPLETED);
+        stubFindAllById();
+        closer.schedule(debate.getId(), debate.getVotingEndsAt());
+
+        closer.tick();
+
+        assertThat(debate.getWinner()).isNull();
+        assertThat(challenger.getDebatesWon()).isZero();
+        assertThat(closer.stats().getScheduled()).isZero();
+        assertThat(closer.stats().getClosed()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch on the next tick")
+    void shouldRetryFailedBatch() {
+        Debate debate = votingDebate(Duration.ofSeconds(-1), 0, 1);
+        when(debateRepository.findAllById(anyIterable()))
+                .thenThrow(new DataAccessResourceFailureException("database is locked"))
+                .thenAnswer(invocation -> found(invocation.getArgument(0)));
+        closer.schedule(debate.getId(), debate.getVotingEndsAt());
+
+        closer.tick();
+        assertThat(debate.getStatus()).isEqualTo(DebateStatus.VOTING);
+        assertThat(closer.stats().getFailedBatches()).isEqualTo(1);
+        assertThat(closer.stats().getDue()).isEqualTo(1);
+
+        closer.tick();
+        assertThat(debate.getStatus()).isEqualTo(DebateStatus.COMPLETED);
+        assertThat(defender.getDebatesWon()).isEqualTo(1);
+    }
+
+    private void stubFindAllById() {
+        when(debateRepository.findAllById(anyIterable()))
+                .thenAnswer(invocation -> found(invocation.getArgument(0)));
+    }
+
+    private List<Debate> found(Iterable<UUID> ids) {
+        List<Debate> result = new ArrayList<>();
+        ids.forEach(id -> Optional.ofNullable(debates.get(id)).ifPresent(result::add));
+        return result;
+    }
+
+    private Debate votingDebate(Duration endsIn, int votesChallenger, int votesDefender) {
+        Debate debate = new Debate();
+        debate.setId(UUID.randomUUID());
+        debate.setChallenger(challenger);
+        debate.setDefender(defender);
+        debate.setStatus(DebateStatus.VOTING);
+        debate.setVotingEndsAt(clock.instant().plus(endsIn));
+        debate.setVotesChallenger(votesChallenger);
+        debate.setVotesDefender(votesDefender);
+        debates.put(debate.getId(), debate);
+        return debate;
+    }
+
+    private static DebateRepository.VotingDeadline deadline(Debate debate) {
+        return new DebateRepository.VotingDeadline() {
+            @Override
+            public UUID getId() {
+                return debate.getId();
+            }
+
+            @Override
+            public Instant getVotingEndsAt() {
+                return debate.getVotingEndsAt();
+            }
+        };
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        return user;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
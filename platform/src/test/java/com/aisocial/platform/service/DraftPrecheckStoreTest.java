@@ -0,0 +1,70 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Draft Pre-check Store Tests")
+class DraftPrecheckStoreTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private DraftPrecheckStore store;
+    private FactCheckResultDTO verified;
+
+    @BeforeEach
+    void setUp() {
+        store = new DraftPrecheckStore(30, 2);
+        store.setClock(Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+        verified = new FactCheckResultDTO();
+        verified.setVerdict("VERIFIED");
+    }
+
+    @Test
+    @DisplayName("Should hand back the verdict for the same user and text")
+    void shouldRedeemMatchingDraft() {
+        String token = store.issue(userId, "Water is wet", verified);
+
+        assertThat(token).isNotNull();
+        assertThat(store.redeem(token, userId, "Water is wet")).containsSame(verified);
+    }
+
+    @Test
+    @DisplayName("Should refuse a token for another user or edited text")
+    void shouldRejectMismatch() {
+        String token = store.issue(userId, "Water is wet", verified);
+
+        assertThat(store.redeem(token, UUID.randomUUID(), "Water is wet")).isEmpty();
+        assertThat(store.redeem(token, userId, "Water is dry")).isEmpty();
+        assertThat(store.redeem("unknown", userId, "Water is wet")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not issue tokens for error results")
+    void shouldNotIssueForErrors() {
+        assertThat(store.issue(userId, "text", FactCheckResultDTO.error("AI down"))).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire tokens after the TTL and make room when full")
+    void shouldExpireTokens() {
+        String token = store.issue(userId, "first", verified);
+        store.issue(userId, "second", verified);
+        assertThat(store.issue(userId, "third", verified)).isNull();
+
+        store.setClock(Clock.fixed(Instant.parse("2026-01-01T00:00:00Z").plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+        assertThat(store.issue(userId, "third", verified)).isNotNull();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.redeem(token, userId, "first")).isEmpty();
+    }
+}
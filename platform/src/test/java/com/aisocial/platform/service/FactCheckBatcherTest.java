@@ -0,0 +1,79 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Fact-Check Batcher Tests")
+class FactCheckBatcherTest {
+
+    @Mock
+    private AIFactCheckService aiFactCheckService;
+
+    private FactCheckBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    private static FactCheckResultDTO verdict(String verdict) {
+        FactCheckResultDTO result = new FactCheckResultDTO();
+        result.setVerdict(verdict);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should send a full batch as one call without waiting for the window")
+    void shouldFlushFullBatch() throws Exception {
+        batcher = new FactCheckBatcher(aiFactCheckService, 2, 60_000, 1);
+        when(aiFactCheckService.checkClaims(List.of("a", "b")))
+                .thenReturn(List.of(verdict("VERIFIED"), verdict("FALSE")));
+
+        CompletableFuture<FactCheckResultDTO> first = batcher.submit("a");
+        CompletableFuture<FactCheckResultDTO> second = batcher.submit("b");
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getVerdict()).isEqualTo("VERIFIED");
+        assertThat(second.get(5, TimeUnit.SECONDS).getVerdict()).isEqualTo("FALSE");
+        verify(aiFactCheckService, times(1)).checkClaims(anyList());
+    }
+
+    @Test
+    @DisplayName("Should send a partial batch when the window closes")
+    void shouldFlushAfterWindow() throws Exception {
+        batcher = new FactCheckBatcher(aiFactCheckService, 8, 20, 1);
+        when(aiFactCheckService.checkClaims(List.of("only")))
+                .thenReturn(List.of(verdict("LIKELY_TRUE")));
+
+        assertThat(batcher.submit("only").get(5, TimeUnit.SECONDS).getVerdict()).isEqualTo("LIKELY_TRUE");
+    }
+
+    @Test
+    @DisplayName("Should complete every claim with an error when the batch throws")
+    void shouldReportBatchFailure() throws Exception {
+        batcher = new FactCheckBatcher(aiFactCheckService, 1, 60_000, 1);
+        when(aiFactCheckService.checkClaims(anyList())).thenThrow(new IllegalStateException("boom"));
+
+        FactCheckResultDTO result = batcher.submit("claim").get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getVerdict()).isEqualTo("ERROR");
+        assertThat(result.getError()).contains("boom");
+    }
+}
@@ -0,0 +1,104 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Fact-Check Cascade Tests")
+class FactCheckCascadeTest {
+
+    private static final String FAST = "fast-model";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StubChatModel model;
+    private FactCheckCascade cascade;
+
+    @BeforeEach
+    void setUp() {
+        model = new StubChatModel();
+        model.reply = prompt -> verdict("VERIFIED", 97);
+        AiGateway gateway = new AiGateway(ChatClient.builder(model), 4, 4, 0, 8, 1, 32, 10_000, 5, 1000);
+        cascade = new FactCheckCascade(gateway, HedgedCallerTest.direct(), true, FAST, List.of("unverifiable"), 80, 20_000, 5_000, 4.0, 15.0);
+    }
+
+    private static String verdict(String verdict, int confidence) {
+        return "{\"verdict\": \"%s\", \"confidence\": %d, \"summary\": \"s\"}".formatted(verdict, confidence);
+    }
+
+    private FactCheckResultDTO parse(String response) {
+        try {
+            return objectMapper.readValue(response, FactCheckResultDTO.class);
+        } catch (Exception e) {
+            return FactCheckResultDTO.error("unparseable");
+        }
+    }
+
+    private FactCheckCascade.TierStats stats(FactCheckCascade.Tier tier) {
+        return cascade.stats().stream().filter(s -> s.getTier() == tier).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should keep a confident opinion verdict from the fast tier")
+    void shouldAnswerOpinionOnFastTier() {
+        model.replyByModel.put(FAST, prompt -> verdict("UNVERIFIABLE", 90));
+
+        FactCheckResultDTO result = cascade.check("pineapple belongs on pizza", this::parse);
+
+        assertThat(result.getVerdict()).isEqualTo("UNVERIFIABLE");
+        assertThat(model.models).containsExactly(FAST);
+        assertThat(stats(FactCheckCascade.Tier.FAST).getAnswered()).isEqualTo(1);
+        assertThat(stats(FactCheckCascade.Tier.MAIN).getCalls()).isZero();
+        assertThat(stats(FactCheckCascade.Tier.FAST).getEstimatedCost()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should escalate factual, low-confidence and unparseable fast answers")
+    void shouldEscalate() {
+        for (String fastReply : List.of(verdict("FALSE", 99), verdict("UNVERIFIABLE", 50), "garbage")) {
+            model.replyByModel.put(FAST, prompt -> fastReply);
+
+            FactCheckResultDTO result = cascade.check("claim", this::parse);
+
+            assertThat(result.getVerdict()).isEqualTo("VERIFIED");
+        }
+
+        assertThat(model.models).containsExactly(FAST, "default", FAST, "default", FAST, "default");
+        assertThat(stats(FactCheckCascade.Tier.FAST).getEscalated()).isEqualTo(3);
+        assertThat(stats(FactCheckCascade.Tier.MAIN).getAnswered()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should escalate when the fast tier fails and surface main tier failures")
+    void shouldHandleFailures() {
+        model.replyByModel.put(FAST, prompt -> {
+            throw new IllegalStateException("fast down");
+        });
+
+        assertThat(cascade.check("claim", this::parse).getVerdict()).isEqualTo("VERIFIED");
+        assertThat(stats(FactCheckCascade.Tier.FAST).getFailures()).isEqualTo(1);
+
+        model.failure = new IllegalStateException("all down");
+        assertThatThrownBy(() -> cascade.check("claim", this::parse)).isInstanceOf(IllegalStateException.class);
+        assertThat(stats(FactCheckCascade.Tier.MAIN).getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should go straight to the main model when no fast model is configured")
+    void shouldSkipFastTierWhenDisabled() {
+        AiGateway gateway = new AiGateway(ChatClient.builder(model), 4, 4, 0, 8, 1, 32, 10_000, 5, 1000);
+        FactCheckCascade single = new FactCheckCascade(gateway, HedgedCallerTest.direct(), true, "", List.of("UNVERIFIABLE"), 80, 20_000, 5_000, 4.0, 15.0);
+
+        single.check("claim", this::parse);
+
+        assertThat(model.models).containsExactly("default");
+        assertThat(single.stats()).extracting(FactCheckCascade.TierStats::getCalls).containsExactly(0L, 1L);
+    }
+}
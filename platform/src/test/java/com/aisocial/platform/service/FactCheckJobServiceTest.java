@@ -0,0 +1,149 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckJobDTO;
+import com.aisocial.platform.dto.FactCheckJobDTO.Status;
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.repository.DebateArgumentRepository;
+import com.aisocial.platform.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Fact-Check Job Service Tests")
+class FactCheckJobServiceTest {
+
+    @Mock
+    private AIFactCheckService aiFactCheckService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private DebateArgumentRepository debateArgumentRepository;
+
+    private FactCheckJobService jobService;
+    private final UUID postId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jobService = new FactCheckJobService(aiFactCheckService, postRepository, debateArgumentRepository, 1, 1, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return immediately and complete the job in the background")
+    void shouldCompleteInBackground() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FactCheckResultDTO result = new FactCheckResultDTO();
+        result.setVerdict("VERIFIED");
+        when(postRepository.existsById(postId)).thenReturn(true);
+        when(aiFactCheckService.factCheckPost(postId, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return result;
+        });
+
+        FactCheckJobDTO submitted = jobService.submitPost(postId, null);
+        assertThat(submitted.getStatus()).isIn(Status.QUEUED, Status.RUNNING);
+        assertThat(submitted.getTargetType()).isEqualTo(FactCheckJobDTO.TargetType.POST);
+
+        release.countDown();
+        FactCheckJobDTO finished = awaitFinished(submitted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(finished.getResult().getVerdict()).isEqualTo("VERIFIED");
+        assertThat(finished.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed when the check throws")
+    void shouldRecordFailure() throws Exception {
+        when(postRepository.existsById(postId)).thenReturn(true);
+        when(aiFactCheckService.factCheckPost(postId, null)).thenThrow(new IllegalArgumentException("Post not found"));
+
+        FactCheckJobDTO finished = awaitFinished(jobService.submitPost(postId, null).getJobId());
+        assertThat(finished.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(finished.getError()).isEqualTo("Post not found");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown targets before queueing")
+    void shouldRejectUnknownTargets() {
+        UUID argumentId = UUID.randomUUID();
+        when(debateArgumentRepository.existsById(argumentId)).thenReturn(false);
+
+        assertThatThrownBy(() -> jobService.submitArgument(argumentId, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(aiFactCheckService);
+    }
+
+    @Test
+    @DisplayName("Should reject jobs once the worker and queue are full")
+    void shouldRejectWhenQueueFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.existsById(any())).thenReturn(true);
+        when(aiFactCheckService.factCheckPost(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new FactCheckResultDTO();
+        });
+
+        try {
+            jobService.submitPost(UUID.randomUUID(), null);   // running
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            jobService.submitPost(UUID.randomUUID(), null);   // queued
+            assertThatThrownBy(() -> jobService.submitPost(UUID.randomUUID(), null))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand concurrent submissions for one post the same job")
+    void shouldJoinActiveJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.existsById(postId)).thenReturn(true);
+        when(aiFactCheckService.factCheckPost(postId, null)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new FactCheckResultDTO();
+        });
+
+        FactCheckJobDTO first = jobService.submitPost(postId, null);
+        FactCheckJobDTO second = jobService.submitPost(postId, null);
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+
+        release.countDown();
+        awaitFinished(first.getJobId());
+        verify(aiFactCheckService, times(1)).factCheckPost(postId, null);
+    }
+
+    private FactCheckJobDTO awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            FactCheckJobDTO job = jobService.getJob(jobId).orElseThrow();
+            if (job.getStatus() == Status.COMPLETED || job.getStatus() == Status.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job did not finish: " + jobId);
+    }
+}
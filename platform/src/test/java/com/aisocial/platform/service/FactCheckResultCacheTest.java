@@ -0,0 +1,138 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.entity.FactCheckCacheEntry;
+import com.aisocial.platform.repository.FactCheckCacheRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Fact-Check Result Cache Tests")
+class FactCheckResultCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private FactCheckCacheRepository repository;
+
+    private FactCheckResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FactCheckResultCache(repository, new ObjectMapper(), 2, 168, 168, 72, 24, 6);
+        cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should share a key across case and whitespace differences")
+    void shouldNormalizeBeforeHashing() {
+        assertThat(FactCheckResultCache.hash("The  Earth is\nround "))
+                .isEqualTo(FactCheckResultCache.hash("the earth is round"))
+                .hasSize(64);
+        assertThat(FactCheckResultCache.hash("the earth is flat"))
+                .isNotEqualTo(FactCheckResultCache.hash("the earth is round"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated claims from memory")
+    void shouldHitMemory() {
+        cache.put("Water boils at 100C", result("VERIFIED"));
+
+        Optional<FactCheckResultDTO> hit = cache.get("water boils at 100c");
+
+        assertThat(hit).map(FactCheckResultDTO::getVerdict).contains("VERIFIED");
+        assertThat(cache.stats().getMemoryHits()).isEqualTo(1);
+        verify(repository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should persist with a verdict-specific TTL")
+    void shouldPersistWithVerdictTtl() {
+        cache.put("claim a", result("FALSE"));
+        cache.put("claim b", result("DISPUTED"));
+
+        ArgumentCaptor<FactCheckCacheEntry> saved = ArgumentCaptor.forClass(FactCheckCacheEntry.class);
+        verify(repository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues().get(0).getExpiresAt()).isEqualTo(NOW.plus(Duration.ofHours(168)));
+        assertThat(saved.getAllValues().get(1).getExpiresAt()).isEqualTo(NOW.plus(Duration.ofHours(6)));
+    }
+
+    @Test
+    @DisplayName("Should not cache error results")
+    void shouldSkipErrors() {
+        cache.put("claim", FactCheckResultDTO.error("AI service unavailable"));
+
+        verifyNoInteractions(repository);
+        assertThat(cache.stats().getWrites()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the persistent table and count misses")
+    void shouldReadThroughToStore() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(result("LIKELY_TRUE"));
+        when(repository.findById(FactCheckResultCache.hash("stored claim")))
+                .thenReturn(Optional.of(new FactCheckCacheEntry("k", "LIKELY_TRUE", json, NOW, NOW.plusSeconds(60))));
+        when(repository.findById(FactCheckResultCache.hash("unknown claim"))).thenReturn(Optional.empty());
+
+        assertThat(cache.get("stored claim")).map(FactCheckResultDTO::getVerdict).contains("LIKELY_TRUE");
+        assertThat(cache.get("stored claim")).isPresent();
+        assertThat(cache.get("unknown claim")).isEmpty();
+
+        FactCheckResultCache.Stats stats = cache.stats();
+        assertThat(stats.getStoreHits()).isEqualTo(1);
+        assertThat(stats.getMemoryHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        verify(repository, times(1)).findById(FactCheckResultCache.hash("stored claim"));
+    }
+
+    @Test
+    @DisplayName("Should treat expired entries as misses")
+    void shouldExpireEntries() {
+        cache.put("claim", result("DISPUTED"));
+        cache.setClock(Clock.fixed(NOW.plus(Duration.ofHours(7)), ZoneOffset.UTC));
+        when(repository.findById(anyString())).thenReturn(Optional.of(
+                new FactCheckCacheEntry("k", "DISPUTED", "{}", NOW, NOW.plus(Duration.ofHours(6)))));
+
+        assertThat(cache.get("claim")).isEmpty();
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry from memory")
+    void shouldEvictLeastRecentlyUsed() {
+        cache.put("one", result("VERIFIED"));
+        cache.put("two", result("VERIFIED"));
+        cache.get("one");
+        cache.put("three", result("VERIFIED"));
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        assertThat(cache.get("two")).isEmpty();
+        assertThat(cache.get("one")).isPresent();
+        assertThat(cache.stats().getMemoryEntries()).isEqualTo(2);
+    }
+
+    private static FactCheckResultDTO result(String verdict) {
+        FactCheckResultDTO result = new FactCheckResultDTO();
+        result.setVerdict(verdict);
+        result.setConfidence(90);
+        result.setSummary("summary");
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Hedged Caller Tests")
+class HedgedCallerTest {
+
+    private HedgedCaller caller;
+
+    /**
+     * A caller that makes exactly one attempt, for tests that count model calls.
+     */
+    static HedgedCaller direct() {
+        return new HedgedCaller(false, 95, 3000, 250, 20, 200, 1, 0, 0, 4, 16);
+    }
+
+    private static HedgedCaller hedging(long initialHedgeDelayMs, int maxAttempts) {
+        return new HedgedCaller(true, 95, initialHedgeDelayMs, 0, 20, 200, maxAttempts, 10, 20, 4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (caller != null) {
+            caller.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer from a hedged attempt when the first one is slow")
+    void shouldHedgeSlowAttempt() {
+        caller = hedging(50, 1);
+        CountDownLatch firstHeld = new CountDownLatch(1);
+        AtomicInteger attempt = new AtomicInteger();
+
+        String response = caller.call("MAIN", Deadline.after(Duration.ofSeconds(5)), () -> {
+            if (attempt.incrementAndGet() == 1) {
+                await(firstHeld);
+                return "slow";
+            }
+            return "hedged";
+        });
+        firstHeld.countDown();
+
+        assertThat(response).isEqualTo("hedged");
+        assertThat(caller.stats().getHedges()).isEqualTo(1);
+        assertThat(caller.stats().getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed attempt after backoff")
+    void shouldRetryFailure() {
+        caller = hedging(10_000, 3);
+        AtomicInteger attempt = new AtomicInteger();
+
+        String response = caller.call("MAIN", Deadline.after(Duration.ofSeconds(5)), () -> {
+            if (attempt.incrementAndGet() < 3) {
+                throw new IllegalStateException("flaky");
+            }
+            return "third time";
+        });
+
+        assertThat(response).isEqualTo("third time");
+        assertThat(caller.stats().getRetries()).isEqualTo(2);
+        assertThat(caller.stats().getHedges()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should surface the last failure once attempts are used up")
+    void shouldGiveUpAfterMaxAttempts() {
+        caller = hedging(10_000, 2);
+        AtomicInteger attempt = new AtomicInteger();
+
+        assertThatThrownBy(() -> caller.call("MAIN", Deadline.after(Duration.ofSeconds(5)), () -> {
+            throw new IllegalStateException("failure " + attempt.incrementAndGet());
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failure 2");
+    }
+
+    @Test
+    @DisplayName("Should give up at the deadline instead of waiting for a stuck attempt")
+    void shouldBoundByDeadline() {
+        caller = hedging(10_000, 3);
+        CountDownLatch held = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> caller.call("MAIN", Deadline.after(Duration.ofMillis(100)), () -> {
+            await(held);
+            return "too late";
+        })).isInstanceOf(AiUnavailableException.class);
+        held.countDown();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+        assertThat(caller.stats().getDeadlineExceeded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report the observed latency percentile per key")
+    void shouldTrackLatencyPerKey() {
+        caller = direct();
+        for (int i = 0; i < 5; i++) {
+            caller.call("FAST", Deadline.after(Duration.ofSeconds(5)), () -> "ok");
+        }
+
+        assertThat(caller.stats().getHedgeLatencyMs()).containsOnlyKeys("FAST");
+        assertThat(caller.stats().getCalls()).isEqualTo(5);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JSON Fragment Scanner Tests")
+class JsonFragmentScannerTest {
+
+    private static List<String> feedInChunks(JsonFragmentScanner scanner, String json, int chunkSize) {
+        List<String> fragments = new ArrayList<>();
+        for (int i = 0; i < json.length(); i += chunkSize) {
+            fragments.addAll(scanner.feed(json.substring(i, Math.min(json.length(), i + chunkSize))));
+        }
+        return fragments;
+    }
+
+    @Test
+    @DisplayName("Should return each array element object as soon as it closes")
+    void shouldReturnCompletedObjects() {
+        JsonFragmentScanner scanner = new JsonFragmentScanner(3);
+
+        assertThat(scanner.feed("{\"suggestions\": [{\"text\": \"one\", ")).isEmpty();
+        assertThat(scanner.feed("\"tone\": \"calm\"}, {\"te")).containsExactly("{\"text\": \"one\", \"tone\": \"calm\"}");
+        assertThat(scanner.feed("xt\": \"two\"}]}")).containsExactly("{\"text\": \"two\"}");
+    }
+
+    @Test
+    @DisplayName("Should ignore brackets and escaped quotes inside strings")
+    void shouldIgnoreBracketsInStrings() {
+        String json = "```json\n{\"suggestions\": [{\"text\": \"a } b ] \\\" { c\", \"tone\": \"x\"}]}\n```";
+
+        List<String> fragments = feedInChunks(new JsonFragmentScanner(3), json, 3);
+
+        assertThat(fragments).containsExactly("{\"text\": \"a } b ] \\\" { c\", \"tone\": \"x\"}");
+    }
+
+    @Test
+    @DisplayName("Should skip objects at other depths")
+    void shouldSkipOtherDepths() {
+        String json = "{\"verdict\": \"FALSE\", \"meta\": {\"a\": 1}, \"sources\": [{\"title\": \"t\"}]}";
+
+        assertThat(feedInChunks(new JsonFragmentScanner(3), json, 5)).containsExactly("{\"title\": \"t\"}");
+    }
+}
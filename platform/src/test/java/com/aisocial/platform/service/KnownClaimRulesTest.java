@@ -0,0 +1,117 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Known-Claim Rules Tests")
+class KnownClaimRulesTest {
+
+    private static final String RULES = """
+            {"rules": [
+              {"id": "flat-earth", "patterns": ["earth is flat", "flat earth"], "verdict": "FALSE", "confidence": 95,
+               "summary": "Debunked"},
+              {"id": "opinion", "patterns": ["best", "i think"], "verdict": "UNVERIFIABLE", "confidence": 60}
+            ]}
+            """;
+
+    @TempDir
+    Path dir;
+
+    private KnownClaimRules rules(String json) throws Exception {
+        Path file = dir.resolve("rules.json");
+        Files.writeString(file, json);
+        return new KnownClaimRules(new DefaultResourceLoader(), new ObjectMapper(), "file:" + file, 90, 0.5);
+    }
+
+    @Test
+    @DisplayName("Should answer a known claim regardless of case and punctuation")
+    void shouldMatchKnownClaim() throws Exception {
+        KnownClaimRules rules = rules(RULES);
+
+        FactCheckResultDTO result = rules.authoritativeMatch("Wake up: the EARTH is... flat!").orElseThrow();
+
+        assertThat(result.getVerdict()).isEqualTo("FALSE");
+        assertThat(result.getConfidence()).isEqualTo(95);
+        assertThat(result.getSources()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match whole words only")
+    void shouldRespectWordBoundaries() throws Exception {
+        KnownClaimRules rules = rules(RULES);
+
+        assertThat(rules.anyMatch("She bestowed the award")).isEmpty();
+        assertThat(rules.anyMatch("This is the best pizza")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should only short-circuit on confident rules and prefer the most confident match")
+    void shouldPreferConfidentRules() throws Exception {
+        KnownClaimRules rules = rules(RULES);
+
+        assertThat(rules.authoritativeMatch("I think pizza is great")).isEmpty();
+        assertThat(rules.anyMatch("I think pizza is great")).map(FactCheckResultDTO::getVerdict).contains("UNVERIFIABLE");
+        assertThat(rules.authoritativeMatch("I think the flat earth is real"))
+                .map(FactCheckResultDTO::getVerdict).contains("FALSE");
+    }
+
+    @Test
+    @DisplayName("Should not settle claims that reject, question or only mention a known claim")
+    void shouldOnlySettleAssertions() throws Exception {
+        KnownClaimRules rules = rules(RULES);
+
+        assertThat(rules.authoritativeMatch("Flat earth theory has been debunked")).isEmpty();
+        assertThat(rules.authoritativeMatch("The earth is flat? No, it is not")).isEmpty();
+        assertThat(rules.authoritativeMatch("Is the earth flat?")).isEmpty();
+        assertThat(rules.authoritativeMatch("My uncle keeps sending me flat earth videos from obscure channels")).isEmpty();
+        // Still offered where any plausible answer will do
+        assertThat(rules.anyMatch("Flat earth theory has been debunked")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should count hits per rule")
+    void shouldCountHits() throws Exception {
+        KnownClaimRules rules = rules(RULES);
+
+        rules.authoritativeMatch("the earth is flat");
+        rules.authoritativeMatch("flat earth society");
+        rules.authoritativeMatch("nothing to see here");
+
+        assertThat(rules.stats()).extracting(KnownClaimRules.RuleStats::getId, KnownClaimRules.RuleStats::getHits)
+                .containsExactly(tuple("flat-earth", 2L),
+                        tuple("opinion", 0L));
+    }
+
+    @Test
+    @DisplayName("Should pick up a changed file and keep the old rules if the new file is broken")
+    void shouldHotReload() throws Exception {
+        KnownClaimRules rules = rules(RULES);
+        Path file = dir.resolve("rules.json");
+
+        Files.writeString(file, """
+                {"rules": [{"id": "moon", "patterns": ["moon landing was fake"], "verdict": "FALSE", "confidence": 95}]}
+                """);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        rules.reloadIfChanged();
+
+        assertThat(rules.authoritativeMatch("The moon landing was fake")).isPresent();
+        assertThat(rules.authoritativeMatch("the earth is flat")).isEmpty();
+
+        Files.writeString(file, "{ not json");
+        assertThat(rules.reload()).isFalse();
+        assertThat(rules.stats()).extracting(KnownClaimRules.RuleStats::getId).isEqualTo(List.of("moon"));
+    }
+}
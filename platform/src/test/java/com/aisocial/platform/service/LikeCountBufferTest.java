@@ -0,0 +1,137 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Like Count Buffer Tests")
+class LikeCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LikeCountBuffer buffer;
+    private final UUID postId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LikeCountBuffer(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should overlay pending deltas on the stored count")
+    void shouldOverlayPendingDeltas() {
+        buffer.increment(postId);
+        buffer.increment(postId);
+        buffer.decrement(postId);
+
+        assertThat(buffer.currentCount(postId, 10)).isEqualTo(11);
+        assertThat(buffer.currentCount(UUID.randomUUID(), 3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not report a negative count")
+    void shouldClampAtZero() {
+        buffer.decrement(postId);
+
+        assertThat(buffer.currentCount(postId, 0)).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should flush concurrent deltas as one aggregated batch")
+    void shouldFlushAggregatedDeltas() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.submit(() -> buffer.increment(postId));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).hasSize(1);
+        assertThat(batch.getValue().get(0)).containsExactly(1000L, postId.toString());
+        assertThat(buffer.currentCount(postId, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should keep deltas for the next flush when a flush fails")
+    void shouldRestoreDeltasOnFailure() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database is locked"));
+        buffer.increment(postId);
+
+        buffer.flush();
+
+        assertThat(buffer.currentCount(postId, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count a like only when its transaction commits")
+    void shouldApplyDeltasAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.increment(postId);
+            assertThat(buffer.currentCount(postId, 0)).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(buffer.currentCount(postId, 0)).isEqualTo(1);
+
+        // Rolled back: the synchronization never fires
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.increment(postId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(buffer.currentCount(postId, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop tracking posts that have nothing pending")
+    void shouldEvictIdleKeys() {
+        DeltaCounter<UUID> counter = new DeltaCounter<>();
+        counter.add(postId, 1);
+        counter.add(UUID.randomUUID(), 1);
+
+        assertThat(counter.drain()).hasSize(2);
+        assertThat(counter.size()).isEqualTo(2);
+
+        counter.add(postId, 1);
+        assertThat(counter.drain()).containsEntry(postId, 1L).hasSize(1);
+        assertThat(counter.size()).isEqualTo(1);
+
+        counter.add(postId, 2);
+        assertThat(counter.pending(postId)).isEqualTo(2);
+    }
+}
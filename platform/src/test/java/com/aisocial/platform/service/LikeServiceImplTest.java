@@ -25,6 +25,7 @@ class LikeServiceImplTest {
     private LikeRepository likeRepository;
     private UserRepository userRepository;
     private PostRepository postRepository;
+    private LikeCountBuffer likeCountBuffer;
     private LikeService likeService;
 
     private User user;
@@ -35,8 +36,9 @@ class LikeServiceImplTest {
         likeRepository = mock(LikeRepository.class);
         userRepository = mock(UserRepository.class);
         postRepository = mock(PostRepository.class);
+        likeCountBuffer = mock(LikeCountBuffer.class);
 
-        likeService = new LikeServiceImpl(likeRepository, userRepository, postRepository);
+        likeService = new LikeServiceImpl(likeRepository, userRepository, postRepository, likeCountBuffer);
 
         user = new User("alice", "Alice", "");
         user.setId(UUID.randomUUID());
@@ -56,10 +58,10 @@ class LikeServiceImplTest {
 
         assertThat(like.getUser()).isEqualTo(user);
         assertThat(like.getPost()).isEqualTo(post);
-        assertThat(post.getLikeCount()).isEqualTo(1);
 
         verify(likeRepository).save(any());
-        verify(postRepository).save(post);
+        verify(likeCountBuffer).increment(post.getId());
+        verify(postRepository, never()).save(any());
     }
 
     @Test
@@ -74,8 +76,8 @@ class LikeServiceImplTest {
         likeService.unlikePost(user.getId(), post.getId());
 
         verify(likeRepository).delete(like);
-        assertThat(post.getLikeCount()).isEqualTo(0);
-        verify(postRepository).save(post);
+        verify(likeCountBuffer).decrement(post.getId());
+        verify(postRepository, never()).save(any());
     }
 
     @Test
@@ -86,4 +88,14 @@ class LikeServiceImplTest {
         long count = likeService.countLikes(post.getId());
         assertThat(count).isEqualTo(5L);
     }
+
+    @Test
+    void shouldOverlayPendingLikesOnStoredCount() {
+        post.setLikeCount(4);
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(likeCountBuffer.currentCount(post.getId(), 4)).thenReturn(6);
+
+        assertThat(likeService.getLikeCount(post.getId())).isEqualTo(6L);
+        verify(likeRepository, never()).countByPost(any());
+    }
 }
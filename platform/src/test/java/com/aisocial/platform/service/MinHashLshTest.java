@@ -0,0 +1,55 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MinHash LSH Tests")
+class MinHashLshTest {
+
+    private final MinHashLsh lsh = new MinHashLsh(128, 32, 42);
+
+    private static Set<Long> shingles(String text) {
+        return MinHashLsh.shingles(List.of(text.split(" ")));
+    }
+
+    @Test
+    @DisplayName("Should give identical sets identical signatures")
+    void shouldBeDeterministic() {
+        assertThat(lsh.signature(shingles("global temperatures rose sharply")))
+                .containsExactly(lsh.signature(shingles("global temperatures rose sharply")));
+    }
+
+    @Test
+    @DisplayName("Should return similar sets as candidates and leave dissimilar ones out")
+    void shouldBucketBySimilarity() {
+        long[] stored = lsh.signature(shingles("vaccines cause autism in young children says study"));
+        lsh.add(1, stored);
+        lsh.add(2, lsh.signature(shingles("stock markets closed higher on strong earnings reports")));
+
+        assertThat(lsh.candidates(lsh.signature(shingles("vaccines cause autism in children says study"))))
+                .containsExactly(1L);
+
+        lsh.remove(1, stored);
+        assertThat(lsh.candidates(stored)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should compute exact Jaccard similarity over shingles")
+    void shouldComputeJaccard() {
+        assertThat(MinHashLsh.jaccard(Set.of(1L, 2L, 3L), Set.of(2L, 3L, 4L))).isEqualTo(0.5);
+        assertThat(MinHashLsh.jaccard(Set.of(), Set.of())).isEqualTo(1.0);
+        assertThat(MinHashLsh.shingles(List.of("earth", "flat"))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should reject band counts that do not divide the signature")
+    void shouldValidateBands() {
+        assertThatThrownBy(() -> new MinHashLsh(100, 32, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.service.PostAssistantService.PostAssistantResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Post Assistant Service Tests")
+class PostAssistantServiceTest {
+
+    private static final String REPLY = """
+            {"suggestions": [
+              {"text": "First take", "tone": "Professional"},
+              {"text": "Second take", "tone": "Casual"}
+            ]}
+            """;
+
+    private StubChatModel model;
+    private PostAssistantService service;
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        model = new StubChatModel();
+        model.reply = prompt -> REPLY;
+        model.chunkSize = 5;
+        AiGateway gateway = new AiGateway(ChatClient.builder(model), 4, 4, 0, 8, 1, 32, 10_000, 5, 1000);
+        service = new PostAssistantService(gateway);
+        listener = new RecordingListener();
+    }
+
+    @Test
+    @DisplayName("Should forward tokens and emit each suggestion before the stream ends")
+    void shouldStreamSuggestions() {
+        PostAssistantResult result = service.streamGeneratePost("cats", listener);
+
+        assertThat(String.join("", listener.tokens)).isEqualTo(REPLY);
+        assertThat(listener.events).containsExactly("suggestion:First take", "suggestion:Second take");
+        // The first suggestion was emitted while tokens were still arriving
+        assertThat(listener.tokensAtFirstEvent).isLessThan(listener.tokens.size());
+        assertThat(result.getSuggestions()).extracting(PostAssistantResult.Suggestion::getText)
+                .containsExactly("First take", "Second take");
+    }
+
+    @Test
+    @DisplayName("Should stop reading the stream once the listener is cancelled")
+    void shouldStopWhenCancelled() {
+        listener.cancelAfterTokens = 2;
+
+        PostAssistantResult result = service.streamImprovePost("my post", null, listener);
+
+        assertThat(listener.tokens).hasSize(2);
+        assertThat(result.getError()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should return an error result without calling the model for blank input")
+    void shouldRejectBlankPrompt() {
+        PostAssistantResult result = service.streamGeneratePost(" ", listener);
+
+        assertThat(result.getError()).isEqualTo("No prompt provided");
+        assertThat(model.calls.get()).isZero();
+    }
+
+    private static class RecordingListener implements AiStreamListener {
+        final List<String> tokens = new ArrayList<>();
+        final List<String> events = new ArrayList<>();
+        int tokensAtFirstEvent = -1;
+        int cancelAfterTokens = Integer.MAX_VALUE;
+
+        @Override
+        public void onToken(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onEvent(String name, Object data) {
+            if (tokensAtFirstEvent < 0) {
+                tokensAtFirstEvent = tokens.size();
+            }
+            events.add(name + ":" + ((PostAssistantResult.Suggestion) data).getText());
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return tokens.size() >= cancelAfterTokens;
+        }
+    }
+}
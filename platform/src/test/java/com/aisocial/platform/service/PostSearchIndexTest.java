@@ -0,0 +1,173 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.Post;
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(PostSearchIndex.class)
+@DisplayName("Post Search Index Tests")
+class PostSearchIndexTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex.ensureSchema();
+        alice = entityManager.persistAndFlush(new User("alice", "Alice", "Bio"));
+        bob = entityManager.persistAndFlush(new User("bob", "Bob", "Bio"));
+    }
+
+    private Post persistPost(User author, String content) {
+        Post post = new Post(author, content);
+        post.setCreatedAt(Instant.now());
+        return entityManager.persistAndFlush(post);
+    }
+
+    private List<String> search(String text, String authorId) {
+        return postRepository.searchRanked(PostSearchIndex.toMatchQuery(text), authorId, null, null, null, null, 10)
+                .stream()
+                .map(row -> row[0].toString())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should find posts by word prefix through triggers")
+    void shouldFindByPrefix() {
+        Post climate = persistPost(alice, "Climate models agree on warming");
+        persistPost(bob, "Nothing to see here");
+
+        assertThat(search("clim", null)).containsExactly(climate.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should keep the author filter")
+    void shouldFilterByAuthor() {
+        persistPost(alice, "Vaccine trial results");
+        Post bobs = persistPost(bob, "Vaccine safety data");
+
+        assertThat(search("vaccine", bob.getId().toString())).containsExactly(bobs.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should drop deleted posts from the index")
+    void shouldRemoveDeletedPosts() {
+        Post post = persistPost(alice, "Ephemeral statement");
+        entityManager.remove(post);
+        entityManager.flush();
+
+        assertThat(search("ephemeral", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should re-index edited content")
+    void shouldReindexEdits() {
+        Post post = persistPost(alice, "Wind farms expand");
+        post.setContent("Geothermal plants expand");
+        entityManager.persistAndFlush(post);
+
+        assertThat(search("wind", null)).isEmpty();
+        assertThat(search("geothermal", null)).containsExactly(post.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should look up index rows by key, not by scanning")
+    void shouldNotScanOnDelete() {
+        List<String> plan = jdbcTemplate.query(
+                "EXPLAIN QUERY PLAN DELETE FROM posts_fts WHERE rowid = (SELECT rowid FROM posts_fts_map WHERE post_id = 'x')",
+                (rs, row) -> rs.getString("detail"));
+
+        // FTS5 plans every access as a virtual-table SCAN; "0:=" is its rowid lookup,
+        // where a bare "0:" would read the whole index
+        assertThat(plan).contains("SCAN posts_fts VIRTUAL TABLE INDEX 0:=")
+                .noneMatch(detail -> detail.startsWith("SCAN posts_fts_map"));
+    }
+
+    @Test
+    @DisplayName("Should rank the closer match first")
+    void shouldRankByRelevance() {
+        Post weak = persistPost(alice, "A long post that mentions energy once among many other unrelated words here");
+        Post strong = persistPost(bob, "Energy energy energy");
+
+        assertThat(search("energy", null)).containsExactly(strong.getId().toString(), weak.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should page through tied scores without skipping or repeating")
+    void shouldPageThroughTies() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.add(persistPost(i % 2 == 0 ? alice : bob, "Solar output report").getId().toString());
+        }
+
+        List<String> seen = new ArrayList<>();
+        Long afterScore = null;
+        String afterId = null;
+        List<Object[]> page;
+        while (!(page = postRepository.searchRanked(PostSearchIndex.toMatchQuery("solar"),
+                null, null, null, afterScore, afterId, 1)).isEmpty()) {
+            Object[] row = page.get(0);
+            seen.add(row[0].toString());
+            afterScore = ((Number) row[1]).longValue();
+            afterId = row[0].toString();
+        }
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(expected).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should replace a rowid-keyed index and re-index existing posts")
+    void shouldReplaceLegacyIndex() {
+        jdbcTemplate.execute("DROP TRIGGER posts_fts_insert");
+        jdbcTemplate.execute("DROP TRIGGER posts_fts_delete");
+        jdbcTemplate.execute("DROP TRIGGER posts_fts_update");
+        jdbcTemplate.execute("DROP TABLE posts_fts");
+        jdbcTemplate.execute("DROP TABLE posts_fts_map");
+        jdbcTemplate.execute("CREATE VIRTUAL TABLE posts_fts USING fts5(content, content = 'posts', content_rowid = 'rowid')");
+        Post post = persistPost(alice, "Tidal energy pilot");
+
+        assertThat(postSearchIndex.ensureSchema()).isTrue();
+        postSearchIndex.rebuild();
+
+        assertThat(search("tidal", null)).containsExactly(post.getId().toString());
+        assertThat(postSearchIndex.ensureSchema()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should neutralize query syntax in user input")
+    void shouldQuoteUserInput() {
+        assertThat(PostSearchIndex.toMatchQuery("NOT \"covid\" OR (5g)")).isEqualTo("\"NOT\"* \"covid\"* \"OR\"* \"5g\"*");
+        assertThat(PostSearchIndex.toMatchQuery("  ?! ")).isNull();
+    }
+}
@@ -1,7 +1,15 @@
 package com.aisocial.platform.service;
 
+import com.aisocial.platform.dto.CursorSliceDTO;
+import com.aisocial.platform.dto.FactCheckJobDTO;
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.aisocial.platform.dto.PostResponseDTO;
+import com.aisocial.platform.dto.PostSearchRequestDTO;
+import com.aisocial.platform.entity.FactCheckStatus;
 import com.aisocial.platform.entity.Post;
 import com.aisocial.platform.entity.User;
+import com.aisocial.platform.repository.FollowRepository;
+import com.aisocial.platform.repository.LikeRepository;
 import com.aisocial.platform.repository.PostRepository;
 import com.aisocial.platform.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +41,27 @@ class PostServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private TimelineService timelineService;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private DraftPrecheckStore draftPrecheckStore;
+
+    @Mock
+    private FactCheckJobService factCheckJobService;
+
+    @Mock
+    private TrustScoreService trustScoreService;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -63,6 +96,8 @@ class PostServiceImplTest {
             assertNotNull(result.getCreatedAt());
 
             verify(postRepository).save(any(Post.class));
+            verify(userRepository).adjustPostCount(author.getId(), 1);
+            verify(timelineService).fanOut(result);
         }
 
         @Test
@@ -75,6 +110,57 @@ class PostServiceImplTest {
                     () -> postService.createPost(author.getId(), "Content"));
 
             verify(postRepository, never()).save(any());
+            verify(timelineService, never()).fanOut(any());
+        }
+
+        @Test
+        @DisplayName("Should attach the draft pre-check verdict without a new check")
+        void shouldAttachPrecheckVerdict() {
+            String content = "Water boils at 100C at sea level";
+            FactCheckResultDTO precheck = new FactCheckResultDTO();
+            precheck.setVerdict("VERIFIED");
+            precheck.setConfidence(90);
+
+            when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
+            when(draftPrecheckStore.redeem("token", author.getId(), content)).thenReturn(Optional.of(precheck));
+            when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            PostResponseDTO result = postService.createPostWithFactCheckAndStyle(
+                    author.getId(), content, true, null, "token");
+
+            assertEquals(FactCheckStatus.VERIFIED, result.getFactCheckStatus());
+            assertEquals(0.9, result.getFactCheckScore());
+            assertSame(precheck, result.getFactCheckResult());
+            assertNull(result.getFactCheckJobId());
+            verifyNoInteractions(factCheckJobService);
+            verify(trustScoreService).updateOnFactCheck(author.getId(), FactCheckStatus.VERIFIED);
+        }
+
+        @Test
+        @DisplayName("Should publish as pending and check in the background without a token")
+        void shouldPublishPendingWithoutToken() {
+            String content = "The moon is made of cheese";
+            FactCheckJobDTO job = new FactCheckJobDTO();
+            job.setJobId(UUID.randomUUID());
+
+            when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
+            when(draftPrecheckStore.redeem(null, author.getId(), content)).thenReturn(Optional.empty());
+            when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
+                Post post = invocation.getArgument(0);
+                post.setId(UUID.randomUUID());
+                return post;
+            });
+            when(factCheckJobService.submitPrePublish(any(UUID.class), eq(content))).thenReturn(job);
+
+            PostResponseDTO result = postService.createPostWithFactCheckAndStyle(
+                    author.getId(), content, true, null, null);
+
+            assertEquals(FactCheckStatus.UNCHECKED, result.getFactCheckStatus());
+            assertTrue(result.getFactCheckPending());
+            assertNull(result.getFactCheckResult());
+            assertEquals(job.getJobId(), result.getFactCheckJobId());
+            verify(factCheckJobService).submitPrePublish(result.getId(), content);
+            verifyNoInteractions(trustScoreService);
         }
     }
 
@@ -166,7 +252,9 @@ class PostServiceImplTest {
             assertDoesNotThrow(() ->
                     postService.deletePost(author.getId(), post.getId()));
 
+            verify(timelineService).removePost(post);
             verify(postRepository).delete(post);
+            verify(userRepository).adjustPostCount(author.getId(), -1);
         }
 
         @Test
@@ -186,4 +274,47 @@ class PostServiceImplTest {
                     () -> postService.deletePost(author.getId(), post.getId()));
         }
     }
+
+    @Nested
+    @DisplayName("Viewer State Tests")
+    class ViewerStateTests {
+
+        @Test
+        @DisplayName("Should hydrate a page of posts with one query per viewer flag")
+        void shouldBatchViewerState() {
+            UUID viewerId = UUID.randomUUID();
+            List<Post> posts = List.of(newPost("One"), newPost("Two"), newPost("Three"));
+
+            when(postRepository.findPageFiltered(any(), any(), any(), any(), any(), any()))
+                    .thenReturn(new SliceImpl<>(posts, PageRequest.of(0, 20), false));
+            when(likeRepository.findLikedAmong(eq(viewerId), anyCollection()))
+                    .thenReturn(List.of(posts.get(1).getId()));
+            when(postRepository.findRepostedAmong(eq(viewerId), anyCollection()))
+                    .thenReturn(List.of());
+            when(followRepository.findFollowedAmong(eq(viewerId), anyCollection()))
+                    .thenReturn(List.of(author.getId()));
+
+            PostSearchRequestDTO request = new PostSearchRequestDTO();
+            request.setViewerId(viewerId);
+            CursorSliceDTO<PostResponseDTO> result = postService.searchPosts(request);
+
+            assertEquals(3, result.getContent().size());
+            assertFalse(result.isHasNext());
+            assertTrue(result.getContent().get(1).getIsLikedByCurrentUser());
+            assertFalse(result.getContent().get(0).getIsLikedByCurrentUser());
+            assertTrue(result.getContent().stream().allMatch(dto -> dto.getAuthor().getIsFollowing()));
+
+            verify(likeRepository, times(1)).findLikedAmong(eq(viewerId), anyCollection());
+            verify(followRepository, times(1)).findFollowedAmong(eq(viewerId), anyCollection());
+            verify(likeRepository, never()).existsByUser_IdAndPost_Id(any(), any());
+            verify(followRepository, never()).existsByFollower_IdAndFollowing_Id(any(), any());
+        }
+
+        private Post newPost(String content) {
+            Post post = new Post(author, content);
+            post.setId(UUID.randomUUID());
+            post.setCreatedAt(Instant.now());
+            return post;
+        }
+    }
 }
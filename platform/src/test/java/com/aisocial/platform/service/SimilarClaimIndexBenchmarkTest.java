@@ -0,0 +1,134 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hit rate of near-duplicate reuse on the posts in seed-data.sql: every
+ * fact-checked post is indexed, then queried back through paraphrases, and
+ * the posts that were never checked are queried to see how often they
+ * wrongly pick up someone else's verdict.
+ */
+@DisplayName("Similar Claim Index Benchmark")
+class SimilarClaimIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarClaimIndexBenchmarkTest.class);
+
+    // (id, author_id, 'content', reply_to_id, repost_of_id, style, 'STATUS', ...
+    private static final Pattern POST_ROW = Pattern.compile(
+            "\\(\\s*'[0-9a-f-]{36}',\\s*'[0-9a-f-]{36}',\\s*'((?:[^']|'')*)',"
+                    + "\\s*(?:NULL|'[^']*'),\\s*(?:NULL|'[^']*'),\\s*(?:NULL|'[^']*'),\\s*'([A-Z_]+)'");
+    private static final Set<String> SETTLED = Set.of("VERIFIED", "FALSE", "LIKELY_TRUE");
+
+    private static final Map<String, UnaryOperator<String>> PARAPHRASES = new LinkedHashMap<>();
+
+    static {
+        PARAPHRASES.put("case and punctuation", text -> text.toLowerCase().replaceAll("[.,!?;:]+(\\s|$)", "$1"));
+        PARAPHRASES.put("filler words", text -> "Actually, " + text + " Really!");
+        PARAPHRASES.put("dropped word", text -> dropWord(text, 2));
+        PARAPHRASES.put("swapped words", text -> swapWords(text, 1));
+    }
+
+    @Test
+    @DisplayName("Should reuse verdicts for paraphrased seed posts and rarely for unrelated ones")
+    void reportHitRateOnSeedData() throws IOException {
+        SimilarClaimIndex index = new SimilarClaimIndex(Mockito.mock(JdbcTemplate.class), new ObjectMapper(),
+                true, 0.7, 20_000, 2, 128, 32, List.copyOf(SETTLED));
+
+        List<String[]> posts = seedPosts();
+        List<String> checked = new ArrayList<>();
+        List<String> unchecked = new ArrayList<>();
+        for (String[] post : posts) {
+            if (SETTLED.contains(post[1])) {
+                FactCheckResultDTO result = new FactCheckResultDTO();
+                result.setVerdict(post[1]);
+                index.add(post[0], result);
+                checked.add(post[0]);
+            } else {
+                unchecked.add(post[0]);
+            }
+        }
+        assertThat(checked).isNotEmpty();
+
+        int queries = 0;
+        int reused = 0;
+        for (Map.Entry<String, UnaryOperator<String>> paraphrase : PARAPHRASES.entrySet()) {
+            int hits = 0;
+            for (String claim : checked) {
+                if (index.find(paraphrase.getValue().apply(claim)).isPresent()) {
+                    hits++;
+                }
+            }
+            log.info("Seed benchmark - {}: {}/{} reused", paraphrase.getKey(), hits, checked.size());
+            queries += checked.size();
+            reused += hits;
+        }
+        int falseReuse = 0;
+        for (String claim : unchecked) {
+            if (index.find(claim).isPresent()) {
+                falseReuse++;
+            }
+        }
+
+        double hitRate = (double) reused / queries;
+        double falseRate = unchecked.isEmpty() ? 0.0 : (double) falseReuse / unchecked.size();
+        log.info("Seed benchmark - {} indexed posts, paraphrase hit rate {}, unrelated reuse rate {} ({}/{})",
+                checked.size(), String.format("%.3f", hitRate), String.format("%.3f", falseRate),
+                falseReuse, unchecked.size());
+
+        assertThat(hitRate).isGreaterThanOrEqualTo(0.9);
+        assertThat(falseRate).isLessThanOrEqualTo(0.05);
+    }
+
+    private static List<String[]> seedPosts() throws IOException {
+        String sql;
+        try (InputStream in = SimilarClaimIndexBenchmarkTest.class.getResourceAsStream("/seed-data.sql")) {
+            assertThat(in).as("seed-data.sql on the classpath").isNotNull();
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String[]> posts = new ArrayList<>();
+        Matcher matcher = POST_ROW.matcher(sql);
+        while (matcher.find()) {
+            posts.add(new String[] {matcher.group(1).replace("''", "'"), matcher.group(2)});
+        }
+        return posts;
+    }
+
+    private static String dropWord(String text, int position) {
+        List<String> words = new ArrayList<>(List.of(text.split("\\s+")));
+        if (words.size() > position + 2) {
+            words.remove(position);
+        }
+        return String.join(" ", words);
+    }
+
+    private static String swapWords(String text, int position) {
+        List<String> words = new ArrayList<>(List.of(text.split("\\s+")));
+        if (words.size() > position + 2) {
+            String word = words.get(position);
+            words.set(position, words.get(position + 1));
+            words.set(position + 1, word);
+        }
+        return String.join(" ", words);
+    }
+}
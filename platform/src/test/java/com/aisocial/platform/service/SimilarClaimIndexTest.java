@@ -0,0 +1,159 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.dto.FactCheckResultDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Similar Claim Index Tests")
+class SimilarClaimIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimilarClaimIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = index(100);
+    }
+
+    private SimilarClaimIndex index(int maxEntries) {
+        return new SimilarClaimIndex(jdbcTemplate, new ObjectMapper(), true, 0.7, maxEntries, 2, 128, 32,
+                List.of("VERIFIED", "FALSE", "LIKELY_TRUE"));
+    }
+
+    private static FactCheckResultDTO verdict(String verdict) {
+        FactCheckResultDTO result = new FactCheckResultDTO();
+        result.setVerdict(verdict);
+        result.setConfidence(95);
+        result.setSummary(verdict + " summary");
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should reuse the verdict of a paraphrased claim and flag it")
+    void shouldReuseParaphrase() {
+        index.add("The earth is flat", verdict("FALSE"));
+
+        Optional<FactCheckResultDTO> found = index.find("earth is actually flat!");
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getVerdict()).isEqualTo("FALSE");
+        assertThat(found.get().getReused()).isTrue();
+        assertThat(found.get().getReusedSimilarity()).isGreaterThanOrEqualTo(0.7);
+        assertThat(index.stats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should match longer claims that differ by a word or two")
+    void shouldMatchLongerParaphrase() {
+        index.add("Global temperatures rose 1.1C since pre-industrial levels according to new data",
+                verdict("VERIFIED"));
+
+        assertThat(index.find("global temperatures have rose 1.1C since pre-industrial levels according to the new data"))
+                .isPresent();
+        assertThat(index.find("Stock markets crashed since pre-industrial levels")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not reuse a verdict across a negation or a changed figure")
+    void shouldRespectNegationsAndNumbers() {
+        index.add("The earth is flat", verdict("FALSE"));
+        index.add("Global temperatures rose 1.1C since pre-industrial levels", verdict("VERIFIED"));
+
+        assertThat(index.find("The earth is not flat")).isEmpty();
+        assertThat(index.find("The earth isn't flat")).isEmpty();
+        assertThat(index.find("Global temperatures rose 2C since pre-industrial levels")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only index settled verdicts from fresh model answers")
+    void shouldSkipUnsettledVerdicts() {
+        index.add("Coffee cures cancer in most adults", verdict("DISPUTED"));
+        index.add("Coffee prevents cancer in most adults", FactCheckResultDTO.error("boom"));
+        FactCheckResultDTO reused = verdict("FALSE");
+        reused.setReused(true);
+        index.add("Coffee causes cancer in most adults", reused);
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest claims beyond the capacity")
+    void shouldEvictOldest() {
+        SimilarClaimIndex small = index(2);
+        small.add("Vaccines cause autism in children", verdict("FALSE"));
+        small.add("Water boils at 100 degrees celsius at sea level", verdict("VERIFIED"));
+        small.add("The great wall of china is visible from space", verdict("FALSE"));
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.find("vaccines cause autism in children")).isEmpty();
+        assertThat(small.find("the great wall of china is visible from space!")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should replace the verdict when the same claim is indexed again")
+    void shouldReplaceSameClaim() {
+        index.add("The moon landing was faked", verdict("FALSE"));
+        index.add("the moon landing was FAKED.", verdict("VERIFIED"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find("The moon landing was faked").get().getVerdict()).isEqualTo("VERIFIED");
+    }
+
+    @Test
+    @DisplayName("Should load a stored verdict without a score as having no confidence")
+    void shouldKeepMissingScoreNull() throws Exception {
+        // Like JDBC, wasNull() answers for the column read last: only the score is NULL
+        AtomicBoolean lastWasNull = new AtomicBoolean();
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString(anyInt())).thenAnswer(invocation -> {
+            lastWasNull.set(false);
+            return switch (invocation.getArgument(0, Integer.class)) {
+                case 1 -> "The moon is made of cheese";
+                case 2 -> "FALSE";
+                default -> "{\"summary\": \"No\"}";
+            };
+        });
+        when(row.getDouble(3)).thenAnswer(invocation -> {
+            lastWasNull.set(true);
+            return 0.0;
+        });
+        when(row.wasNull()).thenAnswer(invocation -> lastWasNull.get());
+        // The post's current verdict; the fact_checks history is empty
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0, String.class).startsWith("SELECT content")) {
+                invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        assertThat(index.loadFromStore()).isEqualTo(1);
+
+        FactCheckResultDTO found = index.find("the moon is made of cheese").orElseThrow();
+        assertThat(found.getVerdict()).isEqualTo("FALSE");
+        assertThat(found.getConfidence()).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should run concurrent calls for one key once")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<Integer> leader = pool.submit(() -> flights.execute("post:1", () -> {
+                runs.incrementAndGet();
+                entered.countDown();
+                await(release);
+                return 42;
+            }));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CountDownLatch followersStarted = new CountDownLatch(7);
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(pool.submit(() -> {
+                    followersStarted.countDown();
+                    return flights.execute("post:1", runs::incrementAndGet);
+                }));
+            }
+            assertThat(followersStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(50);
+            assertThat(followers).noneMatch(Future::isDone);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            for (Future<Integer> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+            assertThat(runs.get()).isEqualTo(1);
+            assertThat(flights.isInFlight("post:1")).isFalse();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run again once the previous call has finished")
+    void shouldNotCacheResults() {
+        AtomicInteger runs = new AtomicInteger();
+
+        flights.execute("k", runs::incrementAndGet);
+        flights.execute("k", runs::incrementAndGet);
+
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should propagate failures and release the key")
+    void shouldPropagateFailure() {
+        assertThatThrownBy(() -> flights.execute("k", () -> {
+            throw new IllegalArgumentException("Post not found");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(flights.isInFlight("k")).isFalse();
+        assertThat(flights.execute("k", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.aisocial.platform.service;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Local ChatModel for tests: replies with a fixed or computed text after an
+ * injected latency, can be made to fail, and can hold calls on a latch.
+ * Streamed replies are split into chunks of {@code chunkSize} characters.
+ * Calls that name a model in their options are recorded in {@code models}
+ * and answered by {@code replyByModel} when it has an entry for that model,
+ * so one stub can stand in for several model tiers.
+ */
+class StubChatModel implements ChatModel {
+
+    final AtomicInteger calls = new AtomicInteger();
+    volatile Duration latency = Duration.ZERO;
+    volatile RuntimeException failure;
+    volatile CountDownLatch gate;
+    volatile Function<String, String> reply = prompt -> "ok";
+    volatile int chunkSize = 8;
+    final List<String> models = new CopyOnWriteArrayList<>();
+    final Map<String, Function<String, String>> replyByModel = new ConcurrentHashMap<>();
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        calls.incrementAndGet();
+        try {
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                currentGate.await(5, TimeUnit.SECONDS);
+            }
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        String model = prompt.getOptions() != null ? prompt.getOptions().getModel() : null;
+        models.add(model != null ? model : "default");
+        Function<String, String> answer = model != null ? replyByModel.getOrDefault(model, reply) : reply;
+        String text = answer.apply(prompt.getContents());
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        String text = call(prompt).getResult().getOutput().getText();
+        List<ChatResponse> chunks = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += chunkSize) {
+            String chunk = text.substring(i, Math.min(text.length(), i + chunkSize));
+            chunks.add(new ChatResponse(List.of(new Generation(new AssistantMessage(chunk)))));
+        }
+        return Flux.fromIterable(chunks);
+    }
+}
@@ -0,0 +1,168 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.Post;
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.repository.FollowRepository;
+import com.aisocial.platform.repository.PostRepository;
+import com.aisocial.platform.repository.TimelineEntryRepository;
+import com.aisocial.platform.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    @Mock
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RecentPostCache recentPostCache;
+
+    @InjectMocks
+    private TimelineService timelineService;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timelineService, "highFollowerThreshold", 3L);
+
+        author = new User();
+        author.setId(UUID.randomUUID());
+
+        post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setAuthor(author);
+    }
+
+    @Test
+    @DisplayName("Should fan out posts of authors below the follower threshold")
+    void shouldFanOutBelowThreshold() {
+        when(userRepository.findFollowerCountById(author.getId())).thenReturn(Optional.of(2L));
+        when(timelineEntryRepository.fanOutToFollowers(post.getId())).thenReturn(2);
+
+        assertThat(timelineService.fanOut(post)).isEqualTo(2);
+        verify(recentPostCache, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("Should trim the followers of fanned-out authors once, retrying a failed pass")
+    void shouldTrimAfterFanOut() {
+        when(userRepository.findFollowerCountById(author.getId())).thenReturn(Optional.of(2L));
+        when(timelineEntryRepository.fanOutToFollowers(post.getId())).thenReturn(2);
+        when(timelineEntryRepository.trimFollowersOf(List.of(author.getId()), timelineService.getMaxEntries()))
+                .thenThrow(new DataAccessResourceFailureException("database is locked"))
+                .thenReturn(1);
+        timelineService.fanOut(post);
+
+        assertThat(timelineService.trimPending()).isZero();
+        assertThat(timelineService.trimPending()).isEqualTo(1);
+        assertThat(timelineService.trimPending()).isZero();
+        verify(timelineEntryRepository, times(2)).trimFollowersOf(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should keep posts of high-follower authors for read-time merge")
+    void shouldNotFanOutAboveThreshold() {
+        when(userRepository.findFollowerCountById(author.getId())).thenReturn(Optional.of(3L));
+
+        assertThat(timelineService.fanOut(post)).isZero();
+        verify(timelineEntryRepository, never()).fanOutToFollowers(any());
+        verify(recentPostCache).add(post);
+    }
+
+    @Test
+    @DisplayName("Should not backfill a follower from a pull-mode author")
+    void shouldSkipBackfillForPullAuthor() {
+        when(userRepository.findFollowerCountById(author.getId())).thenReturn(Optional.of(5L));
+
+        timelineService.onFollow(UUID.randomUUID(), author.getId());
+
+        verify(timelineEntryRepository, never()).backfillFromAuthor(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should switch back to fan-out when an author drops below the threshold")
+    void shouldDemoteAuthorBelowThreshold() {
+        when(followRepository.findUserIdsWithFollowersAtLeast(3L)).thenReturn(List.of(author.getId()));
+        timelineService.refreshPullAuthors();
+        when(userRepository.findFollowerCountById(author.getId())).thenReturn(Optional.of(2L));
+
+        timelineService.onUnfollow(UUID.randomUUID(), author.getId());
+
+        verify(recentPostCache).evict(author.getId());
+        verify(timelineEntryRepository).backfillFollowersOfAuthor(author.getId(), timelineService.getMaxEntries());
+    }
+
+    @Test
+    @DisplayName("Should merge sources newest first without duplicates")
+    void shouldMergeNewestFirst() {
+        Instant now = Instant.now();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+
+        List<RecentPostCache.Entry> pushed = List.of(
+                new RecentPostCache.Entry(a, now),
+                new RecentPostCache.Entry(c, now.minusSeconds(20)));
+        List<RecentPostCache.Entry> pulled = List.of(
+                new RecentPostCache.Entry(b, now.minusSeconds(10)),
+                new RecentPostCache.Entry(c, now.minusSeconds(20)),
+                new RecentPostCache.Entry(d, now.minusSeconds(30)));
+
+        assertThat(TimelineService.mergeNewestFirst(List.of(pushed, pulled), 10)).containsExactly(a, b, c, d);
+        assertThat(TimelineService.mergeNewestFirst(List.of(pushed, pulled), 2)).containsExactly(a, b);
+    }
+
+    @Test
+    @DisplayName("Should continue a timeline after the cursor position")
+    void shouldReadTimelineAfterCursor() {
+        Instant now = Instant.now();
+        PostCursor cursor = PostCursor.of(now, UUID.randomUUID());
+        when(timelineEntryRepository.findLatestByOwnerBefore(any(), any(), any(), any())).thenReturn(List.of());
+
+        assertThat(timelineService.readTimeline(UUID.randomUUID(), cursor, 20)).isEmpty();
+        verify(timelineEntryRepository).findLatestByOwnerBefore(any(), any(), any(), any());
+        verify(timelineEntryRepository, never()).findLatestByOwner(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should round-trip an opaque cursor")
+    void shouldRoundTripCursor() {
+        PostCursor cursor = PostCursor.of(Instant.ofEpochMilli(1717243200123L), UUID.randomUUID());
+
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(decoded.getId()).isEqualTo(cursor.getId());
+        assertThat(PostCursor.decode(null)).isNull();
+    }
+}
@@ -0,0 +1,97 @@
+package com.aisocial.platform.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Timing Wheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Should expire an item on the first tick at or after its deadline")
+    void shouldExpireAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 3, START);
+        wheel.add("a", START + 25);
+
+        assertThat(wheel.advanceTo(START + 25)).isEmpty();
+        assertThat(wheel.advanceTo(START + 30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse deadlines that have already passed")
+    void shouldRefusePastDeadlines() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 3, START);
+
+        assertThat(wheel.add("late", START - 1)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade far deadlines down through the levels")
+    void shouldCascadeFromUpperLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 3, START);
+        // Level 0 spans 80ms, level 1 640ms, level 2 5120ms
+        wheel.add("level1", START + 500);
+        wheel.add("level2", START + 4_000);
+
+        assertThat(wheel.advanceTo(START + 499)).isEmpty();
+        assertThat(wheel.advanceTo(START + 510)).containsExactly("level1");
+        assertThat(wheel.advanceTo(START + 3_999)).isEmpty();
+        assertThat(wheel.advanceTo(START + 4_010)).containsExactly("level2");
+    }
+
+    @Test
+    @DisplayName("Should hold deadlines beyond the top level in overflow")
+    void shouldOverflowBeyondTopLevel() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 2, START);
+        // Top level spans 160ms
+        wheel.add("far", START + 1_000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(START + 999)).isEmpty();
+        assertThat(wheel.advanceTo(START + 1_010)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should expire random deadlines within one tick, each exactly once")
+    void shouldMatchSortedDeadlines() {
+        long tick = 10;
+        TimingWheel<Integer> wheel = new TimingWheel<>(tick, 16, 3, START);
+        Random random = new Random(7);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = START + random.nextInt(200_000);
+            deadlines.put(i, deadline);
+            wheel.add(i, deadline);
+        }
+
+        List<Integer> expired = new ArrayList<>();
+        for (long now = START; now <= START + 201_000; now += 1 + random.nextInt(700)) {
+            for (Integer item : wheel.advanceTo(now)) {
+                assertThat(deadlines.get(item)).isLessThanOrEqualTo(now).isGreaterThan(now - tick - 700);
+                expired.add(item);
+            }
+        }
+
+        assertThat(expired).hasSize(2_000).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a wheel without slots")
+    void shouldRejectBadShape() {
+        assertThatThrownBy(() -> new TimingWheel<>(10, 1, 3, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
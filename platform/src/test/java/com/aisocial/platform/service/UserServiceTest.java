@@ -41,6 +41,12 @@ class UserServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private TimelineService timelineService;
+
+    @Mock
+    private UserTypeaheadIndex typeaheadIndex;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -76,9 +82,8 @@ class UserServiceTest {
         @DisplayName("Should return all users with enriched data")
         void shouldReturnAllUsersWithEnrichedData() {
             when(userRepository.findAll()).thenReturn(Arrays.asList(testUser1, testUser2));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(10L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(5L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
+            testUser1.setFollowerCount(10L);
+            testUser1.setFollowingCount(5L);
 
             List<UserDTO> users = userService.getAllUsers();
 
@@ -106,9 +111,6 @@ class UserServiceTest {
             testUser1.setPostsFalse(2);
             
             when(userRepository.findAll()).thenReturn(List.of(testUser1));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
 
             List<UserDTO> users = userService.getAllUsers();
 
@@ -132,9 +134,8 @@ class UserServiceTest {
         @DisplayName("Should return user by ID with enriched data")
         void shouldReturnUserByIdWithEnrichedData() {
             when(userRepository.findById(testUser1.getId())).thenReturn(Optional.of(testUser1));
-            when(followRepository.countByFollowing_Id(testUser1.getId())).thenReturn(100L);
-            when(followRepository.countByFollower_Id(testUser1.getId())).thenReturn(50L);
-            when(postRepository.countByAuthor(testUser1)).thenReturn(0L);
+            testUser1.setFollowerCount(100L);
+            testUser1.setFollowingCount(50L);
 
             Optional<UserDTO> result = userService.getUserById(testUser1.getId());
 
@@ -158,9 +159,6 @@ class UserServiceTest {
         @DisplayName("Should include isFollowing flag when viewer specified")
         void shouldIncludeIsFollowingFlagWhenViewerSpecified() {
             when(userRepository.findById(testUser2.getId())).thenReturn(Optional.of(testUser2));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
             when(followRepository.existsByFollower_IdAndFollowing_Id(testUser1.getId(), testUser2.getId()))
                     .thenReturn(true);
 
@@ -174,9 +172,6 @@ class UserServiceTest {
         @DisplayName("Should return isFollowing false when viewer is same as user")
         void shouldReturnIsFollowingFalseWhenViewerIsSameAsUser() {
             when(userRepository.findById(testUser1.getId())).thenReturn(Optional.of(testUser1));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
 
             Optional<UserDTO> result = userService.getUserById(testUser1.getId(), testUser1.getId());
 
@@ -188,9 +183,6 @@ class UserServiceTest {
         @DisplayName("Should return isFollowing false when not following")
         void shouldReturnIsFollowingFalseWhenNotFollowing() {
             when(userRepository.findById(testUser2.getId())).thenReturn(Optional.of(testUser2));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
             when(followRepository.existsByFollower_IdAndFollowing_Id(testUser1.getId(), testUser2.getId()))
                     .thenReturn(false);
 
@@ -209,9 +201,6 @@ class UserServiceTest {
         @DisplayName("Should return user by username")
         void shouldReturnUserByUsername() {
             when(userRepository.findByUsername("user1")).thenReturn(Optional.of(testUser1));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
 
             Optional<UserDTO> result = userService.getUserByUsername("user1");
 
@@ -233,9 +222,6 @@ class UserServiceTest {
         @DisplayName("Should include isFollowing flag when viewer specified")
         void shouldIncludeIsFollowingFlagWhenViewerSpecified() {
             when(userRepository.findByUsername("user2")).thenReturn(Optional.of(testUser2));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
             when(followRepository.existsByFollower_IdAndFollowing_Id(testUser1.getId(), testUser2.getId()))
                     .thenReturn(true);
 
@@ -262,6 +248,9 @@ class UserServiceTest {
             assertDoesNotThrow(() -> userService.followUser(testUser1.getId(), testUser2.getId()));
 
             verify(followRepository).save(any(Follow.class));
+            verify(userRepository).adjustFollowingCount(testUser1.getId(), 1);
+            verify(userRepository).adjustFollowerCount(testUser2.getId(), 1);
+            verify(timelineService).onFollow(testUser1.getId(), testUser2.getId());
         }
 
         @Test
@@ -329,6 +318,9 @@ class UserServiceTest {
             assertDoesNotThrow(() -> userService.unfollowUser(testUser1.getId(), testUser2.getId()));
 
             verify(followRepository).deleteByFollower_IdAndFollowing_Id(testUser1.getId(), testUser2.getId());
+            verify(userRepository).adjustFollowingCount(testUser1.getId(), -1);
+            verify(userRepository).adjustFollowerCount(testUser2.getId(), -1);
+            verify(timelineService).onUnfollow(testUser1.getId(), testUser2.getId());
         }
 
         @Test
@@ -354,9 +346,8 @@ class UserServiceTest {
         void shouldReturnFollowersWithEnrichedData() {
             when(followRepository.findFollowersByUserId(testUser1.getId()))
                     .thenReturn(Arrays.asList(testUser2, testUser3));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(5L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(3L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
+            testUser2.setFollowerCount(5L);
+            testUser2.setFollowingCount(3L);
 
             List<UserDTO> followers = userService.getFollowers(testUser1.getId());
 
@@ -388,9 +379,6 @@ class UserServiceTest {
         void shouldReturnFollowingUsersWithEnrichedData() {
             when(followRepository.findFollowingByUserId(testUser1.getId()))
                     .thenReturn(Arrays.asList(testUser2, testUser3));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(10L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(8L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
 
             List<UserDTO> following = userService.getFollowing(testUser1.getId());
 
@@ -502,9 +490,8 @@ class UserServiceTest {
             testUser1.setTrustScore(new BigDecimal("100.00"));
 
             when(userRepository.findById(testUser1.getId())).thenReturn(Optional.of(testUser1));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(1_000_000L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(500_000L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
+            testUser1.setFollowerCount(1_000_000L);
+            testUser1.setFollowingCount(500_000L);
 
             Optional<UserDTO> result = userService.getUserById(testUser1.getId());
 
@@ -526,9 +513,6 @@ class UserServiceTest {
             newUser.setDebatesLost(0);
 
             when(userRepository.findById(newUser.getId())).thenReturn(Optional.of(newUser));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
 
             Optional<UserDTO> result = userService.getUserById(newUser.getId());
 
@@ -549,9 +533,6 @@ class UserServiceTest {
             minimalUser.setBio(null);
 
             when(userRepository.findById(minimalUser.getId())).thenReturn(Optional.of(minimalUser));
-            when(followRepository.countByFollowing_Id(any())).thenReturn(0L);
-            when(followRepository.countByFollower_Id(any())).thenReturn(0L);
-            when(postRepository.countByAuthor(any())).thenReturn(0L);
 
             Optional<UserDTO> result = userService.getUserById(minimalUser.getId());
 
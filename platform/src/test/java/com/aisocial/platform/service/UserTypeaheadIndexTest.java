@@ -0,0 +1,132 @@
+package com.aisocial.platform.service;
+
+import com.aisocial.platform.entity.User;
+import com.aisocial.platform.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Typeahead Index Tests")
+class UserTypeaheadIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserTypeaheadIndex index;
+
+    private User scientist;
+    private User journalist;
+    private User skeptic;
+
+    @BeforeEach
+    void setUp() {
+        scientist = user("scientist", "Dr. Sarah Chen", "92.00");
+        journalist = user("journalist", "Mike Thompson", "78.00");
+        skeptic = user("sciencefan", "Sam Skeptic", "95.00");
+
+        when(userRepository.findAll()).thenReturn(List.of(scientist, journalist, skeptic));
+        index = new UserTypeaheadIndex(userRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should match username prefixes ranked by trust score")
+    void shouldMatchPrefixByTrustScore() {
+        assertThat(usernames(index.search("sci", 10))).containsExactly("sciencefan", "scientist");
+    }
+
+    @Test
+    @DisplayName("Should match any word of the display name, ignoring case and @")
+    void shouldMatchDisplayNameWords() {
+        assertThat(usernames(index.search("@THOMP", 10))).containsExactly("journalist");
+        assertThat(usernames(index.search("sarah", 10))).containsExactly("scientist");
+    }
+
+    @Test
+    @DisplayName("Should rank infix matches after prefix matches")
+    void shouldRankInfixAfterPrefix() {
+        User nameless = user("ournal", null, "10.00");
+        index.upsert(nameless);
+
+        assertThat(usernames(index.search("ournal", 10))).containsExactly("ournal", "journalist");
+    }
+
+    @Test
+    @DisplayName("Should only use prefixes for queries shorter than a trigram")
+    void shouldNotInfixShortQueries() {
+        assertThat(index.search("ie", 10)).isEmpty();
+        assertThat(usernames(index.search("ientis", 10))).containsExactly("scientist");
+    }
+
+    @Test
+    @DisplayName("Should honour the limit")
+    void shouldHonourLimit() {
+        assertThat(usernames(index.search("s", 1))).containsExactly("sciencefan");
+        assertThat(index.search("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should re-index renamed users and updated trust scores")
+    void shouldReindexOnUpsert() {
+        journalist.setDisplayName("Michael Reporter");
+        journalist.setTrustScore(new BigDecimal("99.00"));
+        index.upsert(journalist);
+
+        assertThat(index.search("thompson", 10)).isEmpty();
+        assertThat(index.search("reporter", 10))
+                .singleElement()
+                .satisfies(e -> assertThat(e.getTrustScore()).isEqualByComparingTo("99.00"));
+        assertThat(index.size()).isEqualTo(3);
+        verify(userRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should apply an upsert only when its transaction commits")
+    void shouldUpsertAfterCommit() {
+        journalist.setDisplayName("Michael Reporter");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.upsertAfterCommit(journalist);
+            assertThat(index.search("reporter", 10)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(usernames(index.search("reporter", 10))).containsExactly("journalist");
+    }
+
+    @Test
+    @DisplayName("Should drop removed users")
+    void shouldRemoveUsers() {
+        index.remove(scientist.getId());
+
+        assertThat(usernames(index.search("sci", 10))).containsExactly("sciencefan");
+        assertThat(index.search("chen", 10)).isEmpty();
+    }
+
+    private static User user(String username, String displayName, String trustScore) {
+        User user = new User(username, displayName, null);
+        user.setId(UUID.randomUUID());
+        user.setTrustScore(new BigDecimal(trustScore));
+        return user;
+    }
+
+    private static List<String> usernames(List<UserTypeaheadIndex.Entry> entries) {
+        return entries.stream().map(UserTypeaheadIndex.Entry::getUsername).toList();
+    }
+}